@@ -0,0 +1,156 @@
+// Load scenario for the timetracker-backend REST API.
+// Tokens and data come from LoadTestTokens and SyntheticDataGenerator (see ../README.md).
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import { SharedArray } from 'k6/data';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.2/index.js';
+
+// Context path /api plus the controllers' /api prefix
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/api';
+const TOKENS_FILE = __ENV.TOKENS_FILE || '../../target/loadtest/tokens.json';
+const LAST_DAY = new Date(__ENV.LAST_DAY || '2024-12-31');
+const DAYS = parseInt(__ENV.DAYS || '365', 10);
+const DURATION = __ENV.DURATION || '5m';
+const RATE = parseFloat(__ENV.RATE || '1');
+const INGEST_BATCH = parseInt(__ENV.INGEST_BATCH || '500', 10);
+
+const tokens = (role) => new SharedArray(role, () => JSON.parse(open(TOKENS_FILE))[role]);
+const employees = tokens('EMPLOYEE');
+const managers = tokens('MANAGER');
+
+const ENDPOINTS = [
+    'GET /time-entries/my',
+    'GET /time-entries/my/summary',
+    'GET /vacation-requests/my',
+    'POST /time-entries',
+    'GET /time-entries',
+    'GET /time-entries/keyset',
+    'GET /time-entries/reports/daily',
+    'GET /time-entries/reports/weekly',
+    'GET /vacation-requests/pending',
+    'GET /vacation-requests/calendar',
+    'GET /vacation-requests/keyset',
+    'POST /time-entries/bulk/ingest',
+];
+
+const ingestedRows = new Counter('ingested_rows');
+
+const thresholds = { http_req_failed: ['rate<0.01'] };
+for (const endpoint of ENDPOINTS) {
+    // A threshold per tag makes k6 report each endpoint's latency and throughput separately
+    thresholds[`http_req_duration{endpoint:${endpoint}}`] = ['p(95)<2000'];
+    thresholds[`http_reqs{endpoint:${endpoint}}`] = ['count>=0'];
+}
+
+const rate = (perSecond) => Math.max(1, Math.round(perSecond * RATE));
+
+export const options = {
+    summaryTrendStats: ['avg', 'min', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    thresholds,
+    scenarios: {
+        employee_reads: {
+            executor: 'constant-arrival-rate', exec: 'employeeReads',
+            rate: rate(50), timeUnit: '1s', duration: DURATION, preAllocatedVUs: 50, maxVUs: 400,
+        },
+        employee_writes: {
+            executor: 'constant-arrival-rate', exec: 'employeeWrites',
+            rate: rate(10), timeUnit: '1s', duration: DURATION, preAllocatedVUs: 10, maxVUs: 100,
+        },
+        manager_reads: {
+            executor: 'constant-arrival-rate', exec: 'managerReads',
+            rate: rate(10), timeUnit: '1s', duration: DURATION, preAllocatedVUs: 20, maxVUs: 200,
+        },
+        bulk_ingest: {
+            executor: 'constant-arrival-rate', exec: 'bulkIngest',
+            rate: rate(1), timeUnit: '1s', duration: DURATION, preAllocatedVUs: 2, maxVUs: 20,
+        },
+    },
+};
+
+const pick = (list) => list[Math.floor(Math.random() * list.length)];
+const isoDate = (date) => date.toISOString().slice(0, 10);
+const randomDay = () => new Date(LAST_DAY.getTime() - Math.floor(Math.random() * DAYS) * 86400000);
+const plusDays = (date, days) => new Date(date.getTime() + days * 86400000);
+
+function request(method, path, principal, body) {
+    const endpoint = `${method} ${path.split('?')[0].replace(/\/\d+(?=\/|$)/g, '/{id}')}`;
+    const params = {
+        headers: { Authorization: `Bearer ${principal.token}`, 'Content-Type': 'application/json' },
+        tags: { endpoint },
+    };
+    const response = http.request(method, `${BASE_URL}${path}`, body ? JSON.stringify(body) : null, params);
+    check(response, { [`${endpoint} 2xx`]: (r) => r.status >= 200 && r.status < 300 });
+    return response;
+}
+
+function timeEntry(employeeId, day) {
+    const start = `${isoDate(day)}T09:00:00`;
+    return { employeeId, type: 'PRESENCE', entryDate: start, startTime: start, endTime: `${isoDate(day)}T17:00:00`, hours: 8 };
+}
+
+export function employeeReads() {
+    const employee = pick(employees);
+    const day = randomDay();
+    switch (Math.floor(Math.random() * 3)) {
+        case 0:
+            request('GET', `/time-entries/my?startDate=${isoDate(plusDays(day, -6))}&endDate=${isoDate(day)}`, employee);
+            break;
+        case 1:
+            request('GET', `/time-entries/my/summary?startDate=${isoDate(plusDays(day, -30))}&endDate=${isoDate(day)}`, employee);
+            break;
+        default:
+            request('GET', '/vacation-requests/my', employee);
+    }
+}
+
+export function employeeWrites() {
+    const employee = pick(employees);
+    request('POST', '/time-entries', employee, timeEntry(employee.employeeId, plusDays(LAST_DAY, 1)));
+}
+
+export function managerReads() {
+    const manager = pick(managers);
+    const day = randomDay();
+    switch (Math.floor(Math.random() * 7)) {
+        case 0:
+            request('GET', `/time-entries?startDate=${isoDate(plusDays(day, -6))}&endDate=${isoDate(day)}&page=0&size=50`, manager);
+            break;
+        case 1:
+            request('GET', `/time-entries/keyset?startDate=${isoDate(plusDays(day, -6))}&endDate=${isoDate(day)}&size=50`, manager);
+            break;
+        case 2:
+            request('GET', `/time-entries/reports/daily?date=${isoDate(day)}`, manager);
+            break;
+        case 3:
+            request('GET', `/time-entries/reports/weekly?startDate=${isoDate(plusDays(day, -6))}`, manager);
+            break;
+        case 4:
+            request('GET', '/vacation-requests/pending', manager);
+            break;
+        case 5:
+            request('GET', `/vacation-requests/calendar?startDate=${isoDate(day)}&endDate=${isoDate(plusDays(day, 30))}`, manager);
+            break;
+        default:
+            request('GET', `/vacation-requests/keyset?startDate=${isoDate(day)}&endDate=${isoDate(plusDays(day, 30))}&size=50`, manager);
+    }
+}
+
+export function bulkIngest() {
+    const manager = pick(managers);
+    const entries = [];
+    for (let i = 0; i < INGEST_BATCH; i++) {
+        entries.push(timeEntry(pick(employees).employeeId, plusDays(LAST_DAY, 1 + (i % 30))));
+    }
+    const response = request('POST', '/time-entries/bulk/ingest', manager, entries);
+    if (response.status === 200) {
+        ingestedRows.add(response.json().filter((result) => result.outcome === 'CREATED').length);
+    }
+}
+
+export function handleSummary(data) {
+    return {
+        stdout: textSummary(data, { indent: ' ', enableColors: true }),
+        [__ENV.SUMMARY_FILE || 'summary.json']: JSON.stringify(data, null, 2),
+    };
+}
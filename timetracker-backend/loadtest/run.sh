@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+# Usage: loadtest/run.sh [data|plans|budgets|ingestion|tokens|k6|all|threads]
+# Environment: EMPLOYEES, YEARS, SEED, JDBC_URL, DB_USERNAME, DB_PASSWORD, BASE_URL, DURATION, RATE, ROWS
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+STEP="${1:-all}"
+OUT_DIR="target/loadtest"
+ORG_PROPS=(-Dloadtest.employees="${EMPLOYEES:-10000}" -Dloadtest.years="${YEARS:-1}" -Dloadtest.seed="${SEED:-42}")
+
+run_main() {
+    mvn -B -q -Pbenchmark test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="$1" "${@:2}"
+}
+
+if [[ "$STEP" == data || "$STEP" == all ]]; then
+    run_main com.company.timetracker.loadtest.SyntheticDataGenerator "${ORG_PROPS[@]}" \
+        -Dloadtest.jdbc-url="${JDBC_URL:-jdbc:postgresql://localhost:5432/timetracker}" \
+        -Dloadtest.db-user="${DB_USERNAME:-timetracker}" -Dloadtest.db-password="${DB_PASSWORD:-timetracker}" \
+        -Dloadtest.truncate=true
+fi
+
+if [[ "$STEP" == plans || "$STEP" == all ]]; then
+    run_main com.company.timetracker.loadtest.QueryPlanCheck \
+        -Dloadtest.jdbc-url="${JDBC_URL:-jdbc:postgresql://localhost:5432/timetracker}" \
+        -Dloadtest.db-user="${DB_USERNAME:-timetracker}" -Dloadtest.db-password="${DB_PASSWORD:-timetracker}"
+fi
+
+# Boots the application in-process with the loadtest profile, so it reads the datasource from DB_HOST & co.
+if [[ "$STEP" == budgets || "$STEP" == all ]]; then
+    run_main com.company.timetracker.loadtest.StatementBudgetCheck
+fi
+
+if [[ "$STEP" == ingestion ]]; then
+    run_main com.company.timetracker.loadtest.IngestionThroughputBenchmark -Dloadtest.ingestion.rows="${ROWS:-20000}" \
+        -Dloadtest.jdbc-url="${JDBC_URL:-jdbc:postgresql://localhost:5432/timetracker}" \
+        -Dloadtest.db-user="${DB_USERNAME:-timetracker}" -Dloadtest.db-password="${DB_PASSWORD:-timetracker}"
+fi
+
+if [[ "$STEP" == tokens || "$STEP" == all ]]; then
+    run_main com.company.timetracker.loadtest.LoadTestTokens "${ORG_PROPS[@]}" -Dloadtest.output-dir="$OUT_DIR"
+fi
+
+run_k6() {
+    k6 run \
+        -e BASE_URL="${BASE_URL:-http://localhost:8080/api/api}" \
+        -e TOKENS_FILE="$PWD/$OUT_DIR/tokens.json" \
+        -e DAYS="$(( ${YEARS:-1} * 365 ))" \
+        -e DURATION="${DURATION:-5m}" \
+        -e RATE="$2" \
+        -e SUMMARY_FILE="$1" \
+        loadtest/k6/timetracker.js
+}
+
+if [[ "$STEP" == k6 || "$STEP" == all ]]; then
+    run_k6 "$PWD/$OUT_DIR/k6-summary-$(date +%Y%m%d-%H%M%S).json" "${RATE:-1}"
+fi
+
+# Same Java 21 build and scenario against thread-per-request and virtual threads, one after the other.
+# Runs the jar itself, so nothing else may listen on port 8080. RATE defaults to a month-end burst.
+if [[ "$STEP" == threads ]]; then
+    mvn -B -q -Pjava21 package -DskipTests
+    STAMP="$(date +%Y%m%d-%H%M%S)"
+    for MODE in platform virtual; do
+        PROFILES=loadtest
+        [[ "$MODE" == virtual ]] && PROFILES=loadtest,virtual-threads
+        java -jar target/timetracker-backend-0.0.1-SNAPSHOT.jar --spring.profiles.active="$PROFILES" \
+            > "$OUT_DIR/app-$MODE-$STAMP.log" 2>&1 &
+        APP_PID=$!
+        trap 'kill "$APP_PID" 2>/dev/null || true' EXIT
+        until [[ "$(curl -s -o /dev/null -w '%{http_code}' http://localhost:8080/api/actuator/health)" != 000 ]]; do
+            kill -0 "$APP_PID" || { echo "Application failed to start, see $OUT_DIR/app-$MODE-$STAMP.log"; exit 1; }
+            sleep 2
+        done
+        run_k6 "$PWD/$OUT_DIR/k6-threads-$MODE-$STAMP.json" "${RATE:-4}" || true
+        kill "$APP_PID"
+        wait "$APP_PID" || true
+    done
+
+    printf '%-10s %10s %10s %10s %10s %10s %10s\n' mode req/s med_ms p95_ms p99_ms failed_% dropped
+    for MODE in platform virtual; do
+        jq -r --arg mode "$MODE" '.metrics as $m | [$mode, $m.http_reqs.values.rate, $m.http_req_duration.values.med,
+                $m.http_req_duration.values["p(95)"], $m.http_req_duration.values["p(99)"],
+                $m.http_req_failed.values.rate * 100, ($m.dropped_iterations.values.count // 0)]
+                | "\(.[0]) \(.[1:] | map(. * 10 | round / 10) | join(" "))"' \
+            "$OUT_DIR/k6-threads-$MODE-$STAMP.json" | xargs printf '%-10s %10s %10s %10s %10s %10s %10s\n'
+    done
+fi
@@ -0,0 +1,93 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.entity.Employee;
+import com.company.timetracker.entity.Project;
+import com.company.timetracker.entity.Task;
+import com.company.timetracker.entity.TimeEntry;
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.entity.TimeEntryType;
+import com.company.timetracker.entity.VacationRequest;
+import com.company.timetracker.entity.VacationStatus;
+import com.company.timetracker.entity.VacationType;
+import com.company.timetracker.mapper.TimeEntryMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic benchmark data. Every generator takes a seed so runs on different machines and
+ * commits measure the same inputs.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 42L;
+    static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<TimeEntry> timeEntries(int count, long seed) {
+        Random random = new Random(seed);
+        List<Project> projects = new ArrayList<>();
+        for (long p = 1; p <= 10; p++) {
+            projects.add(Project.builder().id(p).code("PRJ-" + p).name("Project " + p).build());
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (long t = 1; t <= 100; t++) {
+            tasks.add(Task.builder().id(t).code("TSK-" + t).name("Task " + t)
+                    .project(projects.get(random.nextInt(projects.size()))).build());
+        }
+        List<Employee> employees = new ArrayList<>();
+        for (long e = 1; e <= 50; e++) {
+            employees.add(Employee.builder().id(e).firstName("First" + e).lastName("Last" + e)
+                    .email("employee" + e + "@company.com").keycloakId("kc-" + e).build());
+        }
+
+        List<TimeEntry> entries = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            boolean presence = random.nextInt(4) == 0;
+            LocalDateTime entryDate = BASE_DATE.plusDays(random.nextInt(365));
+            entries.add(TimeEntry.builder()
+                    .id(i)
+                    .employee(employees.get(random.nextInt(employees.size())))
+                    .task(presence ? null : tasks.get(random.nextInt(tasks.size())))
+                    .type(presence ? TimeEntryType.PRESENCE : TimeEntryType.TASK)
+                    .entryDate(entryDate)
+                    .startTime(entryDate)
+                    .endTime(entryDate.plusHours(8))
+                    .hours(0.5 + random.nextInt(16) * 0.5)
+                    .description("Work item " + i)
+                    .status(TimeEntryStatus.values()[random.nextInt(TimeEntryStatus.values().length)])
+                    .createdAt(entryDate)
+                    .updatedAt(entryDate)
+                    .build());
+        }
+        return entries;
+    }
+
+    static List<TimeEntryDTO> timeEntryDtos(int count, long seed) {
+        TimeEntryMapper mapper = new TimeEntryMapper();
+        return timeEntries(count, seed).stream().map(mapper::toDto).toList();
+    }
+
+    static List<VacationRequest> vacationRequests(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDate base = BASE_DATE.toLocalDate();
+        List<VacationRequest> requests = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            LocalDate start = base.plusDays(random.nextInt(365));
+            requests.add(VacationRequest.builder()
+                    .id(i)
+                    .startDate(start)
+                    .endDate(start.plusDays(random.nextInt(15)))
+                    .type(VacationType.ANNUAL_LEAVE)
+                    .status(VacationStatus.values()[random.nextInt(VacationStatus.values().length)])
+                    .build());
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.config.SecurityConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtAuthenticationConverterBenchmark {
+
+    private JwtAuthenticationConverter converter;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        converter = new SecurityConfig().jwtAuthenticationConverter();
+        Instant issuedAt = Instant.parse("2024-01-01T09:00:00Z");
+        List<String> roles = List.of("EMPLOYEE", "MANAGER", "offline_access", "uma_authorization");
+        jwt = Jwt.withTokenValue("benchmark-token")
+                .header("alg", "RS256")
+                .header("kid", "benchmark")
+                .subject("3f1c2d4e-5a6b-4c7d-8e9f-0a1b2c3d4e5f")
+                .issuer("http://idp.localhost/realms/tt-realm")
+                .audience(List.of("account"))
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(300))
+                .claim("preferred_username", "employee1")
+                .claim("realm_access.roles", roles)
+                .claim("realm_access", Map.of("roles", roles))
+                .build();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convert() {
+        return converter.convert(jwt);
+    }
+}
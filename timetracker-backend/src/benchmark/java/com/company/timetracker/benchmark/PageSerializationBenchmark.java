@@ -0,0 +1,51 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100", "500"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private Page<TimeEntryDTO> page;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring MVC applies to its message converter ObjectMapper
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        page = new PageImpl<>(BenchmarkFixtures.timeEntryDtos(pageSize, BenchmarkFixtures.SEED),
+                PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+}
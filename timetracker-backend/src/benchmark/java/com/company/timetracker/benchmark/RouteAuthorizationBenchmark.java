@@ -0,0 +1,143 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.config.RouteAuthorizationManager;
+import com.company.timetracker.config.SecurityConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the compiled route table with the sequential AntPathRequestMatcher chain it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RouteAuthorizationBenchmark {
+
+    private static final String[] ALL_ROLES = {"EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN"};
+    private static final String[] MANAGER_ROLES = {"MANAGER", "HR_MANAGER", "ADMIN"};
+    private static final AuthorizationManager<RequestAuthorizationContext> PERMIT_ALL =
+            (authentication, context) -> new AuthorizationDecision(true);
+
+    private RouteAuthorizationManager routeTable;
+    private AuthorizationManager<HttpServletRequest> sequentialMatchers;
+    private Supplier<Authentication> authentication;
+    private List<HttpServletRequest> requests;
+
+    @Setup
+    public void setUp() {
+        routeTable = new SecurityConfig().routeAuthorizationManager();
+        sequentialMatchers = sequentialMatchers();
+        Authentication manager = new TestingAuthenticationToken("kc-1", "n/a", "ROLE_MANAGER");
+        authentication = () -> manager;
+        requests = List.of(
+                request("GET", "/api/time-entries/my"),
+                request("GET", "/api/time-entries"),
+                request("POST", "/api/time-entries"),
+                request("PUT", "/api/time-entries/42"),
+                request("PATCH", "/api/time-entries/42/approve"),
+                request("GET", "/api/time-entries/reports/weekly"),
+                request("GET", "/api/vacation-requests/pending"),
+                request("PATCH", "/api/vacation-requests/7/reject"),
+                request("GET", "/api/projects/3"),
+                request("GET", "/api/unmapped/resource"));
+    }
+
+    @Benchmark
+    public void routeTable(Blackhole blackhole) {
+        for (HttpServletRequest request : requests) {
+            blackhole.consume(routeTable.check(authentication, new RequestAuthorizationContext(request)));
+        }
+    }
+
+    @Benchmark
+    public void sequentialMatchers(Blackhole blackhole) {
+        for (HttpServletRequest request : requests) {
+            blackhole.consume(sequentialMatchers.check(authentication, request));
+        }
+    }
+
+    private static HttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    // The matcher chain as configured before the route table was introduced
+    private static AuthorizationManager<HttpServletRequest> sequentialMatchers() {
+        return RequestMatcherDelegatingAuthorizationManager.builder()
+                .add(ant(null, "/api/actuator/**"), PERMIT_ALL)
+                .add(ant(null, "/api/health/**"), PERMIT_ALL)
+                .add(ant(null, "/api/swagger-ui/**"), PERMIT_ALL)
+                .add(ant(null, "/api/v3/api-docs/**"), PERMIT_ALL)
+                .add(ant(HttpMethod.GET, "/api/employees/me"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.PUT, "/api/employees/me"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.GET, "/api/employees"), roles(MANAGER_ROLES))
+                .add(ant(HttpMethod.POST, "/api/employees"), roles("HR_MANAGER", "ADMIN"))
+                .add(ant(HttpMethod.PUT, "/api/employees/**"), roles("HR_MANAGER", "ADMIN"))
+                .add(ant(HttpMethod.DELETE, "/api/employees/**"), roles("ADMIN"))
+                .add(ant(HttpMethod.GET, "/api/projects"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.GET, "/api/projects/**"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.POST, "/api/projects"), roles("MANAGER", "ADMIN"))
+                .add(ant(HttpMethod.PUT, "/api/projects/**"), roles("MANAGER", "ADMIN"))
+                .add(ant(HttpMethod.DELETE, "/api/projects/**"), roles("ADMIN"))
+                .add(ant(HttpMethod.GET, "/api/tasks"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.GET, "/api/tasks/**"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.POST, "/api/tasks"), roles("MANAGER", "ADMIN"))
+                .add(ant(HttpMethod.PUT, "/api/tasks/**"), roles("MANAGER", "ADMIN"))
+                .add(ant(HttpMethod.DELETE, "/api/tasks/**"), roles("MANAGER", "ADMIN"))
+                .add(ant(HttpMethod.GET, "/api/time-entries/my"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.POST, "/api/time-entries"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.PUT, "/api/time-entries/**"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.DELETE, "/api/time-entries/**"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.GET, "/api/time-entries"), roles(MANAGER_ROLES))
+                .add(ant(HttpMethod.PATCH, "/api/time-entries/**/approve"), roles(MANAGER_ROLES))
+                .add(ant(HttpMethod.GET, "/api/vacation-requests/my"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.POST, "/api/vacation-requests"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.PUT, "/api/vacation-requests/**"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.DELETE, "/api/vacation-requests/**"), roles(ALL_ROLES))
+                .add(ant(HttpMethod.GET, "/api/vacation-requests"), roles(MANAGER_ROLES))
+                .add(ant(HttpMethod.PATCH, "/api/vacation-requests/**/approve"), roles(MANAGER_ROLES))
+                .add(ant(HttpMethod.PATCH, "/api/vacation-requests/**/reject"), roles(MANAGER_ROLES))
+                .add(ant(HttpMethod.PATCH, "/api/vacation-requests/**/skip-approval"), roles("HR_MANAGER", "ADMIN"))
+                .add(ant(null, "/api/admin/**"), roles("ADMIN"))
+                .add(AnyRequestMatcher.INSTANCE, AuthenticatedAuthorizationManager.authenticated())
+                .build();
+    }
+
+    private static AntPathRequestMatcher ant(HttpMethod method, String pattern) {
+        return method != null ? AntPathRequestMatcher.antMatcher(method, pattern) : AntPathRequestMatcher.antMatcher(pattern);
+    }
+
+    private static AuthorizationManager<RequestAuthorizationContext> roles(String... roles) {
+        return AuthorityAuthorizationManager.hasAnyRole(roles);
+    }
+}
@@ -0,0 +1,104 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.config.RouteAuthorizationManager;
+import com.company.timetracker.config.SecurityConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Asserts the route table of {@link SecurityConfig} for methods the table does not list: for every role,
+ * HEAD on a controller GET path gets the same decision as GET, and a method without a route on a mapped path
+ * is denied. Exits with status 1 when a decision differs.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.company.timetracker.benchmark.RouteAuthorizationCheck
+ * </pre>
+ */
+public class RouteAuthorizationCheck {
+
+    private static final String[] ROLES = {"EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN"};
+
+    // One sample path per GET route of the controllers
+    private static final List<String> GET_PATHS = List.of(
+            "/api/time-entries", "/api/time-entries/my", "/api/time-entries/my/summary", "/api/time-entries/keyset",
+            "/api/time-entries/export", "/api/time-entries/reports/daily", "/api/time-entries/reports/weekly",
+            "/api/time-entries/pending/stream", "/api/time-entries/42",
+            "/api/vacation-requests", "/api/vacation-requests/my", "/api/vacation-requests/my/summary",
+            "/api/vacation-requests/keyset", "/api/vacation-requests/pending", "/api/vacation-requests/pending/stream",
+            "/api/vacation-requests/calendar", "/api/vacation-requests/coverage", "/api/vacation-requests/7",
+            "/api/projects/3/burndown", "/api/reports/jobs/5", "/api/reports/jobs/5/result",
+            "/api/admin/analytics", "/api/admin/analytics/hours",
+            "/api/employees", "/api/employees/me", "/api/employees/9");
+
+    // Methods with no route on a path that has routes for other methods
+    private static final Map<String, String> UNROUTED = new LinkedHashMap<>();
+
+    static {
+        UNROUTED.put("/api/time-entries", "PATCH");
+        UNROUTED.put("/api/time-entries/my", "POST");
+        UNROUTED.put("/api/time-entries/42", "TRACE");
+        UNROUTED.put("/api/time-entries/reports/weekly", "DELETE");
+        UNROUTED.put("/api/time-entries/42/approve", "PUT");
+        UNROUTED.put("/api/vacation-requests/keyset", "OPTIONS");
+        UNROUTED.put("/api/vacation-requests/7/skip-approval", "POST");
+        UNROUTED.put("/api/projects/3/burndown", "POST");
+        UNROUTED.put("/api/reports/jobs/5", "DELETE");
+        UNROUTED.put("/api/time-entries/export", "PROPFIND");
+        UNROUTED.put("/api/employees/me", "POST");
+    }
+
+    public static void main(String[] args) {
+        RouteAuthorizationManager routeTable = new SecurityConfig().routeAuthorizationManager();
+        List<Authentication> callers = new ArrayList<>();
+        callers.add(new AnonymousAuthenticationToken("key", "anonymous",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        for (String role : ROLES) {
+            callers.add(new TestingAuthenticationToken(role.toLowerCase(Locale.ROOT), "n/a", "ROLE_" + role));
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (Authentication caller : callers) {
+            for (String path : GET_PATHS) {
+                boolean get = granted(routeTable, caller, "GET", path);
+                boolean head = granted(routeTable, caller, "HEAD", path);
+                report(head == get, caller, "HEAD " + path, head, failures);
+            }
+            UNROUTED.forEach((path, method) -> {
+                boolean granted = granted(routeTable, caller, method, path);
+                report(!granted, caller, method + " " + path, granted, failures);
+            });
+        }
+
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("Route authorization check failed - " + failure));
+            System.exit(1);
+        }
+    }
+
+    private static boolean granted(RouteAuthorizationManager routeTable, Authentication caller, String method,
+                                   String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return routeTable.check(() -> caller, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    private static void report(boolean ok, Authentication caller, String request, boolean granted,
+                               List<String> failures) {
+        String role = caller.getAuthorities().iterator().next().getAuthority();
+        System.out.printf("%-4s %-15s %-52s %s%n", ok ? "OK" : "FAIL", role, request, granted ? "granted" : "denied");
+        if (!ok) {
+            failures.add(role + " " + request + " " + (granted ? "granted" : "denied"));
+        }
+    }
+}
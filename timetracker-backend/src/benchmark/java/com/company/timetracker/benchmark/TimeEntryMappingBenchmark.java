@@ -0,0 +1,52 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.entity.TimeEntry;
+import com.company.timetracker.mapper.TimeEntryMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TimeEntryMappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int entries;
+
+    private final TimeEntryMapper mapper = new TimeEntryMapper();
+    private List<TimeEntry> timeEntries;
+
+    @Setup
+    public void setUp() {
+        timeEntries = BenchmarkFixtures.timeEntries(entries, BenchmarkFixtures.SEED);
+    }
+
+    @Benchmark
+    public void toDto(Blackhole blackhole) {
+        for (TimeEntry entry : timeEntries) {
+            blackhole.consume(mapper.toDto(entry));
+        }
+    }
+
+    @Benchmark
+    public List<TimeEntryDTO> toDtoList() {
+        return timeEntries.stream().map(mapper::toDto).toList();
+    }
+}
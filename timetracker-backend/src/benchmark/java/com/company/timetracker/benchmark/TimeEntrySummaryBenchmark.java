@@ -0,0 +1,44 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.controller.TimeEntryController.TimeEntrySummaryDTO;
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.service.TimeEntrySummaryCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TimeEntrySummaryBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int entries;
+
+    private final TimeEntrySummaryCalculator calculator = new TimeEntrySummaryCalculator();
+    private List<TimeEntryDTO> timeEntries;
+
+    @Setup
+    public void setUp() {
+        timeEntries = BenchmarkFixtures.timeEntryDtos(entries, BenchmarkFixtures.SEED);
+    }
+
+    @Benchmark
+    public TimeEntrySummaryDTO summarize() {
+        return calculator.summarize(timeEntries);
+    }
+}
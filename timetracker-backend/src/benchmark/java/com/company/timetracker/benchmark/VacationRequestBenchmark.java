@@ -0,0 +1,56 @@
+package com.company.timetracker.benchmark;
+
+import com.company.timetracker.entity.VacationRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VacationRequestBenchmark {
+
+    private static final LocalDate WINDOW_START = LocalDate.of(2024, 6, 1);
+    private static final LocalDate WINDOW_END = LocalDate.of(2024, 6, 30);
+
+    private List<VacationRequest> requests;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkFixtures.vacationRequests(1000, BenchmarkFixtures.SEED);
+    }
+
+    @Benchmark
+    public int overlaps() {
+        int overlapping = 0;
+        for (VacationRequest request : requests) {
+            if (request.overlaps(WINDOW_START, WINDOW_END)) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public long getDaysRequested() {
+        long days = 0;
+        for (VacationRequest request : requests) {
+            days += request.getDaysRequested();
+        }
+        return days;
+    }
+}
@@ -0,0 +1,158 @@
+package com.company.timetracker.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time entry ingestion in rows per second with the statements Hibernate issues for each id strategy,
+ * on the same ingestion batches:
+ * <ul>
+ *     <li>{@code identity}: the baseline before pooled sequence ids. Hibernate cannot batch IDENTITY inserts,
+ *     so every row is its own {@code INSERT ... RETURNING id} round-trip.</li>
+ *     <li>{@code pooled}: the current mapping. One {@code nextval} per {@code allocationSize} ids, inserts sent
+ *     as JDBC batches of {@code hibernate.jdbc.batch_size} that {@code reWriteBatchedInserts} turns into
+ *     multi-row inserts.</li>
+ * </ul>
+ * Each ingestion batch runs in one transaction, like {@code TimeEntryBatchWriter}, and is rolled back, so the
+ * table and its aggregates are left as they were. Triggers fire as in production. Run after
+ * {@link SyntheticDataGenerator}.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.company.timetracker.loadtest.IngestionThroughputBenchmark \
+ *     -Dloadtest.ingestion.rows=20000
+ * </pre>
+ */
+public class IngestionThroughputBenchmark {
+
+    private static final String INSERT = "INSERT INTO time_entries (id, employee_id, task_id, type, entry_date, hours, "
+            + "description, status) VALUES (?, ?, ?, 'TASK', ?, ?, 'ingestion benchmark', 'PENDING')";
+    private static final String INSERT_RETURNING_ID = "INSERT INTO time_entries (employee_id, task_id, type, "
+            + "entry_date, hours, description, status) VALUES (?, ?, 'TASK', ?, ?, 'ingestion benchmark', 'PENDING')";
+
+    // TimeEntry's allocationSize, hibernate.jdbc.batch_size and app.ingestion.max-batch-size
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int JDBC_BATCH_SIZE = 100;
+    private static final int INGESTION_BATCH_SIZE = 1000;
+
+    private final Connection connection;
+    private final List<long[]> assignments;
+    private final LocalDateTime entryDate = LocalDateTime.now().withNano(0);
+
+    IngestionThroughputBenchmark(Connection connection, List<long[]> assignments) {
+        this.connection = connection;
+        this.assignments = assignments;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("loadtest.jdbc-url", "jdbc:postgresql://localhost:5432/timetracker");
+        String user = System.getProperty("loadtest.db-user", "timetracker");
+        String password = System.getProperty("loadtest.db-password", "timetracker");
+        int rows = Integer.getInteger("loadtest.ingestion.rows", 20_000);
+
+        try (Connection connection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?")
+                + "reWriteBatchedInserts=true", user, password)) {
+            connection.setAutoCommit(false);
+            IngestionThroughputBenchmark benchmark = new IngestionThroughputBenchmark(connection,
+                    loadAssignments(connection));
+            // The first pass warms up the JIT and the buffer cache, the second is reported
+            for (boolean report : new boolean[]{false, true}) {
+                report(report, "identity", rows, benchmark.run(rows, benchmark::insertIdentity));
+                report(report, "pooled", rows, benchmark.run(rows, benchmark::insertPooled));
+            }
+        }
+    }
+
+    private long run(int rows, BatchInsert insert) throws SQLException {
+        long started = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += INGESTION_BATCH_SIZE) {
+            insert.insert(offset, Math.min(INGESTION_BATCH_SIZE, rows - offset));
+            connection.rollback();
+        }
+        return System.nanoTime() - started;
+    }
+
+    private void insertIdentity(int offset, int count) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_RETURNING_ID,
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = offset; i < offset + count; i++) {
+                long[] assignment = assignments.get(i % assignments.size());
+                insert.setLong(1, assignment[0]);
+                insert.setLong(2, assignment[1]);
+                insert.setTimestamp(3, Timestamp.valueOf(entryDate.minusMinutes(i)));
+                insert.setDouble(4, 1.0);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+    }
+
+    private void insertPooled(int offset, int count) throws SQLException {
+        try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('time_entries_id_seq')");
+             PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            long nextId = 0;
+            long lastId = -1;
+            for (int i = offset; i < offset + count; i++) {
+                if (nextId > lastId) {
+                    // The pooled optimizer treats the sequence value as the high end of the next block
+                    try (ResultSet value = nextval.executeQuery()) {
+                        value.next();
+                        lastId = value.getLong(1);
+                        nextId = lastId - ALLOCATION_SIZE + 1;
+                    }
+                }
+                long[] assignment = assignments.get(i % assignments.size());
+                insert.setLong(1, nextId++);
+                insert.setLong(2, assignment[0]);
+                insert.setLong(3, assignment[1]);
+                insert.setTimestamp(4, Timestamp.valueOf(entryDate.minusMinutes(i)));
+                insert.setDouble(5, 1.0);
+                insert.addBatch();
+                if ((i - offset + 1) % JDBC_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    // (employee id, task id) pairs the synthetic employees are staffed on
+    private static List<long[]> loadAssignments(Connection connection) throws SQLException {
+        List<long[]> assignments = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pe.employee_id, MIN(t.id) FROM project_employees pe "
+                     + "JOIN tasks t ON t.project_id = pe.project_id GROUP BY pe.employee_id, pe.project_id "
+                     + "ORDER BY pe.employee_id LIMIT 1000")) {
+            while (resultSet.next()) {
+                assignments.add(new long[]{resultSet.getLong(1), resultSet.getLong(2)});
+            }
+        }
+        if (assignments.isEmpty()) {
+            throw new IllegalStateException("No staffed employees found, run SyntheticDataGenerator first");
+        }
+        return assignments;
+    }
+
+    private static void report(boolean report, String strategy, int rows, long nanos) {
+        if (report) {
+            System.out.printf("%-10s %8d rows %8d ms %10.0f rows/s%n", strategy, rows,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows / (nanos / 1e9));
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchInsert {
+        void insert(int offset, int count) throws SQLException;
+    }
+}
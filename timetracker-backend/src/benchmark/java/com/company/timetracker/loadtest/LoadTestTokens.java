@@ -0,0 +1,84 @@
+package com.company.timetracker.loadtest;
+
+import com.company.timetracker.entity.EmployeeRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stubbed JWT issuer for load tests. Generates an RSA key, writes its public half as a JWK set for
+ * {@code app.security.jwk.fallback-file} and signs tokens for synthetic employees, grouped by role.
+ */
+public class LoadTestTokens {
+
+    public static void main(String[] args) throws Exception {
+        SyntheticOrganization organization = SyntheticOrganization.fromSystemProperties();
+        Path outputDir = Path.of(System.getProperty("loadtest.output-dir", "target/loadtest"));
+        int tokensPerRole = Integer.getInteger("loadtest.tokens-per-role", 200);
+        Duration validity = Duration.parse(System.getProperty("loadtest.token-validity", "PT8H"));
+        String issuer = System.getProperty("loadtest.issuer", "http://idp.localhost/realms/tt-realm");
+
+        RSAKey key = new RSAKeyGenerator(2048).keyID("loadtest").generate();
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("jwks.json"), new JWKSet(key.toPublicJWK()).toString());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode tokens = objectMapper.createObjectNode();
+        Map<EmployeeRole, ArrayNode> byRole = new EnumMap<>(EmployeeRole.class);
+        for (EmployeeRole role : EmployeeRole.values()) {
+            byRole.put(role, tokens.putArray(role.name()));
+        }
+
+        RSASSASigner signer = new RSASSASigner(key);
+        Instant issuedAt = Instant.now();
+        for (long id = 1; id <= organization.employees; id++) {
+            ArrayNode group = byRole.get(organization.role(id));
+            if (group.size() >= tokensPerRole) {
+                continue;
+            }
+            group.addObject()
+                    .put("employeeId", id)
+                    .put("token", sign(signer, key, organization, id, issuer, issuedAt, validity));
+        }
+
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(outputDir.resolve("tokens.json").toFile(), tokens);
+        System.out.printf("Wrote %s and %s%n", outputDir.resolve("jwks.json"), outputDir.resolve("tokens.json"));
+    }
+
+    private static String sign(RSASSASigner signer, RSAKey key, SyntheticOrganization organization, long employeeId,
+                               String issuer, Instant issuedAt, Duration validity) throws JOSEException {
+        List<String> roles = List.of(organization.role(employeeId).name());
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(organization.keycloakId(employeeId))
+                .audience("account")
+                .issueTime(Date.from(issuedAt))
+                .expirationTime(Date.from(issuedAt.plus(validity)))
+                .claim("preferred_username", "employee" + employeeId)
+                .claim("email", organization.email(employeeId))
+                .claim("realm_access", Map.of("roles", roles))
+                .claim("realm_access.roles", roles)
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(signer);
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,596 @@
+package com.company.timetracker.loadtest;
+
+import com.company.timetracker.dto.TimeEntryFilter;
+import com.company.timetracker.repository.TimeEntryFilterRepositoryImpl;
+import com.company.timetracker.repository.VacationRequestFilterRepositoryImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Entity;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.connections.internal.DatasourceConnectionProviderImpl;
+import org.hibernate.query.CommonQueryContract;
+import org.hibernate.query.MutationQuery;
+import org.hibernate.query.SelectionQuery;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Runs {@code EXPLAIN} for every {@code @Query} of the repository package against a loaded schema.
+ * Each query is translated by Hibernate with the application mappings and bound to sample values taken
+ * from one synthetic employee; the statement Hibernate prepares is executed as {@code EXPLAIN (FORMAT JSON)}
+ * instead. Queries assembled at runtime by the repository fragments are run through the fragment
+ * implementations in the filter combinations listed in {@link #fragmentQueries()}. The check fails when a
+ * query sequentially scans a large table without being listed in
+ * {@link #ALLOWED_SEQ_SCANS}, or does not use the index it was written for. Run after
+ * {@link SyntheticDataGenerator}.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.company.timetracker.loadtest.QueryPlanCheck
+ * </pre>
+ */
+public class QueryPlanCheck {
+
+    private static final String ENTITY_PACKAGE = "com.company.timetracker.entity";
+    private static final String REPOSITORY_PACKAGE = "com.company.timetracker.repository";
+    private static final Set<String> LARGE_TABLES = Set.of("time_entries", "vacation_requests", "time_entry_daily_hours",
+            "task_daily_hours", "vacation_balance_ledger");
+    private static final int PAGE_SIZE = 20;
+
+    // Queries that read most of a large table by design
+    private static final Map<String, String> ALLOWED_SEQ_SCANS = Map.of(
+            "VacationRequestRepository.findApprovedIntervals", "loads every approved request into the coverage index",
+            "VacationBalanceRepository.findDrift", "reconciles the whole ledger against vacation_requests",
+            "TaskRepository.findLoggedHoursDrift", "reconciles every task counter against time_entries",
+            "TaskDailyHoursRepository.deleteByWorkDayBetween", "nightly rebuild of the recent days",
+            "TimeEntryDailyHoursRepository.streamForAnalytics", "loads the whole rollup into the analytics snapshot");
+
+    // Indexes the queries were written for
+    private static final Map<String, String> EXPECTED_INDEXES = Map.ofEntries(
+            Map.entry("TimeEntryRepository.findByEmployeeIdAndWorkDay", "idx_time_entries_employee_work_day"),
+            Map.entry("TimeEntryRepository.findDistinctWorkDaysByEmployeeIdAndWorkDayBetween",
+                    "idx_time_entries_employee_work_day"),
+            Map.entry("TimeEntryRepository.findDtosByEmployeeIdAndWorkDayBetween", "idx_time_entries_employee_work_day"),
+            Map.entry("TimeEntryRepository.findDtosByKeycloakIdAndWorkDayBetween", "idx_time_entries_employee_work_day"),
+            Map.entry("TimeEntryRepository.findByEmployeeIdAndTypeAndEntryDateBetween",
+                    "idx_time_entries_employee_type_entry_date"),
+            Map.entry("TimeEntryRepository.sumHoursByEmployeeIdAndTypeAndEntryDateBetween",
+                    "idx_time_entries_employee_type_entry_date"),
+            Map.entry("TimeEntryRepository.findByEmployeeIdAndStatusOrderByEntryDateDesc",
+                    "idx_time_entries_employee_status_entry_date"),
+            Map.entry("TimeEntryRepository.countByEmployeeIdAndStatus", "idx_time_entries_employee_status_entry_date"),
+            Map.entry("TimeEntryRepository.findPendingTimeEntries", "idx_time_entries_pending"),
+            Map.entry("TimeEntryRepository.findPendingTimeEntryDtos", "idx_time_entries_pending"),
+            Map.entry("TimeEntryRepository.countByStatus", "idx_time_entries_pending"),
+            Map.entry("TimeEntryRepository.sumHoursByTaskId", "tasks_pkey"),
+            Map.entry("TimeEntryFilterRepository.findKeysetSlice", "idx_time_entries_entry_date_id"),
+            Map.entry("TimeEntryFilterRepository.findKeysetSlice[employee]", "idx_time_entries_employee_entry_date_id"),
+            Map.entry("TaskRepository.getTotalLoggedHours", "tasks_pkey"),
+            Map.entry("TimeEntryDailyHoursRepository.sumHoursByEmployeeRangeAndDay",
+                    "uq_time_entry_daily_hours_key"),
+            Map.entry("TaskDailyHoursRepository.sumHoursByProjectIdAfter", "task_daily_hours_pkey"),
+            Map.entry("TaskDailyHoursRepository.sumHoursByProjectIdAndDay", "task_daily_hours_pkey"),
+            Map.entry("TaskDailyHoursRepository.sumHoursByTaskIdAfter", "task_daily_hours_pkey"),
+            Map.entry("TaskDailyHoursRepository.findHoursByTaskIdAndDay", "task_daily_hours_pkey"),
+            Map.entry("ReportJobRepository.findReusable", "idx_report_jobs_params_key"),
+            Map.entry("ReportJobRepository.countActiveBySubmitter", "idx_report_jobs_active_submitter"),
+            Map.entry("VacationBalanceRepository.findSummaryByKeycloakId", "vacation_balances_pkey"),
+            Map.entry("VacationRequestRepository.sumApprovedDaysByEmployeeIdAndTypeAndYear", "vacation_balances_pkey"),
+            Map.entry("VacationRequestFilterRepository.findKeysetSlice", "idx_vacation_requests_start_date_id"),
+            Map.entry("VacationRequestFilterRepository.findKeysetSlice[employee]",
+                    "idx_vacation_requests_employee_start_date_id"),
+            Map.entry("VacationRequestRepository.findByDateRange", "idx_vacation_requests_period"),
+            Map.entry("VacationRequestRepository.findByDateRangeAndDepartment", "idx_vacation_requests_period"),
+            Map.entry("VacationRequestRepository.findApprovedVacationsOnDate", "idx_vacation_requests_period"),
+            Map.entry("VacationRequestRepository.findEmployeesOnVacationOnDate", "idx_vacation_requests_period"),
+            Map.entry("VacationRequestRepository.findPendingRequestsOrderByCreatedAt",
+                    "idx_vacation_requests_pending_created_at"),
+            Map.entry("VacationRequestRepository.findExpiredPendingRequests", "idx_vacation_requests_pending_start_date"),
+            Map.entry("VacationRequestRepository.findSkippedApprovals", "idx_vacation_requests_skipped_created_at"));
+
+    // Keyset queries must seek to the cursor through the index instead of filtering the rows before it
+    private static final Set<String> SEEKING_QUERIES = Set.of(
+            "TimeEntryFilterRepository.findKeysetSlice", "TimeEntryFilterRepository.findKeysetSlice[employee]",
+            "VacationRequestFilterRepository.findKeysetSlice", "VacationRequestFilterRepository.findKeysetSlice[employee]");
+
+    private final SessionFactory sessionFactory;
+    private final PlanCapture capture;
+    private final Samples samples;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    QueryPlanCheck(SessionFactory sessionFactory, PlanCapture capture, Samples samples) {
+        this.sessionFactory = sessionFactory;
+        this.capture = capture;
+        this.samples = samples;
+    }
+
+    public static void main(String[] args) throws Exception {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(System.getProperty("loadtest.jdbc-url", "jdbc:postgresql://localhost:5432/timetracker"));
+        dataSource.setUser(System.getProperty("loadtest.db-user", "timetracker"));
+        dataSource.setPassword(System.getProperty("loadtest.db-password", "timetracker"));
+        long employeeId = Long.getLong("loadtest.plan-employee", 2);
+        // The aborted executions would otherwise be logged as SQL errors
+        LoggingSystem loggingSystem = LoggingSystem.get(QueryPlanCheck.class.getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.setLogLevel("org.hibernate", LogLevel.OFF);
+
+        Samples samples = Samples.load(dataSource, employeeId);
+        PlanCapture capture = new PlanCapture(dataSource);
+        List<String> failures;
+        try (SessionFactory sessionFactory = buildSessionFactory(capture.dataSource())) {
+            failures = new QueryPlanCheck(sessionFactory, capture, samples).run();
+        }
+
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("Plan check failed - " + failure));
+            System.exit(1);
+        }
+    }
+
+    List<String> run() throws ClassNotFoundException {
+        List<String> failures = new ArrayList<>();
+        for (Class<?> repository : scan(REPOSITORY_PACKAGE, Repository.class, true)) {
+            List<Method> methods = Arrays.stream(repository.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(Query.class))
+                    .sorted(Comparator.comparing(Method::getName))
+                    .toList();
+            for (Method method : methods) {
+                Query query = method.getAnnotation(Query.class);
+                String name = repository.getSimpleName() + "." + method.getName();
+                checkQuery(name, name, method, query.value(), query.nativeQuery(), failures);
+                if (!query.countQuery().isEmpty()) {
+                    checkQuery(name + "#count", name, method, query.countQuery(), query.nativeQuery(), failures);
+                }
+            }
+        }
+        fragmentQueries().forEach((label, execution) -> check(label, label.replaceAll("\\[.*]$", ""), execution,
+                failures));
+        return failures;
+    }
+
+    // Filter combinations of the runtime-built queries: no filter, and the employee or project filter
+    private Map<String, Consumer<Session>> fragmentQueries() {
+        Pageable pageable = PageRequest.ofSize(PAGE_SIZE);
+        TimeEntryFilter employeeFilter = TimeEntryFilter.builder().employeeId(samples.employeeId()).build();
+        LocalDateTime afterEntryDate = samples.day().atStartOfDay();
+        Map<String, Consumer<Session>> queries = new LinkedHashMap<>();
+        queries.put("TimeEntryFilterRepository.findKeysetSlice", session -> new TimeEntryFilterRepositoryImpl(
+                session).findKeysetSlice(new TimeEntryFilter(), afterEntryDate, samples.timeEntryId(), pageable));
+        queries.put("TimeEntryFilterRepository.findKeysetSlice[employee]", session -> new TimeEntryFilterRepositoryImpl(
+                session).findKeysetSlice(employeeFilter, afterEntryDate, samples.timeEntryId(), pageable));
+        queries.put("TimeEntryFilterRepository.findDtoPage[employee]", session -> new TimeEntryFilterRepositoryImpl(
+                session).findDtoPage(employeeFilter, pageable));
+        queries.put("TimeEntryFilterRepository.streamForExport[employee]", session -> new TimeEntryFilterRepositoryImpl(
+                session).streamForExport(employeeFilter).findFirst());
+        queries.put("VacationRequestFilterRepository.findKeysetSlice", session -> new VacationRequestFilterRepositoryImpl(
+                session).findKeysetSlice(null, null, null, null, samples.day(), samples.timeEntryId(), pageable));
+        queries.put("VacationRequestFilterRepository.findKeysetSlice[employee]",
+                session -> new VacationRequestFilterRepositoryImpl(session).findKeysetSlice(null, samples.employeeId(),
+                        null, null, samples.day(), samples.timeEntryId(), pageable));
+        LocalDateTime from = samples.day().atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+        queries.put("TimeEntryFilterRepository.approvePendingMatching[employee]", session -> new TimeEntryFilterRepositoryImpl(
+                session).approvePendingMatching(samples.employeeId(), null, from, from.plusDays(7), "check", now));
+        queries.put("TimeEntryFilterRepository.approvePendingMatching[project]", session -> new TimeEntryFilterRepositoryImpl(
+                session).approvePendingMatching(null, samples.projectId(), from, from.plusDays(7), "check", now));
+        queries.put("VacationRequestFilterRepository.approvePendingMatching[employee]",
+                session -> new VacationRequestFilterRepositoryImpl(session).approvePendingMatching(samples.employeeId(),
+                        null, samples.day(), samples.day().plusDays(7), "check", now));
+        queries.put("VacationRequestFilterRepository.approvePendingMatching[project]",
+                session -> new VacationRequestFilterRepositoryImpl(session).approvePendingMatching(null,
+                        samples.projectId(), samples.day(), samples.day().plusDays(7), "check", now));
+        return queries;
+    }
+
+    private void checkQuery(String label, String name, Method method, String queryString, boolean nativeQuery,
+                            List<String> failures) {
+        if (nativeQuery && !isExplainable(queryString)) {
+            report("SKIP", label, "(not explainable)");
+            return;
+        }
+        check(label, name, session -> execute(session, method, queryString, nativeQuery), failures);
+    }
+
+    private void check(String label, String name, Consumer<Session> execution, List<String> failures) {
+        JsonNode plan;
+        try {
+            plan = explain(execution);
+        } catch (RuntimeException e) {
+            report("FAIL", label, e.getMessage());
+            failures.add(label + ": " + e.getMessage());
+            return;
+        }
+
+        List<String> seqScans = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        List<String> indexConditions = new ArrayList<>();
+        collect(plan, seqScans, indexes, indexConditions);
+
+        List<String> problems = new ArrayList<>();
+        if (!ALLOWED_SEQ_SCANS.containsKey(name)) {
+            seqScans.stream()
+                    .filter(LARGE_TABLES::contains)
+                    .forEach(table -> problems.add("seq scan on " + table));
+        }
+        String expectedIndex = EXPECTED_INDEXES.get(label);
+        if (expectedIndex != null && !indexes.contains(expectedIndex)) {
+            problems.add("expected " + expectedIndex);
+        }
+        if (SEEKING_QUERIES.contains(label) && indexConditions.stream().noneMatch(condition -> condition.contains("ROW("))) {
+            problems.add("cursor is not an index condition");
+        }
+
+        List<String> scans = new ArrayList<>(indexes);
+        seqScans.forEach(table -> scans.add("seq " + table));
+        report(problems.isEmpty() ? "OK" : "FAIL", label, scans.isEmpty() ? "(no scan)" : String.join(", ", scans));
+        if (!problems.isEmpty()) {
+            failures.add(label + ": " + String.join(", ", problems));
+        }
+    }
+
+    private JsonNode explain(Consumer<Session> execution) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            try {
+                capture.arm();
+                execution.accept(session);
+            } catch (RuntimeException e) {
+                if (capture.plan() == null) {
+                    throw new IllegalStateException(rootMessage(e), e);
+                }
+            } finally {
+                capture.disarm();
+                session.getTransaction().rollback();
+            }
+        }
+        try {
+            return objectMapper.readTree(capture.plan()).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + e.getMessage(), e);
+        }
+    }
+
+    private void execute(Session session, Method method, String queryString, boolean nativeQuery) {
+        boolean modifying = method.isAnnotationPresent(Modifying.class);
+        CommonQueryContract query = nativeQuery
+                ? (modifying ? session.createNativeMutationQuery(queryString)
+                        : session.createNativeQuery(queryString, Object.class))
+                : (modifying ? session.createMutationQuery(queryString)
+                        : session.createSelectionQuery(queryString, Object[].class));
+        bind(query, method, session);
+        if (modifying) {
+            ((MutationQuery) query).executeUpdate();
+        } else {
+            SelectionQuery<?> selection = (SelectionQuery<?>) query;
+            if (Arrays.stream(method.getParameterTypes()).anyMatch(Pageable.class::isAssignableFrom)) {
+                selection.setMaxResults(PAGE_SIZE + 1);
+            }
+            selection.getResultList();
+        }
+    }
+
+    private void bind(CommonQueryContract query, Method method, Session session) {
+        for (Parameter parameter : method.getParameters()) {
+            Param param = parameter.getAnnotation(Param.class);
+            if (param == null) {
+                continue;
+            }
+            Object value = samples.valueFor(param.value(), parameter, session);
+            if (value instanceof Collection<?> values) {
+                query.setParameterList(param.value(), values);
+            } else {
+                query.setParameter(param.value(), value);
+            }
+        }
+    }
+
+    private static void collect(JsonNode node, List<String> seqScans, List<String> indexes,
+                                List<String> indexConditions) {
+        if (node.hasNonNull("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        if (node.hasNonNull("Index Cond")) {
+            indexConditions.add(node.get("Index Cond").asText());
+        }
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, seqScans, indexes, indexConditions);
+        }
+    }
+
+    private static void report(String status, String label, String detail) {
+        System.out.printf("%-4s %-72s %s%n", status, label, detail);
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("insert") || head.startsWith("update")
+                || head.startsWith("delete") || head.startsWith("with");
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage().lines().findFirst().orElse("") : root.toString();
+    }
+
+    private static SessionFactory buildSessionFactory(DataSource dataSource) throws ClassNotFoundException {
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none")
+                .setProperty(AvailableSettings.JDBC_TIME_ZONE, "UTC");
+        DatasourceConnectionProviderImpl connectionProvider = new DatasourceConnectionProviderImpl();
+        connectionProvider.setDataSource(dataSource);
+        configuration.getProperties().put(AvailableSettings.CONNECTION_PROVIDER, connectionProvider);
+        // Entity listeners take constructor arguments, as Spring beans; nothing is written here
+        configuration.getProperties().put(AvailableSettings.BEAN_CONTAINER,
+                new SpringBeanContainer(new DefaultListableBeanFactory()));
+        configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        configuration.setImplicitNamingStrategy(new SpringImplicitNamingStrategy());
+        for (Class<?> entity : scan(ENTITY_PACKAGE, Entity.class, false)) {
+            configuration.addAnnotatedClass(entity);
+        }
+        return configuration.buildSessionFactory();
+    }
+
+    private static List<Class<?>> scan(String basePackage, Class<? extends Annotation> annotation, boolean interfaces)
+            throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return interfaces ? beanDefinition.getMetadata().isInterface() : super.isCandidateComponent(beanDefinition);
+            }
+        };
+        provider.addIncludeFilter(new AnnotationTypeFilter(annotation));
+        List<Class<?>> classes = new ArrayList<>();
+        for (BeanDefinition candidate : provider.findCandidateComponents(basePackage)) {
+            classes.add(Class.forName(candidate.getBeanClassName()));
+        }
+        classes.sort(Comparator.comparing(Class::getSimpleName));
+        return classes;
+    }
+
+    /**
+     * Parameter values taken from the data of one employee, so that selective predicates stay selective.
+     */
+    record Samples(long employeeId, String keycloakId, String department, long timeEntryId, long taskId, long projectId,
+                   LocalDate day) {
+
+        static Samples load(DataSource dataSource, long employeeId) throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(
+                         "SELECT e.keycloak_id, e.department, te.id, te.task_id, t.project_id, te.work_day "
+                                 + "FROM time_entries te JOIN employees e ON e.id = te.employee_id "
+                                 + "JOIN tasks t ON t.id = te.task_id "
+                                 + "WHERE te.employee_id = ? ORDER BY te.entry_date DESC LIMIT 1")) {
+                statement.setLong(1, employeeId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("No task entries for employee " + employeeId
+                                + ", load data first");
+                    }
+                    return new Samples(employeeId, resultSet.getString(1), resultSet.getString(2), resultSet.getLong(3),
+                            resultSet.getLong(4), resultSet.getLong(5), resultSet.getDate(6).toLocalDate());
+                }
+            }
+        }
+
+        Object valueFor(String name, Parameter parameter, Session session) {
+            Class<?> type = parameter.getType();
+            if (Collection.class.isAssignableFrom(type)) {
+                Class<?> element = (Class<?>) ((ParameterizedType) parameter.getParameterizedType())
+                        .getActualTypeArguments()[0];
+                if (element == UUID.class) {
+                    return List.of(new UUID(0, 1));
+                }
+                return element.isEnum() ? List.of(enumValue(element)) : List.of(employeeId, taskId, projectId);
+            }
+            if (type.isEnum()) {
+                return enumValue(type);
+            }
+            if (type.isAnnotationPresent(Entity.class)) {
+                return session.getReference(type, employeeId);
+            }
+            if (type == UUID.class) {
+                return new UUID(0, 1);
+            }
+            if (type == byte[].class) {
+                return new byte[0];
+            }
+            boolean rangeStart = name.startsWith("start");
+            // Column arrays passed to unnest(), one row each
+            if (type == String[].class) {
+                return new String[]{"ab"};
+            }
+            if (type == LocalDate[].class) {
+                return new LocalDate[]{rangeStart ? day.minusDays(6) : day};
+            }
+            if (type == Long[].class) {
+                return new Long[]{employeeId};
+            }
+            if (type == LocalDate.class) {
+                return rangeStart ? day.minusDays(6) : day;
+            }
+            if (type == LocalDateTime.class) {
+                return rangeStart ? day.minusDays(6).atStartOfDay() : day.plusDays(1).atStartOfDay();
+            }
+            if (type == int.class || type == Integer.class) {
+                return "year".equals(name) ? day.getYear() : 1;
+            }
+            if (type == long.class || type == Long.class) {
+                return switch (name) {
+                    case "employeeId", "firstEmployeeId" -> employeeId;
+                    // One weekly report chunk at the default chunk size
+                    case "lastEmployeeId" -> employeeId + 499;
+                    case "taskId" -> taskId;
+                    case "projectId" -> projectId;
+                    default -> timeEntryId;
+                };
+            }
+            if (type == double.class || type == Double.class) {
+                return 1.0;
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                return true;
+            }
+            if (type == String.class) {
+                return switch (name) {
+                    case "keycloakId" -> keycloakId;
+                    case "department" -> department;
+                    default -> "ab";
+                };
+            }
+            throw new IllegalArgumentException("No sample value for parameter " + name + " of type " + type.getName());
+        }
+
+        // Prefers the states the hot paths filter on
+        private static Object enumValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            for (String preferred : List.of("PENDING", "ACTIVE")) {
+                for (Object constant : constants) {
+                    if (((Enum<?>) constant).name().equals(preferred)) {
+                        return constant;
+                    }
+                }
+            }
+            return constants[0];
+        }
+    }
+
+    /**
+     * DataSource wrapper whose connections, while armed, prepare statements as {@code EXPLAIN (FORMAT JSON)}
+     * and abort the execution after reading the plan.
+     */
+    static final class PlanCapture {
+
+        private final DataSource target;
+        private volatile boolean armed;
+        private volatile String plan;
+
+        PlanCapture(DataSource target) {
+            this.target = target;
+        }
+
+        void arm() {
+            plan = null;
+            armed = true;
+        }
+
+        void disarm() {
+            armed = false;
+        }
+
+        String plan() {
+            return plan;
+        }
+
+        DataSource dataSource() {
+            return proxy(DataSource.class, target, (method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection ? connection(connection) : result;
+            });
+        }
+
+        private Connection connection(Connection connection) {
+            return proxy(Connection.class, connection, (method, args) -> {
+                if (armed && method.getName().equals("prepareStatement") && args[0] instanceof String sql
+                        && isExplainable(sql)) {
+                    Object[] explainArgs = args.clone();
+                    explainArgs[0] = "EXPLAIN (FORMAT JSON) " + sql;
+                    return statement((PreparedStatement) method.invoke(connection, explainArgs));
+                }
+                return method.invoke(connection, args);
+            });
+        }
+
+        private PreparedStatement statement(PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, (method, args) -> {
+                boolean execute = switch (method.getName()) {
+                    case "executeQuery", "executeUpdate", "executeLargeUpdate", "execute" -> args == null;
+                    default -> false;
+                };
+                if (!execute) {
+                    return method.invoke(statement, args);
+                }
+                StringBuilder json = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        json.append(resultSet.getString(1));
+                    }
+                }
+                plan = json.toString();
+                throw new SQLException("Plan captured, statement not executed");
+            });
+        }
+
+        @FunctionalInterface
+        private interface Delegate {
+            Object invoke(Method method, Object[] args) throws Exception;
+        }
+
+        private static <T> T proxy(Class<T> type, Object target, Delegate delegate) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                try {
+                    if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                        return method.invoke(target, args);
+                    }
+                    return delegate.invoke(method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return type.cast(Proxy.newProxyInstance(QueryPlanCheck.class.getClassLoader(), new Class<?>[]{type},
+                    handler));
+        }
+    }
+}
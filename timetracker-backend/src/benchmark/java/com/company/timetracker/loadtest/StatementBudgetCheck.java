@@ -0,0 +1,175 @@
+package com.company.timetracker.loadtest;
+
+import com.company.timetracker.TimeTrackerApplication;
+import com.company.timetracker.config.StatementBudget;
+import com.company.timetracker.config.StatementCountingInspector;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Calls the read endpoints that declare a {@link StatementBudget} through MockMvc, in-process against the load
+ * test database, and fails when a response is not successful or its request issued more SQL statements than the
+ * budget. Statements are counted on the request thread from the handler to the written body, so lazy loads
+ * during serialization count too. Budgeted endpoints without a request below are listed as skipped. Run
+ * after {@link SyntheticDataGenerator}.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.company.timetracker.loadtest.StatementBudgetCheck
+ * </pre>
+ */
+public class StatementBudgetCheck {
+
+    private final MockMvc mockMvc;
+    private final Samples samples;
+
+    StatementBudgetCheck(MockMvc mockMvc, Samples samples) {
+        this.mockMvc = mockMvc;
+        this.samples = samples;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> failures;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TimeTrackerApplication.class)
+                .profiles(System.getProperty("loadtest.profile", "loadtest"))
+                .properties("server.port=0", "app.jpa.statement-budget.enabled=true")
+                .run(args)) {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                    .apply(springSecurity())
+                    .build();
+            Samples samples = Samples.load(context.getBean(JdbcTemplate.class),
+                    Long.getLong("loadtest.plan-employee", 2));
+            failures = new StatementBudgetCheck(mockMvc, samples)
+                    .run(context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class));
+        }
+
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("Statement budget check failed - " + failure));
+            System.exit(1);
+        }
+    }
+
+    List<String> run(RequestMappingHandlerMapping handlerMapping) throws Exception {
+        List<String> failures = new ArrayList<>();
+        Set<Method> exercised = new HashSet<>();
+        for (Map.Entry<String, MockHttpServletRequestBuilder> request : requests().entrySet()) {
+            StatementCountingInspector.reset();
+            MvcResult result = mockMvc.perform(request.getValue()).andReturn();
+            int statements = StatementCountingInspector.count();
+            int status = result.getResponse().getStatus();
+
+            StatementBudget budget = result.getHandler() instanceof HandlerMethod handler
+                    ? handler.getMethodAnnotation(StatementBudget.class) : null;
+            String problem = null;
+            if (budget == null) {
+                problem = "no @StatementBudget on the handler";
+            } else if (status >= 300) {
+                problem = "status " + status;
+            } else if (statements > budget.value()) {
+                problem = statements + " statements, budget is " + budget.value();
+            }
+            if (budget != null) {
+                exercised.add(((HandlerMethod) result.getHandler()).getMethod());
+            }
+            report(problem == null ? "OK" : "FAIL", request.getKey(),
+                    statements + (budget != null ? "/" + budget.value() : "") + " statements");
+            if (problem != null) {
+                failures.add(request.getKey() + ": " + problem);
+            }
+        }
+
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> mapping : handlerMapping.getHandlerMethods().entrySet()) {
+            HandlerMethod handler = mapping.getValue();
+            if (handler.hasMethodAnnotation(StatementBudget.class) && !exercised.contains(handler.getMethod())) {
+                report("SKIP", mapping.getKey().toString(), "(no sample request)");
+            }
+        }
+        return failures;
+    }
+
+    // Read-only requests with sample values from one synthetic employee
+    private Map<String, MockHttpServletRequestBuilder> requests() {
+        LocalDate monday = samples.day().with(DayOfWeek.MONDAY);
+        String employeeId = String.valueOf(samples.employeeId());
+        Map<String, MockHttpServletRequestBuilder> requests = new LinkedHashMap<>();
+        requests.put("GET /api/time-entries/my", asEmployee(get("/api/time-entries/my")
+                .param("startDate", monday.toString()).param("endDate", samples.day().toString())));
+        requests.put("GET /api/time-entries/{id}", asEmployee(get("/api/time-entries/{id}", samples.timeEntryId())));
+        requests.put("GET /api/time-entries/my/summary", asEmployee(get("/api/time-entries/my/summary")));
+        requests.put("GET /api/time-entries?employeeId", asManager(get("/api/time-entries")
+                .param("employeeId", employeeId).param("size", "20")));
+        requests.put("GET /api/time-entries?projectId", asManager(get("/api/time-entries")
+                .param("projectId", String.valueOf(samples.projectId()))
+                .param("startDate", monday.toString()).param("size", "20")));
+        requests.put("GET /api/time-entries/keyset", asManager(get("/api/time-entries/keyset")));
+        requests.put("GET /api/time-entries/reports/daily", asManager(get("/api/time-entries/reports/daily")
+                .param("date", samples.day().toString()).param("employeeId", employeeId)));
+        requests.put("GET /api/time-entries/reports/weekly", asManager(get("/api/time-entries/reports/weekly")
+                .param("startDate", monday.toString()).param("employeeId", employeeId)));
+        requests.put("GET /api/vacation-requests/keyset", asManager(get("/api/vacation-requests/keyset")));
+        requests.put("GET /api/vacation-requests/calendar", asManager(get("/api/vacation-requests/calendar")
+                .param("startDate", monday.toString()).param("endDate", monday.plusDays(6).toString())));
+        requests.put("GET /api/vacation-requests/coverage", asManager(get("/api/vacation-requests/coverage")));
+        requests.put("GET /api/vacation-requests/my/summary", asEmployee(get("/api/vacation-requests/my/summary")
+                .param("year", String.valueOf(samples.day().getYear()))));
+        requests.put("GET /api/projects/{id}/burndown", asManager(get("/api/projects/{id}/burndown",
+                samples.projectId())));
+        return requests;
+    }
+
+    private MockHttpServletRequestBuilder asEmployee(MockHttpServletRequestBuilder request) {
+        return request.with(jwt().jwt(token -> token.subject(samples.keycloakId()))
+                .authorities(new SimpleGrantedAuthority("ROLE_EMPLOYEE")));
+    }
+
+    private MockHttpServletRequestBuilder asManager(MockHttpServletRequestBuilder request) {
+        return request.with(jwt().jwt(token -> token.subject(samples.managerKeycloakId()))
+                .authorities(new SimpleGrantedAuthority("ROLE_MANAGER")));
+    }
+
+    private static void report(String status, String label, String detail) {
+        System.out.printf("%-4s %-72s %s%n", status, label, detail);
+    }
+
+    record Samples(long employeeId, String keycloakId, String managerKeycloakId, long timeEntryId, long projectId,
+                   LocalDate day) {
+
+        static Samples load(JdbcTemplate jdbcTemplate, long employeeId) {
+            String managerKeycloakId = jdbcTemplate.queryForObject(
+                    "SELECT keycloak_id FROM employees WHERE role = 'MANAGER' AND status = 'ACTIVE' ORDER BY id LIMIT 1",
+                    String.class);
+            return jdbcTemplate.queryForObject(
+                    "SELECT e.keycloak_id, te.id, t.project_id, te.work_day "
+                            + "FROM time_entries te JOIN employees e ON e.id = te.employee_id "
+                            + "JOIN tasks t ON t.id = te.task_id "
+                            + "WHERE te.employee_id = ? ORDER BY te.entry_date DESC LIMIT 1",
+                    (resultSet, row) -> new Samples(employeeId, resultSet.getString(1), managerKeycloakId,
+                            resultSet.getLong(2), resultSet.getLong(3), resultSet.getDate(4).toLocalDate()),
+                    employeeId);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.company.timetracker.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads a deterministic synthetic organization into a migrated PostgreSQL schema using {@code COPY}.
+ * Secondary indexes of the activity tables are dropped and aggregate triggers are disabled while
+ * loading; both are rebuilt in one pass afterwards.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.company.timetracker.loadtest.SyntheticDataGenerator \
+ *     -Dloadtest.employees=10000 -Dloadtest.years=1 -Dloadtest.truncate=true
+ * </pre>
+ */
+public class SyntheticDataGenerator {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int PROJECTS_PER_EMPLOYEE = 3;
+    private static final int PENDING_WINDOW_DAYS = 14;
+    private static final String[] ACTIVITY_TABLES = {"time_entries", "vacation_requests"};
+
+    private final SyntheticOrganization organization;
+    private final LocalDateTime createdAt;
+    private final List<String> droppedIndexes = new ArrayList<>();
+
+    public SyntheticDataGenerator(SyntheticOrganization organization) {
+        this.organization = organization;
+        this.createdAt = organization.firstDay.minusDays(30).atTime(8, 0);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("loadtest.jdbc-url", "jdbc:postgresql://localhost:5432/timetracker");
+        String user = System.getProperty("loadtest.db-user", "timetracker");
+        String password = System.getProperty("loadtest.db-password", "timetracker");
+        boolean truncate = Boolean.getBoolean("loadtest.truncate");
+
+        SyntheticOrganization organization = SyntheticOrganization.fromSystemProperties();
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            new SyntheticDataGenerator(organization).load(connection, truncate);
+        }
+    }
+
+    public void load(Connection connection, boolean truncate) throws SQLException, IOException {
+        connection.setAutoCommit(false);
+        prepare(connection, truncate);
+
+        timed("employees", organization.employees, () -> copy(connection,
+                "COPY employees (id, first_name, last_name, email, keycloak_id, role, status, department, position, "
+                        + "hire_date, vacation_days_per_year, remaining_vacation_days, created_at, updated_at) "
+                        + "FROM STDIN WITH (FORMAT csv)", this::writeEmployees));
+        timed("projects", organization.projects, () -> copy(connection,
+                "COPY projects (id, code, name, description, status, start_date, end_date, client_name, created_at, "
+                        + "updated_at) FROM STDIN WITH (FORMAT csv)", this::writeProjects));
+        timed("tasks", organization.tasks(), () -> copy(connection,
+                "COPY tasks (id, code, name, status, priority, estimated_hours, project_id, created_at, updated_at) "
+                        + "FROM STDIN WITH (FORMAT csv)", this::writeTasks));
+        timed("project_employees", (long) organization.employees * PROJECTS_PER_EMPLOYEE, () -> copy(connection,
+                "COPY project_employees (project_id, employee_id) FROM STDIN WITH (FORMAT csv)",
+                this::writeProjectEmployees));
+
+        long start = System.nanoTime();
+        long entries = copyActivity(connection);
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        System.out.printf("Copied %,d time entries and vacation requests in %d ms (%,d time entries/s)%n",
+                entries, millis, entries * 1000 / millis);
+
+        finish(connection);
+        System.out.printf("Loaded %d employees, %d time entries between %s and %s (seed %d)%n",
+                organization.employees, entries, organization.firstDay, organization.lastDay, organization.seed);
+    }
+
+    private void prepare(Connection connection, boolean truncate) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM employees)")) {
+                rs.next();
+                if (rs.getBoolean(1) && !truncate) {
+                    throw new IllegalStateException("Target database already contains employees; "
+                            + "pass -Dloadtest.truncate=true to replace all data");
+                }
+            }
+            if (truncate) {
+                statement.execute("TRUNCATE event_outbox, time_entry_daily_hours, task_daily_hours, time_entries, vacation_balance_ledger, "
+                        + "vacation_balances, vacation_requests, project_employees, tasks, projects, employees "
+                        + "RESTART IDENTITY CASCADE");
+            }
+            statement.execute("ALTER TABLE time_entries DISABLE TRIGGER USER");
+            statement.execute("ALTER TABLE vacation_requests DISABLE TRIGGER USER");
+            dropSecondaryIndexes(statement);
+        }
+    }
+
+    // Indexes that back primary key, unique or exclusion constraints are kept
+    private void dropSecondaryIndexes(Statement statement) throws SQLException {
+        List<String> names = new ArrayList<>();
+        for (String table : ACTIVITY_TABLES) {
+            try (ResultSet rs = statement.executeQuery("SELECT i.indexrelid::regclass::text, "
+                    + "pg_get_indexdef(i.indexrelid) FROM pg_index i "
+                    + "WHERE i.indrelid = '" + table + "'::regclass AND NOT i.indisprimary AND NOT i.indisunique "
+                    + "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)")) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                    droppedIndexes.add(rs.getString(2));
+                }
+            }
+        }
+        for (String name : names) {
+            statement.execute("DROP INDEX " + name);
+        }
+    }
+
+    private void finish(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            long start = System.nanoTime();
+            for (String definition : droppedIndexes) {
+                statement.execute(definition);
+            }
+            System.out.printf("Recreated %d indexes in %d ms%n", droppedIndexes.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            start = System.nanoTime();
+            statement.execute("ANALYZE employees, projects, tasks, time_entries, vacation_requests");
+            rebuildAggregates(statement);
+            statement.execute("ALTER TABLE time_entries ENABLE TRIGGER USER");
+            statement.execute("ALTER TABLE vacation_requests ENABLE TRIGGER USER");
+            for (String table : new String[]{"employees", "projects", "tasks", "time_entries", "vacation_requests"}) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT COALESCE(MAX(id), 1) FROM " + table + "))");
+            }
+            System.out.printf("Rebuilt aggregates in %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    // Mirrors the backfills of the trigger-maintained aggregates
+    private static void rebuildAggregates(Statement statement) throws SQLException {
+        statement.execute("INSERT INTO time_entry_daily_hours (employee_id, work_day, type, status, project_id, "
+                + "hours, entry_count) "
+                + "SELECT te.employee_id, te.work_day, te.type, te.status, t.project_id, SUM(te.hours), COUNT(*) "
+                + "FROM time_entries te LEFT JOIN tasks t ON t.id = te.task_id "
+                + "GROUP BY te.employee_id, te.work_day, te.type, te.status, t.project_id");
+        statement.execute("INSERT INTO vacation_balance_ledger (employee_id, balance_year, type, vacation_request_id, "
+                + "used_days_delta, pending_days_delta, reason) "
+                + "SELECT vr.employee_id, EXTRACT(YEAR FROM vr.start_date)::INTEGER, vr.type, vr.id, "
+                + "CASE WHEN vr.status = 'APPROVED' THEN vr.end_date - vr.start_date + 1 ELSE 0 END, "
+                + "CASE WHEN vr.status = 'PENDING' THEN vr.end_date - vr.start_date + 1 ELSE 0 END, 'OPENING' "
+                + "FROM vacation_requests vr WHERE vr.status IN ('APPROVED', 'PENDING')");
+        statement.execute("INSERT INTO vacation_balances (employee_id, balance_year, type, used_days, pending_days, "
+                + "version) "
+                + "SELECT employee_id, balance_year, type, SUM(used_days_delta), SUM(pending_days_delta), COUNT(*) "
+                + "FROM vacation_balance_ledger GROUP BY employee_id, balance_year, type");
+        statement.execute("INSERT INTO task_daily_hours (task_id, work_day, hours, entry_count) "
+                + "SELECT task_id, work_day, SUM(hours), COUNT(*) FROM time_entries WHERE task_id IS NOT NULL "
+                + "GROUP BY task_id, work_day");
+        statement.execute("UPDATE tasks t SET logged_hours = s.hours "
+                + "FROM (SELECT task_id, SUM(hours) AS hours FROM time_entries WHERE task_id IS NOT NULL "
+                + "GROUP BY task_id) s WHERE s.task_id = t.id");
+        statement.execute("UPDATE projects p SET logged_hours = s.hours "
+                + "FROM (SELECT project_id, SUM(logged_hours) AS hours FROM tasks GROUP BY project_id) s "
+                + "WHERE s.project_id = p.id");
+    }
+
+    private void writeEmployees(Writer out) throws IOException {
+        Random random = new Random(organization.seed);
+        for (long id = 1; id <= organization.employees; id++) {
+            String hireDate = format(organization.firstDay.minusDays(random.nextInt(3650)).atStartOfDay());
+            row(out, id, "First" + id, "Last" + id, organization.email(id), organization.keycloakId(id),
+                    organization.role(id), "ACTIVE", organization.department(id), "Position " + (id % 40),
+                    hireDate, 25, 25, format(createdAt), format(createdAt));
+        }
+    }
+
+    private void writeProjects(Writer out) throws IOException {
+        for (long id = 1; id <= organization.projects; id++) {
+            row(out, id, "LT-" + id, "Project " + id, "Synthetic project " + id, "ACTIVE",
+                    format(organization.firstDay.atStartOfDay()), null, "Client " + (id % 50),
+                    format(createdAt), format(createdAt));
+        }
+    }
+
+    private void writeTasks(Writer out) throws IOException {
+        long id = 1;
+        for (long project = 1; project <= organization.projects; project++) {
+            for (int task = 1; task <= organization.tasksPerProject; task++, id++) {
+                row(out, id, "T-" + task, "Task " + task + " of project " + project, "IN_PROGRESS", "MEDIUM",
+                        40 + (id % 9) * 20, project, format(createdAt), format(createdAt));
+            }
+        }
+    }
+
+    private void writeProjectEmployees(Writer out) throws IOException {
+        for (long employee = 1; employee <= organization.employees; employee++) {
+            for (int i = 0; i < PROJECTS_PER_EMPLOYEE; i++) {
+                row(out, projectOf(employee, i), employee);
+            }
+        }
+    }
+
+    private long projectOf(long employeeId, int slot) {
+        return (employeeId * 7 + slot * 31L) % organization.projects + 1;
+    }
+
+    private long copyActivity(Connection connection) throws SQLException, IOException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long entries = 0;
+        int days = (int) ChronoUnit.DAYS.between(organization.firstDay, organization.lastDay) + 1;
+        LocalDate pendingFrom = organization.lastDay.minusDays(PENDING_WINDOW_DAYS);
+
+        // COPY streams are exclusive per connection, so the two tables are written one after the other
+        // from the same per-employee random sequence.
+        BitSet[] vacationDays = new BitSet[organization.employees + 1];
+        try (Writer vacations = copyWriter(pgConnection, "COPY vacation_requests (id, employee_id, start_date, "
+                + "end_date, type, reason, status, approved_by, approved_at, approval_skipped, created_at, updated_at) "
+                + "FROM STDIN WITH (FORMAT csv)")) {
+            long vacationId = 1;
+            for (long employee = 1; employee <= organization.employees; employee++) {
+                Random random = new Random(organization.seed * 31 + employee);
+                BitSet taken = new BitSet(days);
+                for (int month = 0; month < days / 30; month += 3) {
+                    int offset = month * 30 + random.nextInt(60);
+                    int length = 1 + random.nextInt(10);
+                    if (offset + length >= days) {
+                        continue;
+                    }
+                    LocalDate start = organization.firstDay.plusDays(offset);
+                    LocalDate end = start.plusDays(length - 1);
+                    boolean pending = !end.isBefore(pendingFrom);
+                    String status = pending ? "PENDING" : (random.nextInt(20) == 0 ? "REJECTED" : "APPROVED");
+                    if (!"REJECTED".equals(status)) {
+                        taken.set(offset, offset + length);
+                    }
+                    LocalDateTime requestedAt = start.minusDays(14).atTime(10, 0);
+                    row(vacations, vacationId++, employee, start, end, random.nextInt(8) == 0 ? "SICK_LEAVE" : "ANNUAL_LEAVE",
+                            "Synthetic leave", status, pending ? null : "loadtest",
+                            pending ? null : format(requestedAt.plusDays(1)), false,
+                            format(requestedAt), format(requestedAt));
+                }
+                vacationDays[(int) employee] = taken;
+            }
+        }
+
+        // work_day is written explicitly: the trigger that derives it is disabled with the others
+        try (Writer timeEntries = copyWriter(pgConnection, "COPY time_entries (id, employee_id, task_id, type, "
+                + "entry_date, start_time, end_time, hours, description, status, approved_by, approved_at, created_at, "
+                + "updated_at, work_day) FROM STDIN WITH (FORMAT csv)")) {
+            long entryId = 1;
+            for (long employee = 1; employee <= organization.employees; employee++) {
+                Random random = new Random(organization.seed * 17 + employee);
+                BitSet taken = vacationDays[(int) employee];
+                for (int day = 0; day < days; day++) {
+                    LocalDate date = organization.firstDay.plusDays(day);
+                    if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY
+                            || taken.get(day)) {
+                        continue;
+                    }
+                    boolean pending = !date.isBefore(pendingFrom);
+                    LocalDateTime start = date.atTime(8 + random.nextInt(2), 0);
+                    double presence = 7.5 + random.nextInt(3) * 0.5;
+                    String status = pending ? "PENDING" : (random.nextInt(50) == 0 ? "REJECTED" : "APPROVED");
+                    entry(timeEntries, entryId++, employee, null, "PRESENCE", start, presence, status, random);
+                    entries++;
+
+                    int taskEntries = 1 + random.nextInt(3);
+                    LocalDateTime taskStart = start;
+                    for (int i = 0; i < taskEntries; i++) {
+                        double hours = Math.max(0.5, Math.floor(presence / taskEntries * 2) / 2);
+                        long project = projectOf(employee, random.nextInt(PROJECTS_PER_EMPLOYEE));
+                        long task = (project - 1) * organization.tasksPerProject + 1
+                                + random.nextInt(organization.tasksPerProject);
+                        entry(timeEntries, entryId++, employee, task, "TASK", taskStart, hours, status, random);
+                        taskStart = taskStart.plusMinutes((long) (hours * 60));
+                        entries++;
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void entry(Writer out, long id, long employee, Long task, String type, LocalDateTime start, double hours,
+                       String status, Random random) throws IOException {
+        boolean approved = "APPROVED".equals(status);
+        LocalDateTime end = start.plusMinutes((long) (hours * 60));
+        row(out, id, employee, task, type, format(start), format(start), format(end), hours,
+                type.equals("TASK") ? "Task work " + random.nextInt(1000) : "Office presence", status,
+                approved ? "loadtest" : null, approved ? format(end.plusDays(2)) : null, format(end), format(end),
+                start.toLocalDate());
+    }
+
+    private static Writer copyWriter(PGConnection connection, String sql) throws SQLException {
+        return new BufferedWriter(new OutputStreamWriter(new PGCopyOutputStream(connection, sql, 1 << 16),
+                StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    private static void copy(Connection connection, String sql, RowWriter rows) throws SQLException, IOException {
+        try (Writer out = copyWriter(connection.unwrap(PGConnection.class), sql)) {
+            rows.write(out);
+        }
+    }
+
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0) {
+                out.write('"');
+                out.write(text.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(text);
+            }
+        }
+        out.write('\n');
+    }
+
+    private static String format(LocalDateTime value) {
+        return TIMESTAMP.format(value);
+    }
+
+    private static void timed(String label, long rows, Step step) throws SQLException, IOException {
+        long start = System.nanoTime();
+        step.run();
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        System.out.printf("Copied %,d %s in %d ms (%,d rows/s)%n", rows, label, millis, rows * 1000 / millis);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Writer out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.timetracker.loadtest;
+
+import com.company.timetracker.entity.EmployeeRole;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Shape of the synthetic organization shared by the data generator and the token issuer. Identities
+ * are pure functions of the employee id, so tokens can be issued without reading the database.
+ */
+final class SyntheticOrganization {
+
+    static final String[] DEPARTMENTS = {
+            "Engineering", "Sales", "Marketing", "Finance", "Operations", "Support", "Legal", "HR",
+            "Product", "Design", "Data", "Security", "Facilities", "Procurement", "Research", "Quality",
+            "Logistics", "Consulting", "Training", "Administration"
+    };
+
+    final int employees;
+    final int projects;
+    final int tasksPerProject;
+    final LocalDate firstDay;
+    final LocalDate lastDay;
+    final long seed;
+
+    SyntheticOrganization(int employees, int projects, int tasksPerProject, LocalDate firstDay, LocalDate lastDay,
+                          long seed) {
+        this.employees = employees;
+        this.projects = projects;
+        this.tasksPerProject = tasksPerProject;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.seed = seed;
+    }
+
+    static SyntheticOrganization fromSystemProperties() {
+        int years = Integer.getInteger("loadtest.years", 1);
+        LocalDate lastDay = LocalDate.parse(System.getProperty("loadtest.last-day", "2024-12-31"));
+        return new SyntheticOrganization(
+                Integer.getInteger("loadtest.employees", 10_000),
+                Integer.getInteger("loadtest.projects", 200),
+                Integer.getInteger("loadtest.tasks-per-project", 25),
+                lastDay.minusYears(years).plusDays(1),
+                lastDay,
+                Long.getLong("loadtest.seed", 42L));
+    }
+
+    int tasks() {
+        return projects * tasksPerProject;
+    }
+
+    String keycloakId(long employeeId) {
+        return UUID.nameUUIDFromBytes(("loadtest-" + seed + "-" + employeeId).getBytes()).toString();
+    }
+
+    String email(long employeeId) {
+        return "employee" + employeeId + "@loadtest.company.com";
+    }
+
+    String department(long employeeId) {
+        return DEPARTMENTS[(int) (employeeId % DEPARTMENTS.length)];
+    }
+
+    EmployeeRole role(long employeeId) {
+        if (employeeId == 1) {
+            return EmployeeRole.ADMIN;
+        }
+        if (employeeId % 100 == 2) {
+            return EmployeeRole.HR_MANAGER;
+        }
+        if (employeeId % 12 == 3) {
+            return EmployeeRole.MANAGER;
+        }
+        return EmployeeRole.EMPLOYEE;
+    }
+}
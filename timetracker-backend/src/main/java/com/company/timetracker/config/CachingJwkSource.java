@@ -0,0 +1,152 @@
+package com.company.timetracker.config;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.web.client.RestOperations;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JWK source that keeps the realm key set in memory. The set is fetched at startup, refreshed in the
+ * background, served stale while a refresh is in flight, re-fetched immediately (rate limited) when a
+ * token carries an unknown key id, and falls back to a local key set file when Keycloak is unreachable.
+ */
+@Slf4j
+public class CachingJwkSource implements JWKSource<SecurityContext>, InitializingBean, DisposableBean {
+
+    private final String jwkSetUri;
+    private final RestOperations restOperations;
+    private final Path fallbackFile;
+    private final boolean storeFetchedKeys;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final Clock clock;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwk-set-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile JWKSet jwkSet;
+    private volatile Instant fetchedAt = Instant.EPOCH;
+    private volatile Instant lastAttemptAt = Instant.EPOCH;
+
+    public CachingJwkSource(String jwkSetUri, RestOperations restOperations, Path fallbackFile, boolean storeFetchedKeys,
+                            Duration refreshInterval, Duration minRefreshInterval, Clock clock) {
+        this.jwkSetUri = jwkSetUri;
+        this.restOperations = restOperations;
+        this.fallbackFile = fallbackFile;
+        this.storeFetchedKeys = storeFetchedKeys;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!refresh()) {
+            loadFallback();
+        }
+        long periodMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet current = jwkSet;
+        if (current == null) {
+            if (!refresh() && !loadFallback()) {
+                throw new KeySourceException("No JWK set available from " + jwkSetUri + " or fallback file");
+            }
+            current = jwkSet;
+        }
+
+        List<JWK> matches = jwkSelector.select(current);
+        if (matches.isEmpty() && clock.instant().isAfter(lastAttemptAt.plus(minRefreshInterval))) {
+            // Unknown key id: Keycloak has most likely rotated its keys
+            log.info("No matching JWK in cached set, refreshing from {}", jwkSetUri);
+            refresh();
+            matches = jwkSelector.select(jwkSet);
+        } else if (clock.instant().isAfter(fetchedAt.plus(refreshInterval))
+                && clock.instant().isAfter(lastAttemptAt.plus(minRefreshInterval))) {
+            scheduler.execute(this::refresh);
+        }
+        return matches;
+    }
+
+    boolean refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return jwkSet != null;
+        }
+        lastAttemptAt = clock.instant();
+        try {
+            String body = restOperations.getForObject(jwkSetUri, String.class);
+            JWKSet fetched = JWKSet.parse(body);
+            jwkSet = fetched;
+            fetchedAt = clock.instant();
+            log.debug("Fetched {} keys from {}", fetched.getKeys().size(), jwkSetUri);
+            storeFallback(fetched);
+            return true;
+        } catch (RuntimeException | ParseException e) {
+            log.warn("Could not refresh JWK set from {}, keeping {} keys: {}", jwkSetUri,
+                    jwkSet != null ? "cached" : "no", e.getMessage());
+            return false;
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private boolean loadFallback() {
+        if (fallbackFile == null || !Files.isReadable(fallbackFile)) {
+            return false;
+        }
+        try {
+            jwkSet = JWKSet.load(fallbackFile.toFile());
+            log.warn("Using fallback JWK set from {} ({} keys)", fallbackFile, jwkSet.getKeys().size());
+            return true;
+        } catch (IOException | ParseException e) {
+            log.error("Could not read fallback JWK set from {}", fallbackFile, e);
+            return false;
+        }
+    }
+
+    private void storeFallback(JWKSet fetched) {
+        if (!storeFetchedKeys || fallbackFile == null) {
+            return;
+        }
+        try {
+            Path temp = Files.createTempFile(fallbackFile.toAbsolutePath().getParent(), "jwks", ".tmp");
+            Files.writeString(temp, fetched.toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, fallbackFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not store fetched JWK set to {}: {}", fallbackFile, e.getMessage());
+        }
+    }
+}
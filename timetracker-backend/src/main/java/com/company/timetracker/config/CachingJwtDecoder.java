@@ -0,0 +1,81 @@
+package com.company.timetracker.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Remembers tokens that already passed signature and claim validation, keyed by the SHA-256 of the
+ * raw token, until they expire. Repeated calls from the same SPA session skip RSA verification.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<String, Jwt> validated;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maximumTtl, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.validated = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                        return remainingNanos(jwt, maximumTtl);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return remainingNanos(jwt, maximumTtl);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = validated.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt() != null && cached.getExpiresAt().isAfter(clock.instant())) {
+            return cached;
+        }
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            validated.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private long remainingNanos(Jwt jwt, Duration maximumTtl) {
+        Duration remaining = Duration.between(clock.instant(), jwt.getExpiresAt());
+        if (remaining.isNegative()) {
+            return 0;
+        }
+        return Math.min(remaining.toNanos(), maximumTtl.toNanos());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
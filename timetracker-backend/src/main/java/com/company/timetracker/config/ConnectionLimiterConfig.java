@@ -0,0 +1,45 @@
+package com.company.timetracker.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts a {@link ConnectionLimitingDataSource} in front of the connection pool. Enabled by the
+ * {@code virtual-threads} profile.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.connection-limiter", name = "enabled", havingValue = "true")
+public class ConnectionLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${app.datasource.connection-limiter.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrent,
+            @Value("${app.datasource.connection-limiter.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+                limiter.bindTo(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.timetracker.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers HQL functions for inclusive date interval predicates, rendered as PostgreSQL range operators
+ * over {@code daterange(start, end, '[]')} so they can use the interval (GiST) indexes built on that
+ * expression. Discovered by Hibernate through {@code META-INF/services}.
+ */
+public class DateRangeFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        // date_ranges_overlap(start, end, fromDay, toDay)
+        registry.registerPattern("date_ranges_overlap",
+                "(daterange(?1, ?2, '[]') && daterange(CAST(?3 AS date), CAST(?4 AS date), '[]'))", booleanType);
+        // date_range_contains(start, end, day)
+        registry.registerPattern("date_range_contains",
+                "(daterange(?1, ?2, '[]') @> CAST(?3 AS date))", booleanType);
+    }
+}
@@ -0,0 +1,252 @@
+package com.company.timetracker.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Single route to role table, compiled at startup into a path-segment trie with per-method rules.
+ * A request is authorized with one walk over its path segments. Literal segments win over {@code *}
+ * (exactly one segment), which wins over a trailing {@code **} (zero or more segments); a rule for the
+ * request method wins over a rule for any method. GET rules also cover HEAD, which Spring MVC serves with
+ * the GET handler. A method without a rule on a path that has rules for other methods is denied; paths
+ * without any rule only require authentication.
+ */
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+    private static final Rule AUTHENTICATED = new Rule(false, null);
+    private static final Rule DENY_ALL = new Rule(false, Set.of());
+
+    private final Node root;
+
+    private RouteAuthorizationManager(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return check(authentication.get(), context.getRequest());
+    }
+
+    AuthorizationDecision check(Authentication authentication, HttpServletRequest request) {
+        Rule rule = match(request.getMethod(), requestPath(request));
+        if (rule.permitAll) {
+            return GRANTED;
+        }
+        if (authentication == null || !authentication.isAuthenticated() || TRUST_RESOLVER.isAnonymous(authentication)) {
+            return DENIED;
+        }
+        if (rule.authorities == null) {
+            return GRANTED;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (rule.authorities.contains(authority.getAuthority())) {
+                return GRANTED;
+            }
+        }
+        return DENIED;
+    }
+
+    Rule match(String method, String path) {
+        List<String> segments = segments(path);
+        Rule rule = match(root, segments, 0, method);
+        if (rule != null) {
+            return rule;
+        }
+        return isMapped(root, segments, 0) ? DENY_ALL : AUTHENTICATED;
+    }
+
+    // Whether any rule, for any method, covers the path
+    private static boolean isMapped(Node node, List<String> segments, int index) {
+        if (node.hasCatchAllRules()) {
+            return true;
+        }
+        if (index == segments.size()) {
+            return node.hasRules();
+        }
+        Node literal = node.literals.get(segments.get(index));
+        return (literal != null && isMapped(literal, segments, index + 1))
+                || (node.wildcard != null && isMapped(node.wildcard, segments, index + 1));
+    }
+
+    private static Rule match(Node node, List<String> segments, int index, String method) {
+        if (index == segments.size()) {
+            Rule rule = node.ruleFor(method);
+            return rule != null ? rule : node.catchAllRuleFor(method);
+        }
+        Node literal = node.literals.get(segments.get(index));
+        if (literal != null) {
+            Rule rule = match(literal, segments, index + 1, method);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        if (node.wildcard != null) {
+            Rule rule = match(node.wildcard, segments, index + 1, method);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return node.catchAllRuleFor(method);
+    }
+
+    private static String requestPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo != null ? request.getServletPath() + pathInfo : request.getServletPath();
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int start = 0;
+        int length = path.length();
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                segments.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    static final class Rule {
+
+        private final boolean permitAll;
+        private final Set<String> authorities;
+
+        private Rule(boolean permitAll, Set<String> authorities) {
+            this.permitAll = permitAll;
+            this.authorities = authorities;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private final Map<String, Rule> rulesByMethod = new HashMap<>();
+        private Rule anyMethodRule;
+        private final Map<String, Rule> catchAllByMethod = new HashMap<>();
+        private Rule catchAllAnyMethodRule;
+
+        private Rule ruleFor(String method) {
+            Rule rule = rulesByMethod.get(method);
+            return rule != null ? rule : anyMethodRule;
+        }
+
+        private Rule catchAllRuleFor(String method) {
+            Rule rule = catchAllByMethod.get(method);
+            return rule != null ? rule : catchAllAnyMethodRule;
+        }
+
+        private boolean hasRules() {
+            return anyMethodRule != null || !rulesByMethod.isEmpty();
+        }
+
+        private boolean hasCatchAllRules() {
+            return catchAllAnyMethodRule != null || !catchAllByMethod.isEmpty();
+        }
+    }
+
+    public static final class Builder {
+
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        public Builder permitAll(String pattern) {
+            return add(null, pattern, new Rule(true, null));
+        }
+
+        public Builder authenticated(String pattern) {
+            return add(null, pattern, AUTHENTICATED);
+        }
+
+        public Builder hasAnyRole(String pattern, String... roles) {
+            return add(null, pattern, roleRule(roles));
+        }
+
+        public Builder hasAnyRole(HttpMethod method, String pattern, String... roles) {
+            return add(method, pattern, roleRule(roles));
+        }
+
+        public RouteAuthorizationManager build() {
+            return new RouteAuthorizationManager(root);
+        }
+
+        private static Rule roleRule(String... roles) {
+            return new Rule(false, Arrays.stream(roles)
+                    .map(role -> "ROLE_" + role)
+                    .collect(Collectors.toUnmodifiableSet()));
+        }
+
+        private Builder add(HttpMethod method, String pattern, Rule rule) {
+            List<String> segments = segments(pattern);
+            boolean catchAll = !segments.isEmpty() && "**".equals(segments.get(segments.size() - 1));
+            int depth = catchAll ? segments.size() - 1 : segments.size();
+
+            Node node = root;
+            for (int i = 0; i < depth; i++) {
+                String segment = segments.get(i);
+                if ("**".equals(segment)) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + pattern);
+                }
+                if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                    if (node.wildcard == null) {
+                        node.wildcard = new Node();
+                    }
+                    node = node.wildcard;
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+
+            Map<String, Rule> rules = catchAll ? node.catchAllByMethod : node.rulesByMethod;
+            if (method != null) {
+                if (rules.putIfAbsent(method.name(), rule) != null) {
+                    throw new IllegalArgumentException("Duplicate route: " + method + " " + pattern);
+                }
+                if (HttpMethod.GET.equals(method) && rules.putIfAbsent(HttpMethod.HEAD.name(), rule) != null) {
+                    throw new IllegalArgumentException("Duplicate route: HEAD " + pattern);
+                }
+            } else if (catchAll) {
+                if (node.catchAllAnyMethodRule != null) {
+                    throw new IllegalArgumentException("Duplicate route: " + pattern);
+                }
+                node.catchAllAnyMethodRule = rule;
+            } else {
+                if (node.anyMethodRule != null) {
+                    throw new IllegalArgumentException("Duplicate route: " + pattern);
+                }
+                node.anyMethodRule = rule;
+            }
+            return this;
+        }
+    }
+}
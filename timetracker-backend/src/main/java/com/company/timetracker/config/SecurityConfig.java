@@ -1,10 +1,14 @@
 package com.company.timetracker.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -13,83 +17,59 @@ import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
 @Configuration
 @EnableWebSecurity
-@EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final String[] ALL_ROLES = {"EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN"};
+    private static final String[] MANAGER_ROLES = {"MANAGER", "HR_MANAGER", "ADMIN"};
+
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
     private String jwkSetUri;
 
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
+    @Value("${app.security.jwk.refresh-interval:5m}")
+    private Duration jwkRefreshInterval;
+
+    @Value("${app.security.jwk.min-refresh-interval:30s}")
+    private Duration jwkMinRefreshInterval;
+
+    @Value("${app.security.jwk.fetch-timeout:3s}")
+    private Duration jwkFetchTimeout;
+
+    @Value("${app.security.jwk.fallback-file:}")
+    private String jwkFallbackFile;
+
+    @Value("${app.security.jwk.store-fetched-keys:false}")
+    private boolean storeFetchedJwks;
+
+    @Value("${app.security.token-cache.maximum-size:10000}")
+    private long tokenCacheMaximumSize;
+
+    @Value("${app.security.token-cache.maximum-ttl:15m}")
+    private Duration tokenCacheMaximumTtl;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .authorizeHttpRequests(authz -> authz
-                // Public endpoints
-                .requestMatchers("/api/actuator/**").permitAll()
-                .requestMatchers("/api/health/**").permitAll()
-                .requestMatchers("/api/swagger-ui/**").permitAll()
-                .requestMatchers("/api/v3/api-docs/**").permitAll()
-                
-                // Employee endpoints
-                .requestMatchers(HttpMethod.GET, "/api/employees/me").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PUT, "/api/employees/me").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.GET, "/api/employees").hasAnyRole("MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.POST, "/api/employees").hasAnyRole("HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PUT, "/api/employees/**").hasAnyRole("HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.DELETE, "/api/employees/**").hasRole("ADMIN")
-                
-                // Project endpoints
-                .requestMatchers(HttpMethod.GET, "/api/projects").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.GET, "/api/projects/**").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.POST, "/api/projects").hasAnyRole("MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PUT, "/api/projects/**").hasAnyRole("MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.DELETE, "/api/projects/**").hasRole("ADMIN")
-                
-                // Task endpoints
-                .requestMatchers(HttpMethod.GET, "/api/tasks").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.GET, "/api/tasks/**").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.POST, "/api/tasks").hasAnyRole("MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PUT, "/api/tasks/**").hasAnyRole("MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.DELETE, "/api/tasks/**").hasAnyRole("MANAGER", "ADMIN")
-                
-                // Time entry endpoints
-                .requestMatchers(HttpMethod.GET, "/api/time-entries/my").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.POST, "/api/time-entries").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PUT, "/api/time-entries/**").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.DELETE, "/api/time-entries/**").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.GET, "/api/time-entries").hasAnyRole("MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PATCH, "/api/time-entries/**/approve").hasAnyRole("MANAGER", "HR_MANAGER", "ADMIN")
-                
-                // Vacation request endpoints
-                .requestMatchers(HttpMethod.GET, "/api/vacation-requests/my").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.POST, "/api/vacation-requests").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PUT, "/api/vacation-requests/**").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.DELETE, "/api/vacation-requests/**").hasAnyRole("EMPLOYEE", "MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.GET, "/api/vacation-requests").hasAnyRole("MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PATCH, "/api/vacation-requests/**/approve").hasAnyRole("MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PATCH, "/api/vacation-requests/**/reject").hasAnyRole("MANAGER", "HR_MANAGER", "ADMIN")
-                .requestMatchers(HttpMethod.PATCH, "/api/vacation-requests/**/skip-approval").hasAnyRole("HR_MANAGER", "ADMIN")
-                
-                // Admin endpoints
-                .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                
-                // All other requests require authentication
-                .anyRequest().authenticated()
-            )
+            .authorizeHttpRequests(authz -> authz.anyRequest().access(routeAuthorizationManager()))
             .oauth2ResourceServer(oauth2 -> oauth2
                 .jwt(jwt -> jwt
                     .decoder(jwtDecoder())
@@ -100,9 +80,106 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean
+    public RouteAuthorizationManager routeAuthorizationManager() {
+        return RouteAuthorizationManager.builder()
+            // Public endpoints
+            .permitAll("/api/actuator/**")
+            .permitAll("/api/health/**")
+            .permitAll("/api/swagger-ui/**")
+            .permitAll("/api/v3/api-docs/**")
+
+            // Employee endpoints
+            .hasAnyRole(HttpMethod.GET, "/api/employees/me", ALL_ROLES)
+            .hasAnyRole(HttpMethod.PUT, "/api/employees/me", ALL_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/employees", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/employees/*", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.POST, "/api/employees", "HR_MANAGER", "ADMIN")
+            .hasAnyRole(HttpMethod.PUT, "/api/employees/**", "HR_MANAGER", "ADMIN")
+            .hasAnyRole(HttpMethod.DELETE, "/api/employees/**", "ADMIN")
+
+            // Project endpoints
+            .hasAnyRole(HttpMethod.GET, "/api/projects/*/burndown", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/projects/**", ALL_ROLES)
+            .hasAnyRole(HttpMethod.POST, "/api/projects", "MANAGER", "ADMIN")
+            .hasAnyRole(HttpMethod.PUT, "/api/projects/**", "MANAGER", "ADMIN")
+            .hasAnyRole(HttpMethod.DELETE, "/api/projects/**", "ADMIN")
+
+            // Task endpoints
+            .hasAnyRole(HttpMethod.GET, "/api/tasks/**", ALL_ROLES)
+            .hasAnyRole(HttpMethod.POST, "/api/tasks", "MANAGER", "ADMIN")
+            .hasAnyRole(HttpMethod.PUT, "/api/tasks/**", "MANAGER", "ADMIN")
+            .hasAnyRole(HttpMethod.DELETE, "/api/tasks/**", "MANAGER", "ADMIN")
+
+            // Time entry endpoints
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.POST, "/api/time-entries", ALL_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries/my", ALL_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries/my/summary", ALL_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries/keyset", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries/export", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries/reports/**", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries/pending/stream", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.POST, "/api/time-entries/bulk", ALL_ROLES)
+            .hasAnyRole(HttpMethod.POST, "/api/time-entries/bulk/ingest", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/time-entries/*", ALL_ROLES)
+            .hasAnyRole(HttpMethod.PUT, "/api/time-entries/*", ALL_ROLES)
+            .hasAnyRole(HttpMethod.DELETE, "/api/time-entries/*", ALL_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/time-entries/*/approve", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/time-entries/*/reject", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/time-entries/approve", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/time-entries/reject", MANAGER_ROLES)
+
+            // Vacation request endpoints
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.POST, "/api/vacation-requests", ALL_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/my", ALL_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/my/summary", ALL_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/keyset", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/pending", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/pending/stream", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/calendar", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/coverage", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/vacation-requests/*", ALL_ROLES)
+            .hasAnyRole(HttpMethod.PUT, "/api/vacation-requests/*", ALL_ROLES)
+            .hasAnyRole(HttpMethod.DELETE, "/api/vacation-requests/*", ALL_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/vacation-requests/*/approve", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/vacation-requests/*/reject", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/vacation-requests/*/skip-approval", "HR_MANAGER", "ADMIN")
+            .hasAnyRole(HttpMethod.PATCH, "/api/vacation-requests/approve", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.PATCH, "/api/vacation-requests/reject", MANAGER_ROLES)
+
+            // Asynchronous report jobs, same audience as the reports they run
+            .hasAnyRole(HttpMethod.POST, "/api/reports/jobs", MANAGER_ROLES)
+            .hasAnyRole(HttpMethod.GET, "/api/reports/jobs/**", MANAGER_ROLES)
+
+            // Admin endpoints
+            .hasAnyRole(HttpMethod.GET, "/api/admin/analytics/**", "HR_MANAGER", "ADMIN")
+            .hasAnyRole("/api/admin/**", "ADMIN")
+
+            // Other methods on the paths above are denied, other paths require authentication
+            .build();
+    }
+
+    @Bean
+    public CachingJwkSource jwkSource() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) jwkFetchTimeout.toMillis());
+        requestFactory.setReadTimeout((int) jwkFetchTimeout.toMillis());
+        Path fallbackFile = StringUtils.hasText(jwkFallbackFile) ? Path.of(jwkFallbackFile) : null;
+        return new CachingJwkSource(jwkSetUri, new RestTemplate(requestFactory), fallbackFile, storeFetchedJwks,
+                jwkRefreshInterval, jwkMinRefreshInterval, Clock.systemUTC());
+    }
+
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource()));
+        // Claims are validated by Spring's JwtValidators in NimbusJwtDecoder
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        return new CachingJwtDecoder(nimbusJwtDecoder, tokenCacheMaximumSize, tokenCacheMaximumTtl, Clock.systemUTC());
     }
 
     @Bean
@@ -0,0 +1,43 @@
+package com.company.timetracker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "app.jpa.statement-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class StatementBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${app.jpa.statement-budget.enforce:false}")
+    private boolean enforce;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(StatementBudget.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StatementBudget budget = returnType.getMethodAnnotation(StatementBudget.class);
+        int statements = StatementCountingInspector.count();
+        if (budget != null && statements > budget.value()) {
+            String message = String.format("%s %s issued %d SQL statements, budget is %d",
+                    request.getMethod(), request.getURI().getPath(), statements, budget.value());
+            if (enforce) {
+                throw new IllegalStateException(message);
+            }
+            log.warn(message);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.timetracker.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNTER.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNTER.get()[0];
+    }
+}
@@ -0,0 +1,90 @@
+package com.company.timetracker.controller;
+
+import com.company.timetracker.config.StatementBudget;
+import com.company.timetracker.dto.TimeEntryAnalyticsDTO;
+import com.company.timetracker.dto.TimeEntryAnalyticsDTO.Snapshot;
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.entity.TimeEntryType;
+import com.company.timetracker.service.TimeEntryAnalyticsIndex;
+import com.company.timetracker.service.TimeEntryAnalyticsIndex.Dimension;
+import com.company.timetracker.service.TimeEntryAnalyticsIndex.Filter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class AnalyticsController {
+
+    private final TimeEntryAnalyticsIndex timeEntryAnalyticsIndex;
+
+    @GetMapping
+    @StatementBudget(0)
+    public ResponseEntity<Snapshot> getSnapshot() {
+        return ResponseEntity.ok(timeEntryAnalyticsIndex.snapshot());
+    }
+
+    @GetMapping("/hours")
+    @StatementBudget(0)
+    public ResponseEntity<TimeEntryAnalyticsDTO> getHours(
+            @RequestParam(defaultValue = "DEPARTMENT,PROJECT,MONTH") List<String> groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) List<Long> employeeId,
+            @RequestParam(required = false) List<String> department,
+            @RequestParam(required = false) List<Long> projectId,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(defaultValue = "10000") int limit) {
+        log.info("Getting analytics hours by {} from {} to {}", groupBy, startDate, endDate);
+        Filter filter = new Filter(startDate, endDate, toSet(employeeId), toSet(department), toSet(projectId),
+                parse(TimeEntryType.class, type), parse(TimeEntryStatus.class, status));
+        List<Dimension> dimensions = groupBy.stream()
+                .map(value -> parseValue(Dimension.class, value))
+                .toList();
+        return ResponseEntity.ok(timeEntryAnalyticsIndex.aggregate(filter, dimensions, limit));
+    }
+
+    @PostMapping("/refresh")
+    @StatementBudget(1)
+    public ResponseEntity<Snapshot> refresh() {
+        log.info("Refreshing analytics snapshot");
+        timeEntryAnalyticsIndex.refresh();
+        return ResponseEntity.ok(timeEntryAnalyticsIndex.snapshot());
+    }
+
+    private static <T> Set<T> toSet(List<T> values) {
+        return values != null ? new HashSet<>(values) : null;
+    }
+
+    private static <E extends Enum<E>> Set<E> parse(Class<E> type, List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        Set<E> parsed = new HashSet<>();
+        values.forEach(value -> parsed.add(parseValue(type, value)));
+        return parsed;
+    }
+
+    private static <E extends Enum<E>> E parseValue(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Invalid " + type.getSimpleName() + ": " + value);
+        }
+    }
+}
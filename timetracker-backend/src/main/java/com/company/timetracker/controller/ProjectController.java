@@ -0,0 +1,33 @@
+package com.company.timetracker.controller;
+
+import com.company.timetracker.config.StatementBudget;
+import com.company.timetracker.dto.ProjectBurndownDTO;
+import com.company.timetracker.service.ProjectBurndownService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class ProjectController {
+
+    private final ProjectBurndownService projectBurndownService;
+
+    @GetMapping("/{id}/burndown")
+    @StatementBudget(4)
+    public ResponseEntity<ProjectBurndownDTO> getBurndown(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("Getting burn-down of project {} task {} from {} to {}", id, taskId, startDate, endDate);
+        return ResponseEntity.ok(projectBurndownService.getBurndown(id, taskId, startDate, endDate));
+    }
+}
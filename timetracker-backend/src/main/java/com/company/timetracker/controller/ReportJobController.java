@@ -0,0 +1,92 @@
+package com.company.timetracker.controller;
+
+import com.company.timetracker.config.StatementBudget;
+import com.company.timetracker.dto.ReportJobDTO;
+import com.company.timetracker.dto.ReportJobRequestDTO;
+import com.company.timetracker.entity.ReportJob;
+import com.company.timetracker.entity.ReportJobStatus;
+import com.company.timetracker.service.ReportJobRunner;
+import com.company.timetracker.service.ReportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Asynchronous variants of the time reports and the vacation calendar for long ranges: submit, poll the
+ * job, then download the JSON result. Identical submissions are answered with the existing job.
+ */
+@RestController
+@RequestMapping("/api/reports/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class ReportJobController {
+
+    private final ReportJobRunner reportJobRunner;
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    @StatementBudget(4)
+    public ResponseEntity<ReportJobDTO> submitReportJob(@RequestBody ReportJobRequestDTO request,
+                                                        Authentication authentication) {
+        log.info("Submitting {} report job from {} to {} for user: {}", request.getKind(), request.getStartDate(),
+                request.getEndDate(), authentication.getName());
+        ReportJob job = reportJobRunner.submit(request, authentication.getName()).job();
+        // Completed jobs are cached results and can be downloaded right away
+        HttpStatus status = job.getStatus() == ReportJobStatus.COMPLETED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.status(status)
+                .location(location)
+                .body(ReportJobDTO.of(job));
+    }
+
+    @GetMapping("/{id}")
+    @StatementBudget(1)
+    public ResponseEntity<ReportJobDTO> getReportJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(ReportJobDTO.of(reportJobService.getJob(id)));
+    }
+
+    @GetMapping("/{id}/result")
+    @StatementBudget(2)
+    public ResponseEntity<StreamingResponseBody> getReportJobResult(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("Downloading result of report job {}", id);
+        byte[] result = reportJobService.getResult(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("report-" + id + ".json")
+                        .build()
+                        .toString());
+        // Results are stored gzipped; only clients that cannot take that get them inflated
+        if (acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(result.length)
+                    .body(outputStream -> outputStream.write(result));
+        }
+        return response.body(outputStream -> {
+            try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(result))) {
+                input.transferTo(outputStream);
+            }
+        });
+    }
+}
@@ -1,17 +1,33 @@
 package com.company.timetracker.controller;
 
+import com.company.timetracker.config.StatementBudget;
+import com.company.timetracker.dto.BulkIngestionResultDTO;
+import com.company.timetracker.dto.BulkApprovalRequestDTO;
+import com.company.timetracker.dto.BulkApprovalResultDTO;
+import com.company.timetracker.dto.CursorSlice;
 import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.dto.TimeEntryFilter;
+import com.company.timetracker.service.PendingApprovalStream;
+import com.company.timetracker.service.TimeEntryApprovalService;
+import com.company.timetracker.service.TimeEntryExportService;
+import com.company.timetracker.service.TimeEntryIngestionQueue;
+import com.company.timetracker.service.TimeEntryQueryService;
+import com.company.timetracker.service.TimeEntryReportService;
 import com.company.timetracker.service.TimeEntryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.time.LocalDate;
@@ -26,22 +42,28 @@ import java.util.Map;
 public class TimeEntryController {
 
     private final TimeEntryService timeEntryService;
+    private final TimeEntryApprovalService timeEntryApprovalService;
+    private final TimeEntryReportService timeEntryReportService;
+    private final TimeEntryExportService timeEntryExportService;
+    private final TimeEntryQueryService timeEntryQueryService;
+    private final TimeEntryIngestionQueue timeEntryIngestionQueue;
+    private final PendingApprovalStream pendingApprovalStream;
 
     @GetMapping("/my")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(1)
     public ResponseEntity<List<TimeEntryDTO>> getMyTimeEntries(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) String type,
             Authentication authentication) {
         log.info("Getting time entries for user: {} from {} to {}", authentication.getName(), startDate, endDate);
-        List<TimeEntryDTO> entries = timeEntryService.getTimeEntriesByKeycloakId(
+        List<TimeEntryDTO> entries = timeEntryQueryService.getMyTimeEntries(
                 authentication.getName(), startDate, endDate, type);
         return ResponseEntity.ok(entries);
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<Page<TimeEntryDTO>> getAllTimeEntries(
             @RequestParam(required = false) Long employeeId,
             @RequestParam(required = false) Long taskId,
@@ -53,21 +75,72 @@ public class TimeEntryController {
             Pageable pageable) {
         log.info("Getting all time entries with filters - employeeId: {}, taskId: {}, projectId: {}", 
                 employeeId, taskId, projectId);
-        Page<TimeEntryDTO> entries = timeEntryService.getAllTimeEntries(
-                employeeId, taskId, projectId, startDate, endDate, type, status, pageable);
+        TimeEntryFilter filter = TimeEntryFilter.of(employeeId, taskId, projectId, startDate, endDate, type, status);
+        Page<TimeEntryDTO> entries = timeEntryQueryService.getTimeEntries(filter, pageable);
         return ResponseEntity.ok(entries);
     }
 
+    @GetMapping("/keyset")
+    @StatementBudget(1)
+    public ResponseEntity<CursorSlice<TimeEntryDTO>> getTimeEntriesKeyset(
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + TimeEntryQueryService.DEFAULT_SLICE_SIZE) int size) {
+        log.info("Getting time entries after cursor {} with filters - employeeId: {}, taskId: {}, projectId: {}",
+                after, employeeId, taskId, projectId);
+        TimeEntryFilter filter = TimeEntryFilter.of(employeeId, taskId, projectId, startDate, endDate, type, status);
+        CursorSlice<TimeEntryDTO> entries = timeEntryQueryService.getTimeEntriesAfter(filter, after, size);
+        return ResponseEntity.ok(entries);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTimeEntries(
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "csv") String format) {
+        log.info("Exporting time entries as {} with filters - employeeId: {}, taskId: {}, projectId: {}, from {} to {}",
+                format, employeeId, taskId, projectId, startDate, endDate);
+        TimeEntryFilter filter = TimeEntryFilter.of(employeeId, taskId, projectId, startDate, endDate, type, status);
+        TimeEntryExportService.Format exportFormat = TimeEntryExportService.Format.from(format);
+        StreamingResponseBody body = outputStream -> timeEntryExportService.export(filter, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("time-entries." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping(value = "/pending/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPendingTimeEntries(Authentication authentication) {
+        log.info("Opening pending time entries stream for user: {}", authentication.getName());
+        // Keeps the ingress from buffering events
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(pendingApprovalStream.subscribe(PendingApprovalStream.Queue.TIME_ENTRIES));
+    }
+
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<TimeEntryDTO> getTimeEntry(@PathVariable Long id, Authentication authentication) {
         log.info("Getting time entry {} for user: {}", id, authentication.getName());
-        TimeEntryDTO entry = timeEntryService.getTimeEntryById(id, authentication.getName());
+        TimeEntryDTO entry = timeEntryQueryService.getTimeEntry(id, authentication.getName());
         return ResponseEntity.ok(entry);
     }
 
     @PostMapping
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<TimeEntryDTO> createTimeEntry(
             @Valid @RequestBody TimeEntryDTO timeEntryDTO, 
             Authentication authentication) {
@@ -77,7 +150,6 @@ public class TimeEntryController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<TimeEntryDTO> updateTimeEntry(
             @PathVariable Long id,
             @Valid @RequestBody TimeEntryDTO timeEntryDTO,
@@ -88,7 +160,6 @@ public class TimeEntryController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<Void> deleteTimeEntry(@PathVariable Long id, Authentication authentication) {
         log.info("Deleting time entry {} for user: {}", id, authentication.getName());
         timeEntryService.deleteTimeEntry(id, authentication.getName());
@@ -96,54 +167,71 @@ public class TimeEntryController {
     }
 
     @PatchMapping("/{id}/approve")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<TimeEntryDTO> approveTimeEntry(@PathVariable Long id, Authentication authentication) {
         log.info("Approving time entry {} by user: {}", id, authentication.getName());
-        TimeEntryDTO approvedEntry = timeEntryService.approveTimeEntry(id, authentication.getName());
+        TimeEntryDTO approvedEntry = timeEntryApprovalService.approve(id, authentication.getName());
         return ResponseEntity.ok(approvedEntry);
     }
 
     @PatchMapping("/{id}/reject")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<TimeEntryDTO> rejectTimeEntry(@PathVariable Long id, Authentication authentication) {
         log.info("Rejecting time entry {} by user: {}", id, authentication.getName());
-        TimeEntryDTO rejectedEntry = timeEntryService.rejectTimeEntry(id, authentication.getName());
+        TimeEntryDTO rejectedEntry = timeEntryApprovalService.reject(id, authentication.getName());
         return ResponseEntity.ok(rejectedEntry);
     }
 
+    @PatchMapping("/approve")
+    @StatementBudget(3)
+    public ResponseEntity<BulkApprovalResultDTO> approveTimeEntries(@RequestBody BulkApprovalRequestDTO request,
+                                                                    Authentication authentication) {
+        log.info("Approving time entries in bulk by user: {}", authentication.getName());
+        BulkApprovalResultDTO result = timeEntryApprovalService.approveAll(request, authentication.getName());
+        return ResponseEntity.ok(result);
+    }
+
+    @PatchMapping("/reject")
+    @StatementBudget(3)
+    public ResponseEntity<BulkApprovalResultDTO> rejectTimeEntries(@RequestBody BulkApprovalRequestDTO request,
+                                                                   Authentication authentication) {
+        log.info("Rejecting time entries in bulk by user: {}", authentication.getName());
+        BulkApprovalResultDTO result = timeEntryApprovalService.rejectAll(request, authentication.getName());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/my/summary")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(1)
     public ResponseEntity<TimeEntrySummaryDTO> getMyTimeEntrySummary(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             Authentication authentication) {
         log.info("Getting time entry summary for user: {} from {} to {}", authentication.getName(), startDate, endDate);
-        TimeEntrySummaryDTO summary = timeEntryService.getTimeEntrySummary(authentication.getName(), startDate, endDate);
+        TimeEntrySummaryDTO summary = timeEntryReportService.getTimeEntrySummary(authentication.getName(), startDate, endDate);
         return ResponseEntity.ok(summary);
     }
 
     @GetMapping("/reports/daily")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<List<DailyTimeReportDTO>> getDailyTimeReport(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(required = false) Long employeeId) {
         log.info("Getting daily time report for date: {} and employeeId: {}", date, employeeId);
-        List<DailyTimeReportDTO> report = timeEntryService.getDailyTimeReport(date, employeeId);
+        List<DailyTimeReportDTO> report = timeEntryReportService.getDailyTimeReport(date, employeeId);
         return ResponseEntity.ok(report);
     }
 
     @GetMapping("/reports/weekly")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(1)
     public ResponseEntity<List<WeeklyTimeReportDTO>> getWeeklyTimeReport(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) Long employeeId) {
         log.info("Getting weekly time report starting from: {} for employeeId: {}", startDate, employeeId);
-        List<WeeklyTimeReportDTO> report = timeEntryService.getWeeklyTimeReport(startDate, employeeId);
+        List<WeeklyTimeReportDTO> report = timeEntryReportService.getWeeklyTimeReport(startDate, employeeId);
         return ResponseEntity.ok(report);
     }
 
     @PostMapping("/bulk")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<List<TimeEntryDTO>> createBulkTimeEntries(
             @Valid @RequestBody List<TimeEntryDTO> timeEntries,
             Authentication authentication) {
@@ -152,6 +240,15 @@ public class TimeEntryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEntries);
     }
 
+    @PostMapping("/bulk/ingest")
+    public ResponseEntity<List<BulkIngestionResultDTO>> ingestBulkTimeEntries(
+            @Valid @RequestBody List<TimeEntryDTO> timeEntries,
+            Authentication authentication) {
+        log.info("Ingesting {} time entries for user: {}", timeEntries.size(), authentication.getName());
+        List<BulkIngestionResultDTO> results = timeEntryIngestionQueue.ingest(timeEntries);
+        return ResponseEntity.ok(results);
+    }
+
     // Inner DTOs for reports and summaries
     public static class TimeEntrySummaryDTO {
         private double totalHours;
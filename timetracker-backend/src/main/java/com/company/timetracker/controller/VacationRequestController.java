@@ -1,16 +1,25 @@
 package com.company.timetracker.controller;
 
+import com.company.timetracker.config.StatementBudget;
+import com.company.timetracker.dto.BulkApprovalRequestDTO;
+import com.company.timetracker.dto.BulkApprovalResultDTO;
+import com.company.timetracker.dto.CursorSlice;
+import com.company.timetracker.dto.VacationCoverageDTO;
 import com.company.timetracker.dto.VacationRequestDTO;
+import com.company.timetracker.service.PendingApprovalStream;
+import com.company.timetracker.service.VacationRequestApprovalService;
+import com.company.timetracker.service.VacationRequestQueryService;
 import com.company.timetracker.service.VacationRequestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.time.LocalDate;
@@ -24,9 +33,12 @@ import java.util.List;
 public class VacationRequestController {
 
     private final VacationRequestService vacationRequestService;
+    private final VacationRequestQueryService vacationRequestQueryService;
+    private final VacationRequestApprovalService vacationRequestApprovalService;
+    private final PendingApprovalStream pendingApprovalStream;
 
     @GetMapping("/my")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<List<VacationRequestDTO>> getMyVacationRequests(Authentication authentication) {
         log.info("Getting vacation requests for user: {}", authentication.getName());
         List<VacationRequestDTO> requests = vacationRequestService.getVacationRequestsByKeycloakId(authentication.getName());
@@ -34,7 +46,7 @@ public class VacationRequestController {
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<Page<VacationRequestDTO>> getAllVacationRequests(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long employeeId,
@@ -47,8 +59,23 @@ public class VacationRequestController {
         return ResponseEntity.ok(requests);
     }
 
+    @GetMapping("/keyset")
+    @StatementBudget(1)
+    public ResponseEntity<CursorSlice<VacationRequestDTO>> getVacationRequestsKeyset(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + VacationRequestQueryService.DEFAULT_SLICE_SIZE) int size) {
+        log.info("Getting vacation requests after cursor {} with filters - status: {}, employeeId: {}",
+                after, status, employeeId);
+        CursorSlice<VacationRequestDTO> requests = vacationRequestQueryService.getVacationRequestsAfter(
+                status, employeeId, startDate, endDate, after, size);
+        return ResponseEntity.ok(requests);
+    }
+
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<VacationRequestDTO> getVacationRequest(@PathVariable Long id, Authentication authentication) {
         log.info("Getting vacation request {} for user: {}", id, authentication.getName());
         VacationRequestDTO request = vacationRequestService.getVacationRequestById(id, authentication.getName());
@@ -56,7 +83,6 @@ public class VacationRequestController {
     }
 
     @PostMapping
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<VacationRequestDTO> createVacationRequest(
             @Valid @RequestBody VacationRequestDTO vacationRequestDTO, 
             Authentication authentication) {
@@ -66,7 +92,6 @@ public class VacationRequestController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<VacationRequestDTO> updateVacationRequest(
             @PathVariable Long id,
             @Valid @RequestBody VacationRequestDTO vacationRequestDTO,
@@ -77,7 +102,6 @@ public class VacationRequestController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
     public ResponseEntity<Void> deleteVacationRequest(@PathVariable Long id, Authentication authentication) {
         log.info("Deleting vacation request {} for user: {}", id, authentication.getName());
         vacationRequestService.deleteVacationRequest(id, authentication.getName());
@@ -85,60 +109,100 @@ public class VacationRequestController {
     }
 
     @PatchMapping("/{id}/approve")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(3)
     public ResponseEntity<VacationRequestDTO> approveVacationRequest(@PathVariable Long id, Authentication authentication) {
         log.info("Approving vacation request {} by user: {}", id, authentication.getName());
-        VacationRequestDTO approvedRequest = vacationRequestService.approveVacationRequest(id, authentication.getName());
+        VacationRequestDTO approvedRequest = vacationRequestApprovalService.approve(id, authentication.getName());
         return ResponseEntity.ok(approvedRequest);
     }
 
     @PatchMapping("/{id}/reject")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(3)
     public ResponseEntity<VacationRequestDTO> rejectVacationRequest(
             @PathVariable Long id,
             @RequestBody(required = false) String rejectionReason,
             Authentication authentication) {
         log.info("Rejecting vacation request {} by user: {}", id, authentication.getName());
-        VacationRequestDTO rejectedRequest = vacationRequestService.rejectVacationRequest(id, rejectionReason, authentication.getName());
+        VacationRequestDTO rejectedRequest = vacationRequestApprovalService.reject(id, rejectionReason, authentication.getName());
         return ResponseEntity.ok(rejectedRequest);
     }
 
     @PatchMapping("/{id}/skip-approval")
-    @PreAuthorize("hasAnyRole('HR_MANAGER', 'ADMIN')")
+    @StatementBudget(3)
     public ResponseEntity<VacationRequestDTO> skipApproval(
             @PathVariable Long id,
             @RequestBody(required = false) String skipLabel,
             Authentication authentication) {
         log.info("Skipping approval for vacation request {} by user: {}", id, authentication.getName());
-        VacationRequestDTO skippedRequest = vacationRequestService.skipApproval(id, skipLabel, authentication.getName());
+        VacationRequestDTO skippedRequest = vacationRequestApprovalService.skipApproval(id, skipLabel, authentication.getName());
         return ResponseEntity.ok(skippedRequest);
     }
 
+    // Change events of the decided requests are applied after commit, one statement each
+    @PatchMapping("/approve")
+    public ResponseEntity<BulkApprovalResultDTO> approveVacationRequests(@RequestBody BulkApprovalRequestDTO request,
+                                                                         Authentication authentication) {
+        log.info("Approving vacation requests in bulk by user: {}", authentication.getName());
+        BulkApprovalResultDTO result = vacationRequestApprovalService.approveAll(request, authentication.getName());
+        return ResponseEntity.ok(result);
+    }
+
+    @PatchMapping("/reject")
+    public ResponseEntity<BulkApprovalResultDTO> rejectVacationRequests(@RequestBody BulkApprovalRequestDTO request,
+                                                                        Authentication authentication) {
+        log.info("Rejecting vacation requests in bulk by user: {}", authentication.getName());
+        BulkApprovalResultDTO result = vacationRequestApprovalService.rejectAll(request, authentication.getName());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/pending")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(1)
     public ResponseEntity<List<VacationRequestDTO>> getPendingVacationRequests() {
         log.info("Getting pending vacation requests");
         List<VacationRequestDTO> pendingRequests = vacationRequestService.getPendingVacationRequests();
         return ResponseEntity.ok(pendingRequests);
     }
 
+    @GetMapping(value = "/pending/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPendingVacationRequests(Authentication authentication) {
+        log.info("Opening pending vacation requests stream for user: {}", authentication.getName());
+        // Keeps the ingress from buffering events
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(pendingApprovalStream.subscribe(PendingApprovalStream.Queue.VACATION_REQUESTS));
+    }
+
     @GetMapping("/calendar")
-    @PreAuthorize("hasAnyRole('MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(1)
     public ResponseEntity<List<VacationRequestDTO>> getVacationCalendar(
             @RequestParam LocalDate startDate,
-            @RequestParam LocalDate endDate) {
-        log.info("Getting vacation calendar from {} to {}", startDate, endDate);
-        List<VacationRequestDTO> vacations = vacationRequestService.getVacationCalendar(startDate, endDate);
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String department) {
+        log.info("Getting vacation calendar from {} to {} for department: {}", startDate, endDate, department);
+        List<VacationRequestDTO> vacations = vacationRequestQueryService.getVacationCalendar(startDate, endDate, department);
         return ResponseEntity.ok(vacations);
     }
 
+    @GetMapping("/coverage")
+    @StatementBudget(1)
+    public ResponseEntity<VacationCoverageDTO> getVacationCoverage(
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "false") boolean includeAbsences) {
+        log.info("Getting vacation coverage from {} to {} for department: {}", startDate, endDate, department);
+        VacationCoverageDTO coverage = vacationRequestQueryService.getCoverage(startDate, endDate, department,
+                includeAbsences);
+        return ResponseEntity.ok(coverage);
+    }
+
     @GetMapping("/my/summary")
-    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR_MANAGER', 'ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<VacationSummaryDTO> getMyVacationSummary(
             @RequestParam(defaultValue = "2024") int year,
             Authentication authentication) {
         log.info("Getting vacation summary for user: {} and year: {}", authentication.getName(), year);
-        VacationSummaryDTO summary = vacationRequestService.getVacationSummary(authentication.getName(), year);
+        VacationSummaryDTO summary = vacationRequestQueryService.getVacationSummary(authentication.getName(), year);
         return ResponseEntity.ok(summary);
     }
 
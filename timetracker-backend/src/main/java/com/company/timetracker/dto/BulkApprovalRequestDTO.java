@@ -0,0 +1,86 @@
+package com.company.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Selects the pending items of a bulk decision, either by id or by criteria: a date range of at most
+ * {@link #MAX_RANGE_DAYS} days (typically one week), optionally narrowed to an employee and a project.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkApprovalRequestDTO {
+
+    public static final int MAX_IDS = 1000;
+    public static final int MAX_RANGE_DAYS = 31;
+
+    private List<Long> ids;
+
+    private Long employeeId;
+
+    private Long projectId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    // Rejection reason; ignored when approving
+    private String reason;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * Requested ids without duplicates, in request order.
+     */
+    public List<Long> getDistinctIds() {
+        return hasIds() ? new ArrayList<>(new LinkedHashSet<>(ids)) : List.of();
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDate != null ? startDate.atStartOfDay() : null;
+    }
+
+    public LocalDateTime getEndDateTimeExclusive() {
+        return endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+    }
+
+    public void validate() {
+        boolean hasCriteria = employeeId != null || projectId != null || startDate != null || endDate != null;
+        if (hasIds() == hasCriteria) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Select the items either by ids or by employeeId, projectId, startDate and endDate");
+        }
+        if (hasIds()) {
+            if (ids.contains(null)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must not contain null");
+            }
+            if (getDistinctIds().size() > MAX_IDS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_IDS + " ids per request");
+            }
+            return;
+        }
+        if (startDate == null || endDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "startDate and endDate are required");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days < 1 || days > MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Date range must span 1 to " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
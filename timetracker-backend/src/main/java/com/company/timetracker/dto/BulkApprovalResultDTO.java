@@ -0,0 +1,71 @@
+package com.company.timetracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkApprovalResultDTO {
+
+    public enum Outcome {
+        APPROVED,
+        REJECTED,
+        CONFLICT,
+        NOT_FOUND
+    }
+
+    private int decided;
+
+    private int skipped;
+
+    private List<Item> results;
+
+    /**
+     * Outcome per item: requested ids keep their order and the ones that were not decided are reported
+     * with their current status; without requested ids only the decided items are listed.
+     */
+    public static BulkApprovalResultDTO of(List<Long> requestedIds, Collection<Long> decidedIds, Outcome outcome,
+                                           Map<Long, String> currentStatuses) {
+        List<Item> results = new ArrayList<>();
+        if (requestedIds.isEmpty()) {
+            decidedIds.stream().sorted().forEach(id -> results.add(new Item(id, outcome, null)));
+            return new BulkApprovalResultDTO(results.size(), 0, results);
+        }
+        Set<Long> decided = new HashSet<>(decidedIds);
+        for (Long id : requestedIds) {
+            if (decided.contains(id)) {
+                results.add(new Item(id, outcome, null));
+            } else {
+                String status = currentStatuses.get(id);
+                results.add(new Item(id, status != null ? Outcome.CONFLICT : Outcome.NOT_FOUND, status));
+            }
+        }
+        return new BulkApprovalResultDTO(decided.size(), requestedIds.size() - decided.size(), results);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+
+        private Long id;
+
+        private Outcome outcome;
+
+        // Current status of items that were no longer pending
+        private String status;
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkIngestionResultDTO {
+
+    public enum Outcome {
+        CREATED,
+        REJECTED,
+        FAILED
+    }
+
+    private int index;
+
+    private Long id;
+
+    private Outcome outcome;
+
+    private String message;
+
+    public static BulkIngestionResultDTO created(int index, Long id) {
+        return new BulkIngestionResultDTO(index, id, Outcome.CREATED, null);
+    }
+
+    public static BulkIngestionResultDTO rejected(int index, String message) {
+        return new BulkIngestionResultDTO(index, null, Outcome.REJECTED, message);
+    }
+
+    public static BulkIngestionResultDTO failed(int index, String message) {
+        return new BulkIngestionResultDTO(index, null, Outcome.FAILED, message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.company.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Hours one employee logged on one day across all entry types, as summed for the weekly report.
+ */
+@Value
+@AllArgsConstructor
+public class EmployeeDayTotal {
+
+    Long employeeId;
+    String firstName;
+    String lastName;
+    LocalDate workDay;
+    Double hours;
+}
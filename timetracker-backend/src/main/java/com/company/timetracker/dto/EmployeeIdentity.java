@@ -0,0 +1,29 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.EmployeeRole;
+import com.company.timetracker.entity.EmployeeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Minimal view of the calling employee, resolved from the JWT subject.
+ */
+@Value
+@AllArgsConstructor
+@Builder
+public class EmployeeIdentity {
+
+    Long id;
+    String keycloakId;
+    EmployeeRole role;
+    EmployeeStatus status;
+
+    public boolean isActive() {
+        return status == EmployeeStatus.ACTIVE;
+    }
+
+    public boolean canApprove() {
+        return isActive() && role != null && role.canApproveVacations();
+    }
+}
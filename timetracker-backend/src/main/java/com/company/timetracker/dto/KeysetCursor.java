@@ -0,0 +1,63 @@
+package com.company.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque "after" token for keyset pagination: the sort key and id of the last row returned.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final String sortKey;
+    private final Long id;
+
+    public static String encode(Object sortKey, Long id) {
+        String raw = sortKey + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw invalid(token);
+            }
+            return new KeysetCursor(raw.substring(0, separator), Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw invalid(token);
+        }
+    }
+
+    public LocalDateTime getSortKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw invalid(sortKey);
+        }
+    }
+
+    public LocalDate getSortKeyAsDate() {
+        try {
+            return LocalDate.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw invalid(sortKey);
+        }
+    }
+
+    private static ResponseStatusException invalid(String token) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid pagination cursor: " + token);
+    }
+}
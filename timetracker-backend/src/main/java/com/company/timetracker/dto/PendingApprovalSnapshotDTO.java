@@ -0,0 +1,20 @@
+package com.company.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * First event of a pending approvals stream; {@code truncated} is set when the queue holds more items
+ * than the snapshot limit.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingApprovalSnapshotDTO<T> {
+
+    private List<T> items;
+    private boolean truncated;
+}
@@ -0,0 +1,71 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cumulative logged hours of a project, or of one of its tasks, against the estimate. {@code days} only
+ * lists days with logged hours; cumulative totals include the hours logged before {@code startDate}.
+ * {@code loggedHours} and the task totals are as of now.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectBurndownDTO {
+
+    private Long projectId;
+    private String projectCode;
+    private String projectName;
+    private Long taskId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    private double estimatedHours;
+    private double loggedHours;
+    private double hoursBeforeStart;
+    private List<DayPoint> days;
+    private List<TaskProgress> tasks;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DayPoint {
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate date;
+        private double hours;
+        private double cumulativeHours;
+        private double remainingHours;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TaskProgress {
+        private Long taskId;
+        private String code;
+        private String name;
+        private TaskStatus status;
+        private Double estimatedHours;
+        private double loggedHours;
+        private Double remainingHours;
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime dueDate;
+    }
+}
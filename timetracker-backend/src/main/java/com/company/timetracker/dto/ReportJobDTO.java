@@ -0,0 +1,64 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.ReportJob;
+import com.company.timetracker.entity.ReportJobKind;
+import com.company.timetracker.entity.ReportJobStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * State of an asynchronous report. {@code stale} jobs saw a change inside their range after they were
+ * started; their result can still be downloaded but is no longer handed out to new submissions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportJobDTO {
+
+    private UUID id;
+    private ReportJobKind kind;
+    private ReportJobStatus status;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    private Long employeeId;
+    private String department;
+    private boolean stale;
+    private String error;
+    private Long resultBytes;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ReportJobDTO of(ReportJob job) {
+        return ReportJobDTO.builder()
+                .id(job.getId())
+                .kind(job.getKind())
+                .status(job.getStatus())
+                .startDate(job.getStartDate())
+                .endDate(job.getEndDate())
+                .employeeId(job.getEmployeeId())
+                .department(job.getDepartment())
+                .stale(Boolean.TRUE.equals(job.getStale()))
+                .error(job.getError())
+                .resultBytes(job.getResultBytes())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.ReportJobKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Parameters of an asynchronous report. The time reports accept an {@code employeeId}, the vacation
+ * calendar a {@code department}; the range spans at most {@link #MAX_RANGE_DAYS} days. Weekly reports run
+ * for every week starting at {@code startDate} up to the one that contains {@code endDate}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJobRequestDTO {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private ReportJobKind kind;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private Long employeeId;
+
+    private String department;
+
+    public void validate() {
+        if (kind == null || startDate == null || endDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "kind, startDate and endDate are required");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days < 1 || days > MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Date range must span 1 to " + MAX_RANGE_DAYS + " days");
+        }
+        if (kind.isTimeEntryReport() && getNormalizedDepartment() != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "department only applies to " +
+                    ReportJobKind.VACATION_CALENDAR);
+        }
+        if (!kind.isTimeEntryReport() && employeeId != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "employeeId only applies to " +
+                    ReportJobKind.DAILY + " and " + ReportJobKind.WEEKLY);
+        }
+    }
+
+    public String getNormalizedDepartment() {
+        return department == null || department.isBlank() ? null : department.trim();
+    }
+
+    /**
+     * Last day the report covers; weekly reports always end on a full week.
+     */
+    public LocalDate getNormalizedEndDate() {
+        if (kind != ReportJobKind.WEEKLY) {
+            return endDate;
+        }
+        long weeks = ChronoUnit.DAYS.between(startDate, endDate) / 7 + 1;
+        return startDate.plusDays(weeks * 7 - 1);
+    }
+
+    /**
+     * Identifies equal reports regardless of how the request spelled them.
+     */
+    public String getParamsKey() {
+        String normalizedDepartment = getNormalizedDepartment();
+        return String.join("|", kind.name(), startDate.toString(), getNormalizedEndDate().toString(),
+                employeeId != null ? employeeId.toString() : "", normalizedDepartment != null ? normalizedDepartment : "");
+    }
+}
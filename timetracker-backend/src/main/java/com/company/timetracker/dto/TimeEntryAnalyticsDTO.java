@@ -0,0 +1,58 @@
+package com.company.timetracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hours and entry counts grouped by the requested dimensions, answered from the in-memory analytics
+ * snapshot. Group keys are named after the lower-cased dimensions; groups are ordered by key.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeEntryAnalyticsDTO {
+
+    private Snapshot snapshot;
+    private List<String> groupBy;
+    private int rowsScanned;
+    private long elapsedMicros;
+    private boolean truncated;
+    private List<Group> groups;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Group {
+        private Map<String, Object> key;
+        private double hours;
+        private long entries;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Snapshot {
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime loadedAt;
+        private long loadMillis;
+        private int rows;
+        private int employees;
+        private int departments;
+        private int projects;
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate firstDay;
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate lastDay;
+    }
+}
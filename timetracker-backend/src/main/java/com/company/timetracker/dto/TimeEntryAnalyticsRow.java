@@ -0,0 +1,26 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.entity.TimeEntryType;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * One {@code time_entry_daily_hours} bucket with the employee's current department, as loaded into
+ * the analytics snapshot.
+ */
+@Value
+@AllArgsConstructor
+public class TimeEntryAnalyticsRow {
+
+    Long employeeId;
+    String department;
+    Long projectId;
+    LocalDate workDay;
+    TimeEntryType type;
+    TimeEntryStatus status;
+    Double hours;
+    Integer entryCount;
+}
@@ -0,0 +1,64 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.entity.TimeEntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeEntryFilter {
+
+    private Long employeeId;
+    private Long taskId;
+    private Long projectId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private TimeEntryType type;
+    private TimeEntryStatus status;
+
+    public static TimeEntryFilter of(Long employeeId, Long taskId, Long projectId,
+                                     LocalDate startDate, LocalDate endDate, String type, String status) {
+        return TimeEntryFilter.builder()
+                .employeeId(employeeId)
+                .taskId(taskId)
+                .projectId(projectId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .type(parseType(type))
+                .status(parseEnum(TimeEntryStatus.class, status, "status"))
+                .build();
+    }
+
+    public static TimeEntryType parseType(String type) {
+        return parseEnum(TimeEntryType.class, type, "type");
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDate != null ? startDate.atStartOfDay() : null;
+    }
+
+    public LocalDateTime getEndDateTimeExclusive() {
+        return endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> enumType, String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + name + ": " + value);
+        }
+    }
+}
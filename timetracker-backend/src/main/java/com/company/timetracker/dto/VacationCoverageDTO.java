@@ -0,0 +1,60 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.VacationType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Per-day absence counts of each department over a date range; {@code absentByDay[i]} refers to
+ * {@code startDate + i}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VacationCoverageDTO {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    private List<DepartmentCoverage> departments;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class DepartmentCoverage {
+        private String department;
+        private long headcount;
+        private int[] absentByDay;
+        private int maxAbsent;
+        private long minCovered;
+        private List<Absence> absences;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Absence {
+        private Long requestId;
+        private Long employeeId;
+        private String employeeName;
+        private VacationType type;
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate startDate;
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate endDate;
+    }
+}
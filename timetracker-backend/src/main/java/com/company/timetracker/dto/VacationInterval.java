@@ -0,0 +1,23 @@
+package com.company.timetracker.dto;
+
+import com.company.timetracker.entity.VacationType;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Approved absence of one employee, as held by the in-memory coverage index.
+ */
+@Value
+@AllArgsConstructor
+public class VacationInterval {
+
+    Long requestId;
+    Long employeeId;
+    String employeeName;
+    String department;
+    LocalDate startDate;
+    LocalDate endDate;
+    VacationType type;
+}
@@ -1,5 +1,6 @@
 package com.company.timetracker.entity;
 
+import com.company.timetracker.listener.EmployeeEventPublisher;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -15,7 +16,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "employees")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, EmployeeEventPublisher.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -91,6 +92,10 @@ public class Employee {
     @ManyToMany(mappedBy = "assignedEmployees", fetch = FetchType.LAZY)
     private List<Project> projects = new ArrayList<>();
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -57,6 +57,11 @@ public class Project {
     @Column(name = "client_name")
     private String clientName;
 
+    // Maintained by the time_entries and tasks triggers
+    @Builder.Default
+    @Column(name = "logged_hours", nullable = false, insertable = false, updatable = false)
+    private Double loggedHours = 0.0;
+
     @Builder.Default
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Task> tasks = new ArrayList<>();
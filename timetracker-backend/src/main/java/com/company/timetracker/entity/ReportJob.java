@@ -0,0 +1,85 @@
+package com.company.timetracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Asynchronous report run. A completed job that is not {@code stale} doubles as the cached result for
+ * its {@code paramsKey}; the gzipped JSON result is only read through
+ * {@link com.company.timetracker.repository.ReportJobRepository#findResultById}.
+ */
+@Entity
+@Table(name = "report_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = {"id"})
+public class ReportJob implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false)
+    private ReportJobKind kind;
+
+    @Column(name = "params_key", nullable = false)
+    private String paramsKey;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "department")
+    private String department;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private ReportJobStatus status = ReportJobStatus.QUEUED;
+
+    @Column(name = "stale", nullable = false)
+    @Builder.Default
+    private Boolean stale = false;
+
+    @Column(name = "submitted_by", nullable = false, updatable = false)
+    private String submittedBy;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "result_bytes")
+    private Long resultBytes;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Ids are assigned up front, so saving a new job must not look for an existing row first
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        isNew = false;
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.timetracker.entity;
+
+import java.util.Set;
+
+public enum ReportJobKind {
+    DAILY("Daily time report"),
+    WEEKLY("Weekly time report"),
+    VACATION_CALENDAR("Vacation calendar");
+
+    public static final Set<ReportJobKind> TIME_ENTRY_REPORTS = Set.of(DAILY, WEEKLY);
+
+    private final String displayName;
+
+    ReportJobKind(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isTimeEntryReport() {
+        return TIME_ENTRY_REPORTS.contains(this);
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.timetracker.entity;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
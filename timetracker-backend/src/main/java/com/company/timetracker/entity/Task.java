@@ -58,6 +58,11 @@ public class Task {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
+    // Maintained by the time_entries triggers
+    @Builder.Default
+    @Column(name = "logged_hours", nullable = false, insertable = false, updatable = false)
+    private Double loggedHours = 0.0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
@@ -96,9 +101,6 @@ public class Task {
     }
 
     public Double getTotalLoggedHours() {
-        return timeEntries.stream()
-                .filter(entry -> entry.getType() == TimeEntryType.TASK)
-                .mapToDouble(TimeEntry::getHours)
-                .sum();
+        return loggedHours;
     }
 }
@@ -0,0 +1,27 @@
+package com.company.timetracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Hours logged against one task on one day. Maintained by a database trigger on {@code time_entries}.
+ */
+@Entity
+@Table(name = "task_daily_hours")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = {"id"})
+public class TaskDailyHours {
+
+    @EmbeddedId
+    private TaskDailyHoursId id;
+
+    @Column(name = "hours", nullable = false)
+    private Double hours;
+
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount;
+}
@@ -0,0 +1,24 @@
+package com.company.timetracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TaskDailyHoursId implements Serializable {
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "work_day", nullable = false)
+    private LocalDate workDay;
+}
@@ -1,5 +1,6 @@
 package com.company.timetracker.entity;
 
+import com.company.timetracker.listener.TimeEntryEventPublisher;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -9,11 +10,12 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "time_entries")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, TimeEntryEventPublisher.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,7 +26,8 @@ import java.time.LocalDateTime;
 public class TimeEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_entries_seq")
+    @SequenceGenerator(name = "time_entries_seq", sequenceName = "time_entries_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -45,6 +48,10 @@ public class TimeEntry {
     @Column(name = "entry_date", nullable = false)
     private LocalDateTime entryDate;
 
+    // Set from entry_date by a database trigger; mirrored here for entities that are not reloaded
+    @Column(name = "work_day", insertable = false, updatable = false)
+    private LocalDate workDay;
+
     @Column(name = "start_time")
     private LocalDateTime startTime;
 
@@ -74,6 +81,10 @@ public class TimeEntry {
     @Column(name = "approved_at")
     private LocalDateTime approvedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -82,6 +93,12 @@ public class TimeEntry {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    void syncWorkDay() {
+        workDay = entryDate != null ? entryDate.toLocalDate() : null;
+    }
+
     // Utility methods
     public boolean isPresenceEntry() {
         return type == TimeEntryType.PRESENCE;
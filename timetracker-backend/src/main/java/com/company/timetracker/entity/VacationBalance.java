@@ -0,0 +1,46 @@
+package com.company.timetracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running total of the {@code vacation_balance_ledger} entries of one employee, year and type.
+ * Postings from {@code vacation_requests} are applied by a database trigger; application-side
+ * corrections go through the version check.
+ */
+@Entity
+@Table(name = "vacation_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = {"id"})
+public class VacationBalance {
+
+    @EmbeddedId
+    private VacationBalanceId id;
+
+    @Builder.Default
+    @Column(name = "used_days", nullable = false)
+    private Integer usedDays = 0;
+
+    @Builder.Default
+    @Column(name = "pending_days", nullable = false)
+    private Integer pendingDays = 0;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
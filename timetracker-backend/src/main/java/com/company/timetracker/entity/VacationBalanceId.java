@@ -0,0 +1,29 @@
+package com.company.timetracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class VacationBalanceId implements Serializable {
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "balance_year", nullable = false)
+    private Integer year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private VacationType type;
+}
@@ -0,0 +1,53 @@
+package com.company.timetracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@Table(name = "vacation_balance_ledger")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = {"id"})
+public class VacationBalanceLedgerEntry {
+
+    public static final String REASON_RECONCILIATION = "RECONCILIATION";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "balance_year", nullable = false)
+    private Integer year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private VacationType type;
+
+    @Column(name = "vacation_request_id")
+    private Long vacationRequestId;
+
+    @Column(name = "used_days_delta", nullable = false)
+    private Integer usedDaysDelta;
+
+    @Column(name = "pending_days_delta", nullable = false)
+    private Integer pendingDaysDelta;
+
+    @Column(name = "reason", nullable = false)
+    private String reason;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
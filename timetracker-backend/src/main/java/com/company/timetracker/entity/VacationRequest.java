@@ -1,5 +1,6 @@
 package com.company.timetracker.entity;
 
+import com.company.timetracker.listener.VacationRequestEventPublisher;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -14,7 +15,7 @@ import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "vacation_requests")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, VacationRequestEventPublisher.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -73,6 +74,10 @@ public class VacationRequest {
     @Column(name = "approval_skip_label")
     private String approvalSkipLabel;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
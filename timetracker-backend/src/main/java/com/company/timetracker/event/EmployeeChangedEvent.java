@@ -0,0 +1,16 @@
+package com.company.timetracker.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Published when an employee is updated or removed. Caches keyed by employee must drop their entries
+ * after commit, so a concurrent read cannot put the pre-commit row back.
+ */
+@Value
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+    Long employeeId;
+    String keycloakId;
+}
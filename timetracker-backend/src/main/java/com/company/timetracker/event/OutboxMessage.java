@@ -0,0 +1,35 @@
+package com.company.timetracker.event;
+
+import com.company.timetracker.entity.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * An outbox event as handed to the {@link OutboxSink}s. Delivery is at least once, so consumers should
+ * deduplicate on {@code id}; events of the same aggregate arrive in the order they were committed.
+ */
+@Value
+@AllArgsConstructor
+public class OutboxMessage {
+
+    Long id;
+    String aggregateType;
+    Long aggregateId;
+    String eventType;
+    Map<String, Object> payload;
+    LocalDateTime createdAt;
+
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+
+    @JsonIgnore
+    public String getAggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.company.timetracker.event;
+
+import java.util.List;
+
+/**
+ * Destination of the outbox relay. A sink receives events in outbox order and must either accept the
+ * whole batch or throw; a failed batch is retried event by event, so a sink may see an event again.
+ */
+public interface OutboxSink {
+
+    String getName();
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,19 @@
+package com.company.timetracker.event;
+
+import com.company.timetracker.entity.TimeEntryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Published when a time entry is created, changes state or is removed. Listeners that keep derived
+ * state outside the database should react after commit and re-read the entry.
+ */
+@Value
+@AllArgsConstructor
+public class TimeEntryChangedEvent {
+
+    Long entryId;
+    Long employeeId;
+    TimeEntryStatus status;
+    boolean removed;
+}
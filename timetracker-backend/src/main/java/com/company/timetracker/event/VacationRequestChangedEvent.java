@@ -0,0 +1,19 @@
+package com.company.timetracker.event;
+
+import com.company.timetracker.entity.VacationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Published when a vacation request is created, changes state or is removed. Listeners that keep
+ * derived state outside the database should react after commit and re-read the request.
+ */
+@Value
+@AllArgsConstructor
+public class VacationRequestChangedEvent {
+
+    Long requestId;
+    Long employeeId;
+    VacationStatus status;
+    boolean removed;
+}
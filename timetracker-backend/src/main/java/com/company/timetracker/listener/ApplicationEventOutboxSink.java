@@ -0,0 +1,31 @@
+package com.company.timetracker.listener;
+
+import com.company.timetracker.event.OutboxMessage;
+import com.company.timetracker.event.OutboxSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands outbox events to in-process {@code @EventListener}s of {@link OutboxMessage}. Listeners run on
+ * the relay thread inside its transaction; a listener that throws makes the event be retried, and
+ * listeners that write to the database should do so in a transaction of their own.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String getName() {
+        return "application-events";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
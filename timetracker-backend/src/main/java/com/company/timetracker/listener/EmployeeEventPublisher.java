@@ -0,0 +1,27 @@
+package com.company.timetracker.listener;
+
+import com.company.timetracker.entity.Employee;
+import com.company.timetracker.event.EmployeeChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns employee updates and removals into {@link EmployeeChangedEvent}s. Set-based updates bypass
+ * entity listeners and publish the events themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeEventPublisher {
+
+    private final ObjectProvider<ApplicationEventPublisher> eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void changed(Employee employee) {
+        eventPublisher.getObject().publishEvent(new EmployeeChangedEvent(employee.getId(), employee.getKeycloakId()));
+    }
+}
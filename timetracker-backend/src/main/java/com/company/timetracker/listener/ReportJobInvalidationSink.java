@@ -0,0 +1,86 @@
+package com.company.timetracker.listener;
+
+import com.company.timetracker.entity.OutboxEvent;
+import com.company.timetracker.entity.ReportJobKind;
+import com.company.timetracker.event.OutboxMessage;
+import com.company.timetracker.event.OutboxSink;
+import com.company.timetracker.service.ReportJobService;
+import com.company.timetracker.service.ReportJobService.Change;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Marks cached report jobs stale when the outbox reports a change inside their range. Runs inside the
+ * relay's transaction, so a job is invalidated exactly when the change is marked published. Updates are
+ * matched against both the previous and the new day or period of the row.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportJobInvalidationSink implements OutboxSink {
+
+    private static final Set<ReportJobKind> VACATION_REPORTS = Set.of(ReportJobKind.VACATION_CALENDAR);
+
+    private final ReportJobService reportJobService;
+
+    @Override
+    public String getName() {
+        return "report-jobs";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        Set<Change> changes = new LinkedHashSet<>();
+        for (OutboxMessage message : messages) {
+            Map<String, Object> payload = message.getPayload();
+            Map<String, Object> previous = previous(payload);
+            if (OutboxEvent.AGGREGATE_TIME_ENTRY.equals(message.getAggregateType())) {
+                addTimeEntryChange(changes, payload, Map.of());
+                if (!previous.isEmpty()) {
+                    addTimeEntryChange(changes, payload, previous);
+                }
+            } else if (OutboxEvent.AGGREGATE_VACATION_REQUEST.equals(message.getAggregateType())) {
+                addVacationChange(changes, payload, Map.of());
+                if (!previous.isEmpty()) {
+                    addVacationChange(changes, payload, previous);
+                }
+            }
+        }
+        reportJobService.invalidate(changes);
+    }
+
+    // Previous values override the current row for the columns that changed
+    private static void addTimeEntryChange(Set<Change> changes, Map<String, Object> row, Map<String, Object> previous) {
+        LocalDate workDay = date(previous.getOrDefault("work_day", row.get("work_day")));
+        if (workDay != null) {
+            changes.add(new Change(ReportJobKind.TIME_ENTRY_REPORTS, workDay, workDay,
+                    id(previous.getOrDefault("employee_id", row.get("employee_id")))));
+        }
+    }
+
+    private static void addVacationChange(Set<Change> changes, Map<String, Object> row, Map<String, Object> previous) {
+        LocalDate startDate = date(previous.getOrDefault("start_date", row.get("start_date")));
+        LocalDate endDate = date(previous.getOrDefault("end_date", row.get("end_date")));
+        if (startDate != null && endDate != null) {
+            changes.add(new Change(VACATION_REPORTS, startDate, endDate, null));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> previous(Map<String, Object> payload) {
+        return payload.get("previous") instanceof Map<?, ?> previous ? (Map<String, Object>) previous : Map.of();
+    }
+
+    private static LocalDate date(Object value) {
+        return value != null ? LocalDate.parse(value.toString()) : null;
+    }
+
+    private static Long id(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
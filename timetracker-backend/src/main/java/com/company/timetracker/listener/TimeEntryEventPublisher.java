@@ -0,0 +1,39 @@
+package com.company.timetracker.listener;
+
+import com.company.timetracker.entity.TimeEntry;
+import com.company.timetracker.event.TimeEntryChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns time entry writes into {@link TimeEntryChangedEvent}s. Set-based updates bypass entity
+ * listeners and publish the events themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeEntryEventPublisher {
+
+    private final ObjectProvider<ApplicationEventPublisher> eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void changed(TimeEntry entry) {
+        publish(entry, false);
+    }
+
+    @PostRemove
+    public void removed(TimeEntry entry) {
+        publish(entry, true);
+    }
+
+    private void publish(TimeEntry entry, boolean removed) {
+        Long employeeId = entry.getEmployee() != null ? entry.getEmployee().getId() : null;
+        eventPublisher.getObject().publishEvent(
+                new TimeEntryChangedEvent(entry.getId(), employeeId, entry.getStatus(), removed));
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.timetracker.listener;
+
+import com.company.timetracker.entity.VacationRequest;
+import com.company.timetracker.event.VacationRequestChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns vacation request writes into {@link VacationRequestChangedEvent}s, so every path that approves,
+ * rejects, skips or deletes a request is seen by the listeners.
+ */
+@Component
+@RequiredArgsConstructor
+public class VacationRequestEventPublisher {
+
+    private final ObjectProvider<ApplicationEventPublisher> eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void changed(VacationRequest request) {
+        publish(request, false);
+    }
+
+    @PostRemove
+    public void removed(VacationRequest request) {
+        publish(request, true);
+    }
+
+    private void publish(VacationRequest request, boolean removed) {
+        Long employeeId = request.getEmployee() != null ? request.getEmployee().getId() : null;
+        eventPublisher.getObject().publishEvent(
+                new VacationRequestChangedEvent(request.getId(), employeeId, request.getStatus(), removed));
+    }
+}
@@ -0,0 +1,47 @@
+package com.company.timetracker.mapper;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.entity.Employee;
+import com.company.timetracker.entity.Task;
+import com.company.timetracker.entity.TimeEntry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TimeEntryMapper {
+
+    public TimeEntryDTO toDto(TimeEntry entry) {
+        TimeEntryDTO dto = TimeEntryDTO.builder()
+                .id(entry.getId())
+                .type(entry.getType())
+                .entryDate(entry.getEntryDate())
+                .startTime(entry.getStartTime())
+                .endTime(entry.getEndTime())
+                .hours(entry.getHours())
+                .description(entry.getDescription())
+                .notes(entry.getNotes())
+                .status(entry.getStatus())
+                .approvedBy(entry.getApprovedBy())
+                .approvedAt(entry.getApprovedAt())
+                .createdAt(entry.getCreatedAt())
+                .updatedAt(entry.getUpdatedAt())
+                .build();
+
+        Employee employee = entry.getEmployee();
+        if (employee != null) {
+            dto.setEmployeeId(employee.getId());
+            dto.setEmployeeName(employee.getFullName());
+        }
+
+        Task task = entry.getTask();
+        if (task != null) {
+            dto.setTaskId(task.getId());
+            dto.setTaskName(task.getName());
+            dto.setTaskCode(task.getCode());
+            if (task.getProject() != null) {
+                dto.setProjectName(task.getProject().getName());
+                dto.setProjectCode(task.getProject().getCode());
+            }
+        }
+        return dto;
+    }
+}
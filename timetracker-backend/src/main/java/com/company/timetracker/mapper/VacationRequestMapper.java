@@ -0,0 +1,36 @@
+package com.company.timetracker.mapper;
+
+import com.company.timetracker.dto.VacationRequestDTO;
+import com.company.timetracker.entity.Employee;
+import com.company.timetracker.entity.VacationRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VacationRequestMapper {
+
+    public VacationRequestDTO toDto(VacationRequest request) {
+        VacationRequestDTO dto = VacationRequestDTO.builder()
+                .id(request.getId())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .type(request.getType())
+                .reason(request.getReason())
+                .status(request.getStatus())
+                .approvedBy(request.getApprovedBy())
+                .approvedAt(request.getApprovedAt())
+                .rejectionReason(request.getRejectionReason())
+                .approvalSkipped(request.getApprovalSkipped())
+                .approvalSkipLabel(request.getApprovalSkipLabel())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .build();
+
+        Employee employee = request.getEmployee();
+        if (employee != null) {
+            dto.setEmployeeId(employee.getId());
+            dto.setEmployeeName(employee.getFullName());
+            dto.setEmployeeEmail(employee.getEmail());
+        }
+        return dto;
+    }
+}
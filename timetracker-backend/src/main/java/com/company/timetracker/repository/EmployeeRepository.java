@@ -1,5 +1,6 @@
 package com.company.timetracker.repository;
 
+import com.company.timetracker.dto.EmployeeIdentity;
 import com.company.timetracker.entity.Employee;
 import com.company.timetracker.entity.EmployeeRole;
 import com.company.timetracker.entity.EmployeeStatus;
@@ -8,14 +9,29 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
+    interface DepartmentHeadcount {
+        String getDepartment();
+        long getHeadcount();
+    }
+
+    interface IdRange {
+        Long getFirstId();
+        Long getLastId();
+    }
+
     Optional<Employee> findByKeycloakId(String keycloakId);
 
+    @Query("SELECT new com.company.timetracker.dto.EmployeeIdentity(e.id, e.keycloakId, e.role, e.status) " +
+           "FROM Employee e WHERE e.keycloakId = :keycloakId")
+    Optional<EmployeeIdentity> findIdentityByKeycloakId(@Param("keycloakId") String keycloakId);
+
     Optional<Employee> findByEmail(String email);
 
     List<Employee> findByStatus(EmployeeStatus status);
@@ -38,6 +54,20 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.status = :status")
     long countByStatus(@Param("status") EmployeeStatus status);
 
+    @Query("SELECT e.department AS department, COUNT(e) AS headcount FROM Employee e " +
+           "WHERE e.status = 'ACTIVE' GROUP BY e.department")
+    List<DepartmentHeadcount> countActiveByDepartment();
+
+    // Consecutive ids numbered by position, so every range holds chunkSize employees however sparse the ids are
+    @Query(value = "SELECT MIN(id) AS firstId, MAX(id) AS lastId " +
+                   "FROM (SELECT id, (ROW_NUMBER() OVER (ORDER BY id) - 1) / :chunkSize AS chunk FROM employees) c " +
+                   "GROUP BY chunk ORDER BY chunk",
+           nativeQuery = true)
+    List<IdRange> findIdRanges(@Param("chunkSize") int chunkSize);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     boolean existsByEmail(String email);
 
     boolean existsByKeycloakId(String keycloakId);
@@ -0,0 +1,52 @@
+package com.company.timetracker.repository;
+
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WHERE clause built from the filters that are actually set, for JPQL or native statements. Each filter
+ * combination becomes its own statement, so PostgreSQL plans it against the matching index even after
+ * switching to a generic plan, which a catch-all {@code (:x IS NULL OR ...)} predicate prevents.
+ */
+final class JpqlFilter {
+
+    private final StringBuilder clause = new StringBuilder();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    JpqlFilter and(String predicate) {
+        clause.append(clause.isEmpty() ? " WHERE " : " AND ").append(predicate);
+        return this;
+    }
+
+    JpqlFilter andIfPresent(String predicate, String name, Object value) {
+        return value != null ? and(predicate).set(name, value) : this;
+    }
+
+    JpqlFilter set(String name, Object value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    String where() {
+        return clause.toString();
+    }
+
+    <Q extends Query> Q bind(Q query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    // One extra row tells whether another slice follows, without a count query
+    static <T> Slice<T> slice(TypedQuery<T> query, Pageable pageable) {
+        List<T> rows = query.setMaxResults(pageable.getPageSize() + 1).getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+}
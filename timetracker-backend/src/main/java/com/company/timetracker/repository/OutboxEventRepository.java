@@ -0,0 +1,48 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    interface Backlog {
+        long getPending();
+        LocalDateTime getOldestCreatedAt();
+    }
+
+    // Transaction-scoped, so a relay that dies releases it with its connection
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRelayLock(@Param("key") long key);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    @Query("SELECT COUNT(e) AS pending, MIN(e.createdAt) AS oldestCreatedAt FROM OutboxEvent e " +
+           "WHERE e.publishedAt IS NULL")
+    Backlog findBacklog();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :now, e.attempts = e.attempts + 1, e.lastError = NULL " +
+           "WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Modifying
+    @Query(value = "DELETE FROM event_outbox WHERE id IN (" +
+                   "SELECT id FROM event_outbox WHERE published_at < :cutoff LIMIT :limit)",
+           nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -4,6 +4,7 @@ import com.company.timetracker.entity.Employee;
 import com.company.timetracker.entity.Project;
 import com.company.timetracker.entity.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +16,12 @@ import java.util.Optional;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    interface LoggedHoursDrift {
+        Long getId();
+        Double getLoggedHours();
+        Double getActualHours();
+    }
+
     Optional<Project> findByCode(String code);
 
     List<Project> findByStatus(ProjectStatus status);
@@ -46,4 +53,17 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     @Query("SELECT DISTINCT p.clientName FROM Project p WHERE p.clientName IS NOT NULL ORDER BY p.clientName")
     List<String> findAllClientNames();
+
+    // Compared against the task counters, so run after the tasks have been repaired
+    @Query(value = "SELECT p.id AS id, p.logged_hours AS loggedHours, COALESCE(s.hours, 0) AS actualHours " +
+                   "FROM projects p " +
+                   "LEFT JOIN (SELECT project_id, SUM(logged_hours) AS hours FROM tasks GROUP BY project_id) s " +
+                   "  ON s.project_id = p.id " +
+                   "WHERE p.logged_hours <> COALESCE(s.hours, 0) ORDER BY p.id",
+           nativeQuery = true)
+    List<LoggedHoursDrift> findLoggedHoursDrift();
+
+    @Modifying
+    @Query(value = "UPDATE projects SET logged_hours = logged_hours + :delta WHERE id = :projectId", nativeQuery = true)
+    int adjustLoggedHours(@Param("projectId") Long projectId, @Param("delta") Double delta);
 }
@@ -0,0 +1,72 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.entity.ReportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+    // Newest queued, running or completed job for the parameters that is still current
+    @Query("SELECT j FROM ReportJob j WHERE j.paramsKey = :paramsKey AND j.stale = false AND j.status <> 'FAILED' " +
+           "AND j.createdAt > :since ORDER BY j.createdAt DESC")
+    List<ReportJob> findReusable(@Param("paramsKey") String paramsKey, @Param("since") LocalDateTime since,
+                                 Pageable pageable);
+
+    // Serializes the submissions of one user for the rest of the transaction
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:namespace, hashtext(:submittedBy))", nativeQuery = true)
+    int lockSubmitter(@Param("namespace") int namespace, @Param("submittedBy") String submittedBy);
+
+    @Query("SELECT COUNT(j) FROM ReportJob j WHERE j.submittedBy = :submittedBy AND j.status IN ('QUEUED', 'RUNNING')")
+    long countActiveBySubmitter(@Param("submittedBy") String submittedBy);
+
+    @Query(value = "SELECT result FROM report_jobs WHERE id = :id", nativeQuery = true)
+    byte[] findResultById(@Param("id") UUID id);
+
+    // The arrays are the columns of the changes, one element per kind; a null employee id matches every job
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE report_jobs j SET stale = TRUE WHERE NOT j.stale AND j.status <> 'FAILED' " +
+                   "AND EXISTS (SELECT 1 FROM unnest(CAST(:kinds AS VARCHAR[]), CAST(:startDates AS DATE[]), " +
+                   "CAST(:endDates AS DATE[]), CAST(:employeeIds AS BIGINT[])) " +
+                   "AS c(kind, start_date, end_date, employee_id) " +
+                   "WHERE c.kind = j.kind AND j.start_date <= c.end_date AND j.end_date >= c.start_date " +
+                   "AND (c.employee_id IS NULL OR j.employee_id IS NULL OR c.employee_id = j.employee_id))",
+           nativeQuery = true)
+    int markStaleAffectedBy(@Param("kinds") String[] kinds, @Param("startDates") LocalDate[] startDates,
+                            @Param("endDates") LocalDate[] endDates, @Param("employeeIds") Long[] employeeIds);
+
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = 'RUNNING', j.startedAt = :now WHERE j.id = :id AND j.status = 'QUEUED'")
+    int markRunning(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE report_jobs SET status = 'COMPLETED', result = :result, result_bytes = :resultBytes, " +
+                   "finished_at = :now WHERE id = :id AND status = 'RUNNING'",
+           nativeQuery = true)
+    int markCompleted(@Param("id") UUID id, @Param("result") byte[] result, @Param("resultBytes") long resultBytes,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = 'FAILED', j.error = :error, j.finishedAt = :now " +
+           "WHERE j.id = :id AND j.status IN ('QUEUED', 'RUNNING')")
+    int markFailed(@Param("id") UUID id, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = 'FAILED', j.error = :error, j.finishedAt = :now " +
+           "WHERE j.status IN ('QUEUED', 'RUNNING') AND j.createdAt < :cutoff")
+    int failActiveCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("error") String error,
+                                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ReportJob j WHERE j.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
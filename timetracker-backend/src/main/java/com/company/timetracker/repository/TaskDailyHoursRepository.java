@@ -0,0 +1,55 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.entity.TaskDailyHours;
+import com.company.timetracker.entity.TaskDailyHoursId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskDailyHoursRepository extends JpaRepository<TaskDailyHours, TaskDailyHoursId> {
+
+    interface DayHours {
+        LocalDate getWorkDay();
+        Double getHours();
+    }
+
+    @Query("SELECT COALESCE(SUM(d.hours), 0) FROM TaskDailyHours d JOIN Task t ON t.id = d.id.taskId " +
+           "WHERE t.project.id = :projectId AND d.id.workDay > :day")
+    Double sumHoursByProjectIdAfter(@Param("projectId") Long projectId, @Param("day") LocalDate day);
+
+    @Query("SELECT d.id.workDay AS workDay, SUM(d.hours) AS hours " +
+           "FROM TaskDailyHours d JOIN Task t ON t.id = d.id.taskId " +
+           "WHERE t.project.id = :projectId AND d.id.workDay BETWEEN :startDay AND :endDay " +
+           "GROUP BY d.id.workDay ORDER BY d.id.workDay")
+    List<DayHours> sumHoursByProjectIdAndDay(@Param("projectId") Long projectId,
+                                             @Param("startDay") LocalDate startDay,
+                                             @Param("endDay") LocalDate endDay);
+
+    @Query("SELECT COALESCE(SUM(d.hours), 0) FROM TaskDailyHours d WHERE d.id.taskId = :taskId AND d.id.workDay > :day")
+    Double sumHoursByTaskIdAfter(@Param("taskId") Long taskId, @Param("day") LocalDate day);
+
+    @Query("SELECT d.id.workDay AS workDay, d.hours AS hours FROM TaskDailyHours d " +
+           "WHERE d.id.taskId = :taskId AND d.id.workDay BETWEEN :startDay AND :endDay " +
+           "ORDER BY d.id.workDay")
+    List<DayHours> findHoursByTaskIdAndDay(@Param("taskId") Long taskId,
+                                           @Param("startDay") LocalDate startDay,
+                                           @Param("endDay") LocalDate endDay);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_daily_hours WHERE work_day BETWEEN :startDay AND :endDay", nativeQuery = true)
+    int deleteByWorkDayBetween(@Param("startDay") LocalDate startDay, @Param("endDay") LocalDate endDay);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_daily_hours (task_id, work_day, hours, entry_count) " +
+                   "SELECT task_id, work_day, SUM(hours), COUNT(*) FROM time_entries " +
+                   "WHERE task_id IS NOT NULL AND work_day BETWEEN :startDay AND :endDay " +
+                   "GROUP BY task_id, work_day",
+           nativeQuery = true)
+    int rebuildFromTimeEntries(@Param("startDay") LocalDate startDay, @Param("endDay") LocalDate endDay);
+}
@@ -6,17 +6,35 @@ import com.company.timetracker.entity.Task;
 import com.company.timetracker.entity.TaskStatus;
 import com.company.timetracker.entity.TaskPriority;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    interface TaskProgress {
+        Long getId();
+        String getCode();
+        String getName();
+        TaskStatus getStatus();
+        Double getEstimatedHours();
+        Double getLoggedHours();
+        LocalDateTime getDueDate();
+    }
+
+    interface LoggedHoursDrift {
+        Long getId();
+        Double getLoggedHours();
+        Double getActualHours();
+    }
+
     List<Task> findByProject(Project project);
 
     List<Task> findByProjectId(Long projectId);
@@ -32,6 +50,11 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.code = :code")
     Optional<Task> findByProjectIdAndCode(@Param("projectId") Long projectId, @Param("code") String code);
 
+    @Query("SELECT t.id AS id, t.code AS code, t.name AS name, t.status AS status, t.estimatedHours AS estimatedHours, " +
+           "t.loggedHours AS loggedHours, t.dueDate AS dueDate " +
+           "FROM Task t WHERE t.project.id = :projectId ORDER BY t.code")
+    List<TaskProgress> findProgressByProjectId(@Param("projectId") Long projectId);
+
     @Query("SELECT t FROM Task t WHERE t.assignedEmployee.id = :employeeId AND t.status IN :statuses")
     List<Task> findByAssignedEmployeeIdAndStatusIn(@Param("employeeId") Long employeeId, @Param("statuses") List<TaskStatus> statuses);
 
@@ -44,7 +67,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t WHERE t.dueDate BETWEEN :startDate AND :endDate AND t.status NOT IN ('COMPLETED', 'CANCELLED')")
     List<Task> findTasksDueBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%')) FROM Task t WHERE t")
+    @Query("SELECT t FROM Task t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Task> findByNameContainingIgnoreCase(@Param("name") String name);
 
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
@@ -59,6 +82,23 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t WHERE t.status IN ('OPEN', 'IN_PROGRESS') ORDER BY t.priority DESC, t.dueDate ASC")
     List<Task> findActiveTasks();
 
-    @Query("SELECT SUM(te.hours) FROM Task t JOIN t.timeEntries te WHERE t.id = :taskId")
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.loggedHours FROM Task t WHERE t.id = :taskId")
     Double getTotalLoggedHours(@Param("taskId") Long taskId);
+
+    // One statement, so the counters and the sums are read from the same snapshot
+    @Query(value = "SELECT t.id AS id, t.logged_hours AS loggedHours, COALESCE(s.hours, 0) AS actualHours " +
+                   "FROM tasks t " +
+                   "LEFT JOIN (SELECT task_id, SUM(hours) AS hours FROM time_entries " +
+                   "           WHERE task_id IS NOT NULL GROUP BY task_id) s ON s.task_id = t.id " +
+                   "WHERE t.logged_hours <> COALESCE(s.hours, 0) ORDER BY t.id",
+           nativeQuery = true)
+    List<LoggedHoursDrift> findLoggedHoursDrift();
+
+    // Relative, so entries written since the drift was read are kept
+    @Modifying
+    @Query(value = "UPDATE tasks SET logged_hours = logged_hours + :delta WHERE id = :taskId", nativeQuery = true)
+    int adjustLoggedHours(@Param("taskId") Long taskId, @Param("delta") Double delta);
 }
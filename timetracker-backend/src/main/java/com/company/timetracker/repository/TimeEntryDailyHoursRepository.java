@@ -0,0 +1,90 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.dto.EmployeeDayTotal;
+import com.company.timetracker.dto.TimeEntryAnalyticsRow;
+import com.company.timetracker.entity.TimeEntryDailyHours;
+import com.company.timetracker.entity.TimeEntryType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface TimeEntryDailyHoursRepository extends JpaRepository<TimeEntryDailyHours, Long> {
+
+    interface EmployeeDayHours {
+        Long getEmployeeId();
+        String getFirstName();
+        String getLastName();
+        LocalDate getWorkDay();
+        TimeEntryType getType();
+        Double getHours();
+    }
+
+    @Query("SELECT r.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, r.workDay AS workDay, " +
+           "r.type AS type, SUM(r.hours) AS hours " +
+           "FROM TimeEntryDailyHours r JOIN Employee e ON e.id = r.employeeId " +
+           "WHERE r.workDay BETWEEN :startDay AND :endDay " +
+           "GROUP BY r.employeeId, e.firstName, e.lastName, r.workDay, r.type " +
+           "ORDER BY e.lastName, e.firstName, r.employeeId, r.workDay")
+    List<EmployeeDayHours> sumHoursByEmployeeAndDay(@Param("startDay") LocalDate startDay,
+                                                    @Param("endDay") LocalDate endDay);
+
+    @Query("SELECT r.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, r.workDay AS workDay, " +
+           "r.type AS type, SUM(r.hours) AS hours " +
+           "FROM TimeEntryDailyHours r JOIN Employee e ON e.id = r.employeeId " +
+           "WHERE r.employeeId = :employeeId AND r.workDay BETWEEN :startDay AND :endDay " +
+           "GROUP BY r.employeeId, e.firstName, e.lastName, r.workDay, r.type " +
+           "ORDER BY r.workDay")
+    List<EmployeeDayHours> sumHoursByEmployeeAndDay(@Param("employeeId") Long employeeId,
+                                                    @Param("startDay") LocalDate startDay,
+                                                    @Param("endDay") LocalDate endDay);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.company.timetracker.dto.EmployeeDayTotal(" +
+           "r.employeeId, e.firstName, e.lastName, r.workDay, SUM(r.hours)) " +
+           "FROM TimeEntryDailyHours r JOIN Employee e ON e.id = r.employeeId " +
+           "WHERE r.employeeId BETWEEN :firstEmployeeId AND :lastEmployeeId " +
+           "AND e.id BETWEEN :firstEmployeeId AND :lastEmployeeId " +
+           "AND r.workDay BETWEEN :startDay AND :endDay " +
+           "GROUP BY r.employeeId, e.firstName, e.lastName, r.workDay")
+    List<EmployeeDayTotal> sumHoursByEmployeeRangeAndDay(@Param("firstEmployeeId") Long firstEmployeeId,
+                                                         @Param("lastEmployeeId") Long lastEmployeeId,
+                                                         @Param("startDay") LocalDate startDay,
+                                                         @Param("endDay") LocalDate endDay);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.company.timetracker.dto.TimeEntryAnalyticsRow(" +
+           "r.employeeId, e.department, r.projectId, r.workDay, r.type, r.status, r.hours, r.entryCount) " +
+           "FROM TimeEntryDailyHours r JOIN Employee e ON e.id = r.employeeId " +
+           "ORDER BY r.workDay")
+    Stream<TimeEntryAnalyticsRow> streamForAnalytics();
+
+    @Modifying
+    @Query(value = "LOCK TABLE time_entries IN SHARE MODE", nativeQuery = true)
+    void lockTimeEntriesForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM time_entry_daily_hours WHERE work_day BETWEEN :startDay AND :endDay", nativeQuery = true)
+    int deleteByWorkDayBetween(@Param("startDay") LocalDate startDay, @Param("endDay") LocalDate endDay);
+
+    @Modifying
+    @Query(value = "INSERT INTO time_entry_daily_hours (employee_id, work_day, type, status, project_id, hours, entry_count) " +
+                   "SELECT te.employee_id, te.work_day, te.type, te.status, t.project_id, SUM(te.hours), COUNT(*) " +
+                   "FROM time_entries te LEFT JOIN tasks t ON t.id = te.task_id " +
+                   "WHERE te.work_day BETWEEN :startDay AND :endDay " +
+                   "GROUP BY te.employee_id, te.work_day, te.type, te.status, t.project_id",
+           nativeQuery = true)
+    int rebuildFromTimeEntries(@Param("startDay") LocalDate startDay, @Param("endDay") LocalDate endDay);
+}
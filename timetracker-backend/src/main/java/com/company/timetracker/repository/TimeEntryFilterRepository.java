@@ -0,0 +1,51 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.dto.TimeEntryFilter;
+import com.company.timetracker.entity.TimeEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Time entry listings whose WHERE clause depends on which filters are set.
+ */
+public interface TimeEntryFilterRepository {
+
+    /**
+     * Slice ordered by {@code (entryDate DESC, id DESC)} starting after the given key, or from the top when
+     * {@code afterId} is null.
+     */
+    Slice<TimeEntry> findKeysetSlice(TimeEntryFilter filter, LocalDateTime afterEntryDate, Long afterId,
+                                     Pageable pageable);
+
+    /**
+     * Page of fully populated DTOs, newest first unless the pageable is sorted; the count query only runs when
+     * the page does not tell the total by itself.
+     */
+    Page<TimeEntryDTO> findDtoPage(TimeEntryFilter filter, Pageable pageable);
+
+    /**
+     * Forward-only cursor over the matching entries ordered by {@code (entryDate, id)}; the caller closes it.
+     */
+    Stream<TimeEntry> streamForExport(TimeEntryFilter filter);
+
+    /**
+     * Approves the pending entries of {@code [startDate, endDate)}, narrowed to the employee and the project
+     * when given, and returns the entries it changed.
+     */
+    List<TimeEntryRepository.DecidedEntry> approvePendingMatching(Long employeeId, Long projectId,
+                                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                                  String approvedBy, LocalDateTime now);
+
+    /**
+     * Rejects the pending entries matched like {@link #approvePendingMatching} and returns the entries it changed.
+     */
+    List<TimeEntryRepository.DecidedEntry> rejectPendingMatching(Long employeeId, Long projectId,
+                                                                 LocalDateTime startDate, LocalDateTime endDate,
+                                                                 LocalDateTime now);
+}
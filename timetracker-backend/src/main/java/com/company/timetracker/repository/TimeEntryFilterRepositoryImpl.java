@@ -0,0 +1,157 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.dto.TimeEntryFilter;
+import com.company.timetracker.entity.TimeEntry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class TimeEntryFilterRepositoryImpl implements TimeEntryFilterRepository {
+
+    private static final String SELECT_WITH_ASSOCIATIONS = "SELECT te FROM TimeEntry te JOIN FETCH te.employee e " +
+            "LEFT JOIN FETCH te.task t LEFT JOIN FETCH t.project p";
+    private static final String COUNT = "SELECT COUNT(te) FROM TimeEntry te JOIN te.employee e " +
+            "LEFT JOIN te.task t LEFT JOIN t.project p";
+    private static final Set<String> SORTABLE = Set.of("id", "type", "entryDate", "startTime", "endTime", "hours",
+            "status", "approvedAt", "createdAt", "updatedAt");
+
+    private final EntityManager entityManager;
+
+    private record DecidedEntry(Long id, Long employeeId) implements TimeEntryRepository.DecidedEntry {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getEmployeeId() {
+            return employeeId;
+        }
+    }
+
+    @Override
+    public Slice<TimeEntry> findKeysetSlice(TimeEntryFilter filter, LocalDateTime afterEntryDate, Long afterId,
+                                            Pageable pageable) {
+        JpqlFilter where = filterBy(filter);
+        if (afterId != null) {
+            // Row-value comparison, so the cursor is the start bound of the index scan; the casts type the
+            // parameter tuple for HQL
+            where.and("(te.entryDate, te.id) < (CAST(:afterEntryDate AS LocalDateTime), CAST(:afterId AS Long))")
+                    .set("afterEntryDate", afterEntryDate)
+                    .set("afterId", afterId);
+        }
+        String jpql = SELECT_WITH_ASSOCIATIONS + where.where() + " ORDER BY te.entryDate DESC, te.id DESC";
+        return JpqlFilter.slice(where.bind(entityManager.createQuery(jpql, TimeEntry.class)), pageable);
+    }
+
+    @Override
+    public Page<TimeEntryDTO> findDtoPage(TimeEntryFilter filter, Pageable pageable) {
+        JpqlFilter where = filterBy(filter);
+        String jpql = TimeEntryRepository.DTO_PROJECTION + where.where() + orderBy(pageable.getSort());
+        var query = where.bind(entityManager.createQuery(jpql, TimeEntryDTO.class));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<TimeEntryDTO> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> where.bind(entityManager.createQuery(COUNT + where.where(), Long.class)).getSingleResult());
+    }
+
+    @Override
+    public Stream<TimeEntry> streamForExport(TimeEntryFilter filter) {
+        JpqlFilter where = filterBy(filter);
+        String jpql = SELECT_WITH_ASSOCIATIONS + where.where() + " ORDER BY te.entryDate, te.id";
+        return where.bind(entityManager.createQuery(jpql, TimeEntry.class))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    @Override
+    public List<TimeEntryRepository.DecidedEntry> approvePendingMatching(Long employeeId, Long projectId,
+                                                                         LocalDateTime startDate,
+                                                                         LocalDateTime endDate, String approvedBy,
+                                                                         LocalDateTime now) {
+        JpqlFilter where = pendingMatching(employeeId, projectId, startDate, endDate)
+                .set("approvedBy", approvedBy)
+                .set("now", now);
+        return decide(TimeEntryRepository.APPROVE_PENDING, where);
+    }
+
+    @Override
+    public List<TimeEntryRepository.DecidedEntry> rejectPendingMatching(Long employeeId, Long projectId,
+                                                                        LocalDateTime startDate,
+                                                                        LocalDateTime endDate, LocalDateTime now) {
+        JpqlFilter where = pendingMatching(employeeId, projectId, startDate, endDate).set("now", now);
+        return decide(TimeEntryRepository.REJECT_PENDING, where);
+    }
+
+    private List<TimeEntryRepository.DecidedEntry> decide(String update, JpqlFilter where) {
+        List<?> rows = where.bind(entityManager.createNativeQuery(update + where.where() + TimeEntryRepository.DECIDED))
+                .getResultList();
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .<TimeEntryRepository.DecidedEntry>map(row -> new DecidedEntry(((Number) row[0]).longValue(),
+                        ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    // Ties are broken by id, so pages stay stable while entries share a sort value
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return " ORDER BY te.entryDate DESC, te.id DESC";
+        }
+        StringJoiner order = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order sortOrder : sort) {
+            if (!SORTABLE.contains(sortOrder.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Cannot sort time entries by " + sortOrder.getProperty());
+            }
+            order.add("te." + sortOrder.getProperty() + (sortOrder.isAscending() ? " ASC" : " DESC"));
+        }
+        if (sort.getOrderFor("id") == null) {
+            order.add("te.id DESC");
+        }
+        return order.toString();
+    }
+
+    // Native: the bulk decisions run as UPDATE ... RETURNING
+    private static JpqlFilter pendingMatching(Long employeeId, Long projectId, LocalDateTime startDate,
+                                              LocalDateTime endDate) {
+        return new JpqlFilter()
+                .and("status = 'PENDING'")
+                .and("entry_date >= :startDate").set("startDate", startDate)
+                .and("entry_date < :endDate").set("endDate", endDate)
+                .andIfPresent("employee_id = :employeeId", "employeeId", employeeId)
+                .andIfPresent("task_id IN (SELECT t.id FROM tasks t WHERE t.project_id = :projectId)",
+                        "projectId", projectId);
+    }
+
+    private static JpqlFilter filterBy(TimeEntryFilter filter) {
+        return new JpqlFilter()
+                .andIfPresent("e.id = :employeeId", "employeeId", filter.getEmployeeId())
+                .andIfPresent("t.id = :taskId", "taskId", filter.getTaskId())
+                .andIfPresent("p.id = :projectId", "projectId", filter.getProjectId())
+                .andIfPresent("te.entryDate >= :startDate", "startDate", filter.getStartDateTime())
+                .andIfPresent("te.entryDate < :endDate", "endDate", filter.getEndDateTimeExclusive())
+                .andIfPresent("te.type = :type", "type", filter.getType())
+                .andIfPresent("te.status = :status", "status", filter.getStatus());
+    }
+}
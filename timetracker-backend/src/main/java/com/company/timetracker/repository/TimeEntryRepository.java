@@ -1,20 +1,50 @@
 package com.company.timetracker.repository;
 
+import com.company.timetracker.dto.TimeEntryDTO;
 import com.company.timetracker.entity.Employee;
 import com.company.timetracker.entity.Task;
 import com.company.timetracker.entity.TimeEntry;
 import com.company.timetracker.entity.TimeEntryStatus;
 import com.company.timetracker.entity.TimeEntryType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
+public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long>, TimeEntryFilterRepository {
+
+    // Builds fully populated TimeEntryDTOs in a single statement (argument order follows TimeEntryDTO fields)
+    String DTO_PROJECTION = "SELECT new com.company.timetracker.dto.TimeEntryDTO(" +
+            "te.id, e.id, t.id, te.type, te.entryDate, te.startTime, te.endTime, te.hours, te.description, te.notes, " +
+            "te.status, te.approvedBy, te.approvedAt, te.createdAt, te.updatedAt, " +
+            "CONCAT(e.firstName, ' ', e.lastName), t.name, t.code, p.name, p.code) " +
+            "FROM TimeEntry te JOIN te.employee e LEFT JOIN te.task t LEFT JOIN t.project p ";
+
+    // Set-based decisions: UPDATE ... RETURNING reports which of the selected rows were still pending
+    String APPROVE_PENDING = "UPDATE time_entries SET status = 'APPROVED', approved_by = :approvedBy, " +
+            "approved_at = :now, updated_at = :now, version = version + 1 ";
+    String REJECT_PENDING = "UPDATE time_entries SET status = 'REJECTED', updated_at = :now, version = version + 1 ";
+    String PENDING_BY_IDS = "WHERE id IN (:ids) AND status = 'PENDING' RETURNING id AS id, employee_id AS employeeId";
+    String DECIDED = " RETURNING id, employee_id";
+
+    interface DecidedEntry {
+        Long getId();
+        Long getEmployeeId();
+    }
+
+    interface EntryStatus {
+        Long getId();
+        TimeEntryStatus getStatus();
+    }
 
     List<TimeEntry> findByEmployee(Employee employee);
 
@@ -54,10 +84,10 @@ public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
                                                          @Param("startDate") LocalDateTime startDate,
                                                          @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT SUM(te.hours) FROM TimeEntry te WHERE te.task.id = :taskId")
+    @Query("SELECT t.loggedHours FROM Task t WHERE t.id = :taskId")
     Double sumHoursByTaskId(@Param("taskId") Long taskId);
 
-    @Query("SELECT SUM(te.hours) FROM TimeEntry te WHERE te.task.project.id = :projectId")
+    @Query("SELECT p.loggedHours FROM Project p WHERE p.id = :projectId")
     Double sumHoursByProjectId(@Param("projectId") Long projectId);
 
     @Query("SELECT te FROM TimeEntry te WHERE te.status = 'PENDING' ORDER BY te.entryDate DESC")
@@ -73,11 +103,73 @@ public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
     @Query("SELECT COUNT(te) FROM TimeEntry te WHERE te.employee.id = :employeeId AND te.status = :status")
     long countByEmployeeIdAndStatus(@Param("employeeId") Long employeeId, @Param("status") TimeEntryStatus status);
 
-    @Query("SELECT te FROM TimeEntry te WHERE te.employee.id = :employeeId AND DATE(te.entryDate) = DATE(:date)")
-    List<TimeEntry> findByEmployeeIdAndDate(@Param("employeeId") Long employeeId, @Param("date") LocalDateTime date);
-
-    @Query("SELECT DISTINCT DATE(te.entryDate) FROM TimeEntry te WHERE te.employee.id = :employeeId AND te.entryDate BETWEEN :startDate AND :endDate ORDER BY te.entryDate")
-    List<LocalDateTime> findDistinctEntryDatesByEmployeeIdAndDateRange(@Param("employeeId") Long employeeId,
-                                                                      @Param("startDate") LocalDateTime startDate,
-                                                                      @Param("endDate") LocalDateTime endDate);
+    @Query("SELECT te FROM TimeEntry te WHERE te.employee.id = :employeeId AND te.workDay = :workDay")
+    List<TimeEntry> findByEmployeeIdAndWorkDay(@Param("employeeId") Long employeeId, @Param("workDay") LocalDate workDay);
+
+    default List<TimeEntry> findByEmployeeIdAndDate(Long employeeId, LocalDateTime date) {
+        return findByEmployeeIdAndWorkDay(employeeId, date.toLocalDate());
+    }
+
+    @Query("SELECT DISTINCT te.workDay FROM TimeEntry te WHERE te.employee.id = :employeeId " +
+           "AND te.workDay BETWEEN :startDay AND :endDay ORDER BY te.workDay")
+    List<LocalDate> findDistinctWorkDaysByEmployeeIdAndWorkDayBetween(@Param("employeeId") Long employeeId,
+                                                                     @Param("startDay") LocalDate startDay,
+                                                                     @Param("endDay") LocalDate endDay);
+
+    default List<LocalDateTime> findDistinctEntryDatesByEmployeeIdAndDateRange(Long employeeId,
+                                                                              LocalDateTime startDate,
+                                                                              LocalDateTime endDate) {
+        return findDistinctWorkDaysByEmployeeIdAndWorkDayBetween(employeeId, startDate.toLocalDate(), endDate.toLocalDate())
+                .stream()
+                .map(LocalDate::atStartOfDay)
+                .toList();
+    }
+
+    @Query(DTO_PROJECTION + "WHERE te.id = :id")
+    Optional<TimeEntryDTO> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_PROJECTION + "WHERE e.keycloakId = :keycloakId AND te.workDay BETWEEN :startDay AND :endDay " +
+           "ORDER BY te.entryDate DESC, te.id DESC")
+    List<TimeEntryDTO> findDtosByKeycloakIdAndWorkDayBetween(@Param("keycloakId") String keycloakId,
+                                                             @Param("startDay") LocalDate startDay,
+                                                             @Param("endDay") LocalDate endDay);
+
+    @Query(DTO_PROJECTION + "WHERE e.id = :employeeId AND te.workDay BETWEEN :startDay AND :endDay " +
+           "ORDER BY te.entryDate, te.id")
+    List<TimeEntryDTO> findDtosByEmployeeIdAndWorkDayBetween(@Param("employeeId") Long employeeId,
+                                                             @Param("startDay") LocalDate startDay,
+                                                             @Param("endDay") LocalDate endDay);
+
+    @Query(DTO_PROJECTION + "WHERE te.status = 'PENDING' ORDER BY te.entryDate DESC")
+    List<TimeEntryDTO> findPendingTimeEntryDtos();
+
+    @Query(DTO_PROJECTION + "WHERE te.status = 'PENDING' ORDER BY te.entryDate DESC")
+    List<TimeEntryDTO> findPendingTimeEntryDtos(Pageable pageable);
+
+    @Query(DTO_PROJECTION + "WHERE te.id IN :ids AND te.status = 'PENDING'")
+    List<TimeEntryDTO> findPendingDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Single-statement state transitions: concurrent deciders race on the status predicate, so exactly
+    // one of them updates the row and the others see 0
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TimeEntry te SET te.status = com.company.timetracker.entity.TimeEntryStatus.APPROVED, " +
+           "te.approvedBy = :approvedBy, te.approvedAt = :now, te.updatedAt = :now, te.version = te.version + 1 " +
+           "WHERE te.id = :id AND te.status = com.company.timetracker.entity.TimeEntryStatus.PENDING")
+    int approveIfPending(@Param("id") Long id, @Param("approvedBy") String approvedBy, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TimeEntry te SET te.status = com.company.timetracker.entity.TimeEntryStatus.REJECTED, " +
+           "te.updatedAt = :now, te.version = te.version + 1 " +
+           "WHERE te.id = :id AND te.status = com.company.timetracker.entity.TimeEntryStatus.PENDING")
+    int rejectIfPending(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query(value = APPROVE_PENDING + PENDING_BY_IDS, nativeQuery = true)
+    List<DecidedEntry> approvePendingByIds(@Param("ids") Collection<Long> ids, @Param("approvedBy") String approvedBy,
+                                   @Param("now") LocalDateTime now);
+
+    @Query(value = REJECT_PENDING + PENDING_BY_IDS, nativeQuery = true)
+    List<DecidedEntry> rejectPendingByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT te.id AS id, te.status AS status FROM TimeEntry te WHERE te.id IN :ids")
+    List<EntryStatus> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
 }
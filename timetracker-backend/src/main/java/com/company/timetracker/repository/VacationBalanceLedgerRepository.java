@@ -0,0 +1,9 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.entity.VacationBalanceLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VacationBalanceLedgerRepository extends JpaRepository<VacationBalanceLedgerEntry, Long> {
+}
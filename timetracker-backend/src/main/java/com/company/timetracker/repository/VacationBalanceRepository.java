@@ -0,0 +1,77 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.entity.VacationBalance;
+import com.company.timetracker.entity.VacationBalanceId;
+import com.company.timetracker.entity.VacationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VacationBalanceRepository extends JpaRepository<VacationBalance, VacationBalanceId> {
+
+    interface BalanceSummary {
+        Long getEmployeeId();
+        Integer getEntitledDays();
+        Integer getUsedDays();
+        Integer getPendingDays();
+    }
+
+    interface BalanceDrift {
+        Long getEmployeeId();
+        Integer getBalanceYear();
+        String getType();
+        Integer getExpectedUsedDays();
+        Integer getExpectedPendingDays();
+        Integer getLedgerUsedDays();
+        Integer getLedgerPendingDays();
+        Integer getBalanceUsedDays();
+        Integer getBalancePendingDays();
+    }
+
+    @Query("SELECT e.id AS employeeId, e.vacationDaysPerYear AS entitledDays, " +
+           "COALESCE(b.usedDays, 0) AS usedDays, COALESCE(b.pendingDays, 0) AS pendingDays " +
+           "FROM Employee e LEFT JOIN VacationBalance b " +
+           "ON b.id.employeeId = e.id AND b.id.year = :year AND b.id.type = :type " +
+           "WHERE e.keycloakId = :keycloakId")
+    Optional<BalanceSummary> findSummaryByKeycloakId(@Param("keycloakId") String keycloakId,
+                                                     @Param("year") int year,
+                                                     @Param("type") VacationType type);
+
+    @Modifying
+    @Query(value = "LOCK TABLE vacation_requests IN SHARE MODE", nativeQuery = true)
+    void lockVacationRequestsForReconciliation();
+
+    // Totals implied by vacation_requests, the ledger and the running balances, where any two disagree
+    @Query(value = "WITH expected AS (" +
+                   "  SELECT employee_id, CAST(EXTRACT(YEAR FROM start_date) AS INTEGER) AS balance_year, type, " +
+                   "         SUM(CASE WHEN status = 'APPROVED' THEN end_date - start_date + 1 ELSE 0 END) AS used_days, " +
+                   "         SUM(CASE WHEN status = 'PENDING' THEN end_date - start_date + 1 ELSE 0 END) AS pending_days " +
+                   "  FROM vacation_requests WHERE status IN ('APPROVED', 'PENDING') " +
+                   "  GROUP BY employee_id, CAST(EXTRACT(YEAR FROM start_date) AS INTEGER), type), " +
+                   "ledger AS (" +
+                   "  SELECT employee_id, balance_year, type, SUM(used_days_delta) AS used_days, " +
+                   "         SUM(pending_days_delta) AS pending_days " +
+                   "  FROM vacation_balance_ledger GROUP BY employee_id, balance_year, type) " +
+                   "SELECT employee_id AS employeeId, balance_year AS balanceYear, type AS type, " +
+                   "       CAST(COALESCE(x.used_days, 0) AS INTEGER) AS expectedUsedDays, " +
+                   "       CAST(COALESCE(x.pending_days, 0) AS INTEGER) AS expectedPendingDays, " +
+                   "       CAST(COALESCE(l.used_days, 0) AS INTEGER) AS ledgerUsedDays, " +
+                   "       CAST(COALESCE(l.pending_days, 0) AS INTEGER) AS ledgerPendingDays, " +
+                   "       COALESCE(b.used_days, 0) AS balanceUsedDays, " +
+                   "       COALESCE(b.pending_days, 0) AS balancePendingDays " +
+                   "FROM expected x " +
+                   "FULL JOIN ledger l USING (employee_id, balance_year, type) " +
+                   "FULL JOIN vacation_balances b USING (employee_id, balance_year, type) " +
+                   "WHERE COALESCE(x.used_days, 0) <> COALESCE(l.used_days, 0) " +
+                   "   OR COALESCE(x.pending_days, 0) <> COALESCE(l.pending_days, 0) " +
+                   "   OR COALESCE(l.used_days, 0) <> COALESCE(b.used_days, 0) " +
+                   "   OR COALESCE(l.pending_days, 0) <> COALESCE(b.pending_days, 0)",
+           nativeQuery = true)
+    List<BalanceDrift> findDrift();
+}
@@ -0,0 +1,40 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.entity.VacationRequest;
+import com.company.timetracker.entity.VacationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Vacation request listings whose WHERE clause depends on which filters are set.
+ */
+public interface VacationRequestFilterRepository {
+
+    /**
+     * Slice ordered by {@code (startDate DESC, id DESC)} starting after the given key, or from the top when
+     * {@code afterId} is null. {@code startDate} and {@code endDate} select the requests overlapping that period.
+     */
+    Slice<VacationRequest> findKeysetSlice(VacationStatus status, Long employeeId, LocalDate startDate,
+                                           LocalDate endDate, LocalDate afterStartDate, Long afterId,
+                                           Pageable pageable);
+
+    /**
+     * Approves the pending requests overlapping {@code startDate} to {@code endDate}, narrowed to the employee
+     * and the members of the project when given, and returns the requests it changed.
+     */
+    List<VacationRequestRepository.DecidedRequest> approvePendingMatching(Long employeeId, Long projectId,
+                                                                          LocalDate startDate, LocalDate endDate,
+                                                                          String approvedBy, LocalDateTime now);
+
+    /**
+     * Rejects the pending requests matched like {@link #approvePendingMatching} and returns the requests it
+     * changed.
+     */
+    List<VacationRequestRepository.DecidedRequest> rejectPendingMatching(Long employeeId, Long projectId,
+                                                                         LocalDate startDate, LocalDate endDate,
+                                                                         String rejectionReason, LocalDateTime now);
+}
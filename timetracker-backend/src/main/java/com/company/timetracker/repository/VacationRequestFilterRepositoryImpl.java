@@ -0,0 +1,101 @@
+package com.company.timetracker.repository;
+
+import com.company.timetracker.entity.VacationRequest;
+import com.company.timetracker.entity.VacationStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class VacationRequestFilterRepositoryImpl implements VacationRequestFilterRepository {
+
+    private final EntityManager entityManager;
+
+    private record DecidedRequest(Long id, Long employeeId) implements VacationRequestRepository.DecidedRequest {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getEmployeeId() {
+            return employeeId;
+        }
+    }
+
+    @Override
+    public Slice<VacationRequest> findKeysetSlice(VacationStatus status, Long employeeId, LocalDate startDate,
+                                                  LocalDate endDate, LocalDate afterStartDate, Long afterId,
+                                                  Pageable pageable) {
+        JpqlFilter where = new JpqlFilter()
+                .andIfPresent("vr.status = :status", "status", status)
+                .andIfPresent("e.id = :employeeId", "employeeId", employeeId)
+                .andIfPresent("vr.endDate >= :startDate", "startDate", startDate)
+                .andIfPresent("vr.startDate <= :endDate", "endDate", endDate);
+        if (afterId != null) {
+            // Row-value comparison, so the cursor is the start bound of the index scan; the casts type the
+            // parameter tuple for HQL
+            where.and("(vr.startDate, vr.id) < (CAST(:afterStartDate AS LocalDate), CAST(:afterId AS Long))")
+                    .set("afterStartDate", afterStartDate)
+                    .set("afterId", afterId);
+        }
+        String jpql = "SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee e" + where.where()
+                + " ORDER BY vr.startDate DESC, vr.id DESC";
+        return JpqlFilter.slice(where.bind(entityManager.createQuery(jpql, VacationRequest.class)), pageable);
+    }
+
+    @Override
+    public List<VacationRequestRepository.DecidedRequest> approvePendingMatching(Long employeeId, Long projectId,
+                                                                                 LocalDate startDate,
+                                                                                 LocalDate endDate,
+                                                                                 String approvedBy,
+                                                                                 LocalDateTime now) {
+        JpqlFilter where = pendingMatching(employeeId, projectId, startDate, endDate)
+                .set("approvedBy", approvedBy)
+                .set("now", now);
+        return decide(VacationRequestRepository.APPROVE_PENDING, where);
+    }
+
+    @Override
+    public List<VacationRequestRepository.DecidedRequest> rejectPendingMatching(Long employeeId, Long projectId,
+                                                                                LocalDate startDate,
+                                                                                LocalDate endDate,
+                                                                                String rejectionReason,
+                                                                                LocalDateTime now) {
+        JpqlFilter where = pendingMatching(employeeId, projectId, startDate, endDate)
+                .set("rejectionReason", rejectionReason)
+                .set("now", now);
+        return decide(VacationRequestRepository.REJECT_PENDING, where);
+    }
+
+    private List<VacationRequestRepository.DecidedRequest> decide(String update, JpqlFilter where) {
+        List<?> rows = where.bind(entityManager.createNativeQuery(
+                update + where.where() + VacationRequestRepository.DECIDED)).getResultList();
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .<VacationRequestRepository.DecidedRequest>map(row -> new DecidedRequest(
+                        ((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    // Native: the bulk decisions run as UPDATE ... RETURNING
+    private static JpqlFilter pendingMatching(Long employeeId, Long projectId, LocalDate startDate,
+                                              LocalDate endDate) {
+        return new JpqlFilter()
+                .and("status = 'PENDING'")
+                .and("daterange(start_date, end_date, '[]') && " +
+                        "daterange(CAST(:startDate AS date), CAST(:endDate AS date), '[]')")
+                .set("startDate", startDate)
+                .set("endDate", endDate)
+                .andIfPresent("employee_id = :employeeId", "employeeId", employeeId)
+                .andIfPresent("employee_id IN " +
+                        "(SELECT pe.employee_id FROM project_employees pe WHERE pe.project_id = :projectId)",
+                        "projectId", projectId);
+    }
+}
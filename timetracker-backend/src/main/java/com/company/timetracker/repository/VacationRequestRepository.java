@@ -1,20 +1,50 @@
 package com.company.timetracker.repository;
 
+import com.company.timetracker.dto.VacationInterval;
 import com.company.timetracker.entity.Employee;
 import com.company.timetracker.entity.VacationRequest;
 import com.company.timetracker.entity.VacationStatus;
 import com.company.timetracker.entity.VacationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface VacationRequestRepository extends JpaRepository<VacationRequest, Long> {
+public interface VacationRequestRepository extends JpaRepository<VacationRequest, Long>,
+        VacationRequestFilterRepository {
+
+    // Approved absences for the coverage index (argument order follows VacationInterval fields)
+    String INTERVAL_PROJECTION = "SELECT new com.company.timetracker.dto.VacationInterval(" +
+            "vr.id, e.id, CONCAT(e.firstName, ' ', e.lastName), e.department, vr.startDate, vr.endDate, vr.type) " +
+            "FROM VacationRequest vr JOIN vr.employee e ";
+
+    // Set-based decisions: UPDATE ... RETURNING reports which of the selected rows were still pending
+    String APPROVE_PENDING = "UPDATE vacation_requests SET status = 'APPROVED', approved_by = :approvedBy, " +
+            "approved_at = :now, approval_skipped = false, approval_skip_label = NULL, updated_at = :now, " +
+            "version = version + 1 ";
+    String REJECT_PENDING = "UPDATE vacation_requests SET status = 'REJECTED', rejection_reason = :rejectionReason, " +
+            "approval_skipped = false, approval_skip_label = NULL, updated_at = :now, version = version + 1 ";
+    String PENDING_BY_IDS = "WHERE id IN (:ids) AND status = 'PENDING' RETURNING id AS id, employee_id AS employeeId";
+    String DECIDED = " RETURNING id, employee_id";
+
+    interface DecidedRequest {
+        Long getId();
+        Long getEmployeeId();
+    }
+
+    interface RequestStatus {
+        Long getId();
+        VacationStatus getStatus();
+    }
 
     List<VacationRequest> findByEmployee(Employee employee);
 
@@ -28,26 +58,54 @@ public interface VacationRequestRepository extends JpaRepository<VacationRequest
     List<VacationRequest> findByEmployeeIdAndStatusOrderByStartDateDesc(@Param("employeeId") Long employeeId, 
                                                                        @Param("status") VacationStatus status);
 
-    @Query("SELECT vr FROM VacationRequest vr WHERE vr.startDate BETWEEN :startDate AND :endDate OR vr.endDate BETWEEN :startDate AND :endDate")
-    List<VacationRequest> findByDateRange(@Param("startDate") LocalDate startDate, 
-                                         @Param("endDate") LocalDate endDate);
-
-    @Query("SELECT vr FROM VacationRequest vr WHERE vr.employee.id = :employeeId AND ((vr.startDate BETWEEN :startDate AND :endDate) OR (vr.endDate BETWEEN :startDate AND :endDate) OR (vr.startDate <= :startDate AND vr.endDate >= :endDate))")
+    // Overlap predicates go through date_ranges_overlap / date_range_contains (DateRangeFunctionContributor)
+    // so they can use the interval index on the request period
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee e " +
+           "WHERE date_ranges_overlap(vr.startDate, vr.endDate, :startDate, :endDate) " +
+           "ORDER BY vr.startDate, vr.id")
+    List<VacationRequest> findByDateRange(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee e " +
+           "WHERE date_ranges_overlap(vr.startDate, vr.endDate, :startDate, :endDate) " +
+           "AND e.department = :department " +
+           "ORDER BY vr.startDate, vr.id")
+    List<VacationRequest> findByDateRangeAndDepartment(@Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate,
+                                                       @Param("department") String department);
+
+    @Query("SELECT vr FROM VacationRequest vr WHERE vr.employee.id = :employeeId " +
+           "AND date_ranges_overlap(vr.startDate, vr.endDate, :startDate, :endDate)")
     List<VacationRequest> findByEmployeeIdAndOverlappingDates(@Param("employeeId") Long employeeId,
                                                              @Param("startDate") LocalDate startDate,
                                                              @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT vr FROM VacationRequest vr WHERE vr.status = 'PENDING' ORDER BY vr.createdAt ASC")
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee WHERE vr.status = 'PENDING' ORDER BY vr.createdAt ASC")
     List<VacationRequest> findPendingRequestsOrderByCreatedAt();
 
-    @Query("SELECT vr FROM VacationRequest vr WHERE vr.status = 'APPROVED' AND vr.startDate <= :date AND vr.endDate >= :date")
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee WHERE vr.status = 'PENDING' " +
+           "ORDER BY vr.createdAt ASC, vr.id ASC")
+    List<VacationRequest> findPendingRequestsOrderByCreatedAt(Pageable pageable);
+
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee WHERE vr.id IN :ids AND vr.status = 'PENDING'")
+    List<VacationRequest> findPendingWithEmployeeByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT vr FROM VacationRequest vr WHERE vr.status = 'APPROVED' " +
+           "AND date_range_contains(vr.startDate, vr.endDate, :date)")
     List<VacationRequest> findApprovedVacationsOnDate(@Param("date") LocalDate date);
 
+    @Query(INTERVAL_PROJECTION + "WHERE vr.status = 'APPROVED'")
+    List<VacationInterval> findApprovedIntervals();
+
+    @Query(INTERVAL_PROJECTION + "WHERE vr.id = :id AND vr.status = 'APPROVED'")
+    Optional<VacationInterval> findApprovedIntervalById(@Param("id") Long id);
+
     @Query("SELECT vr FROM VacationRequest vr WHERE vr.employee.id = :employeeId AND vr.status = 'APPROVED' AND YEAR(vr.startDate) = :year")
     List<VacationRequest> findApprovedVacationsByEmployeeIdAndYear(@Param("employeeId") Long employeeId, 
                                                                   @Param("year") int year);
 
-    @Query("SELECT SUM(DATEDIFF(vr.endDate, vr.startDate) + 1) FROM VacationRequest vr WHERE vr.employee.id = :employeeId AND vr.status = 'APPROVED' AND vr.type = :type AND YEAR(vr.startDate) = :year")
+    // Read from the ledger-maintained balance instead of summing the requests
+    @Query("SELECT b.usedDays FROM VacationBalance b WHERE b.id.employeeId = :employeeId AND b.id.type = :type AND b.id.year = :year")
     Integer sumApprovedDaysByEmployeeIdAndTypeAndYear(@Param("employeeId") Long employeeId,
                                                      @Param("type") VacationType type,
                                                      @Param("year") int year);
@@ -67,6 +125,53 @@ public interface VacationRequestRepository extends JpaRepository<VacationRequest
     @Query("SELECT vr FROM VacationRequest vr WHERE vr.employee.id = :employeeId AND vr.status IN ('PENDING', 'APPROVED') ORDER BY vr.startDate ASC")
     List<VacationRequest> findUpcomingVacationsByEmployeeId(@Param("employeeId") Long employeeId);
 
-    @Query("SELECT DISTINCT vr.employee FROM VacationRequest vr WHERE vr.status = 'APPROVED' AND vr.startDate <= :date AND vr.endDate >= :date")
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee WHERE vr.employee.id = :employeeId " +
+           "AND vr.status IN ('PENDING', 'APPROVED') AND vr.endDate >= :fromDate ORDER BY vr.startDate ASC")
+    List<VacationRequest> findUpcomingVacationsByEmployeeIdFrom(@Param("employeeId") Long employeeId,
+                                                                @Param("fromDate") LocalDate fromDate);
+
+    @Query("SELECT DISTINCT vr.employee FROM VacationRequest vr WHERE vr.status = 'APPROVED' " +
+           "AND date_range_contains(vr.startDate, vr.endDate, :date)")
     List<Employee> findEmployeesOnVacationOnDate(@Param("date") LocalDate date);
+
+    @Query("SELECT vr FROM VacationRequest vr JOIN FETCH vr.employee WHERE vr.id = :id")
+    Optional<VacationRequest> findWithEmployeeById(@Param("id") Long id);
+
+    // Single-statement state transitions: concurrent deciders race on the status predicate, so exactly
+    // one of them updates the row and the others see 0. Entity listeners do not run for these updates.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VacationRequest vr SET vr.status = com.company.timetracker.entity.VacationStatus.APPROVED, " +
+           "vr.approvedBy = :approvedBy, vr.approvedAt = :now, vr.approvalSkipped = false, vr.approvalSkipLabel = null, " +
+           "vr.updatedAt = :now, vr.version = vr.version + 1 " +
+           "WHERE vr.id = :id AND vr.status = com.company.timetracker.entity.VacationStatus.PENDING")
+    int approveIfPending(@Param("id") Long id, @Param("approvedBy") String approvedBy, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VacationRequest vr SET vr.status = com.company.timetracker.entity.VacationStatus.REJECTED, " +
+           "vr.rejectionReason = :rejectionReason, vr.approvalSkipped = false, vr.approvalSkipLabel = null, " +
+           "vr.updatedAt = :now, vr.version = vr.version + 1 " +
+           "WHERE vr.id = :id AND vr.status = com.company.timetracker.entity.VacationStatus.PENDING")
+    int rejectIfPending(@Param("id") Long id, @Param("rejectionReason") String rejectionReason,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VacationRequest vr SET vr.status = com.company.timetracker.entity.VacationStatus.APPROVED, " +
+           "vr.approvalSkipped = true, vr.approvalSkipLabel = :skipLabel, vr.approvedAt = :now, " +
+           "vr.updatedAt = :now, vr.version = vr.version + 1 " +
+           "WHERE vr.id = :id AND vr.status = com.company.timetracker.entity.VacationStatus.PENDING")
+    int skipApprovalIfPending(@Param("id") Long id, @Param("skipLabel") String skipLabel,
+                              @Param("now") LocalDateTime now);
+
+    @Query(value = APPROVE_PENDING + PENDING_BY_IDS, nativeQuery = true)
+    List<DecidedRequest> approvePendingByIds(@Param("ids") Collection<Long> ids,
+                                             @Param("approvedBy") String approvedBy,
+                                             @Param("now") LocalDateTime now);
+
+    @Query(value = REJECT_PENDING + PENDING_BY_IDS, nativeQuery = true)
+    List<DecidedRequest> rejectPendingByIds(@Param("ids") Collection<Long> ids,
+                                            @Param("rejectionReason") String rejectionReason,
+                                            @Param("now") LocalDateTime now);
+
+    @Query("SELECT vr.id AS id, vr.status AS status FROM VacationRequest vr WHERE vr.id IN :ids")
+    List<RequestStatus> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,80 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.EmployeeIdentity;
+import com.company.timetracker.event.EmployeeChangedEvent;
+import com.company.timetracker.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Local cache of keycloakId to employee identity, so resolving the caller does not cost a
+ * database round-trip per request. Entries are evicted when an employee change commits; until then
+ * the cached identity matches what other transactions read.
+ */
+@Service
+@Slf4j
+public class EmployeeIdentityCache {
+
+    public static final String CACHE_NAME = "employeeIdentity";
+
+    private final EmployeeRepository employeeRepository;
+    private final Cache<String, EmployeeIdentity> cache;
+    private final Counter invalidations;
+
+    public EmployeeIdentityCache(EmployeeRepository employeeRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.cache.employee-identity.maximum-size:10000}") long maximumSize,
+                                 @Value("${app.cache.employee-identity.ttl:10m}") Duration ttl) {
+        this.employeeRepository = employeeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .description("Explicit invalidations after employee updates or removal")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<EmployeeIdentity> resolve(String keycloakId) {
+        if (keycloakId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(keycloakId,
+                key -> employeeRepository.findIdentityByKeycloakId(key).orElse(null)));
+    }
+
+    // By id as well, so the entry under a previous keycloak id goes too
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        evictEmployee(event.getEmployeeId());
+        evict(event.getKeycloakId());
+    }
+
+    public void evict(String keycloakId) {
+        if (keycloakId != null) {
+            cache.invalidate(keycloakId);
+            invalidations.increment();
+        }
+    }
+
+    public void evictEmployee(Long employeeId) {
+        if (employeeId != null && cache.asMap().values().removeIf(identity -> employeeId.equals(identity.getId()))) {
+            invalidations.increment();
+            log.debug("Evicted cached identity for employee {}", employeeId);
+        }
+    }
+}
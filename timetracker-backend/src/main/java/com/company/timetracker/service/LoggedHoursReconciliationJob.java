@@ -0,0 +1,66 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.repository.ProjectRepository;
+import com.company.timetracker.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Verifies the task and project {@code logged_hours} counters against {@code time_entries} and corrects
+ * the ones that drifted. Each drift is read from one snapshot and applied as a delta under the row lock
+ * of the update, so writers of time entries are never blocked by the check and their concurrent changes
+ * are kept. Tasks are corrected before projects, each by ascending id, the lock order of the triggers.
+ */
+@Component
+@Slf4j
+public class LoggedHoursReconciliationJob {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final Counter taskCorrections;
+    private final Counter projectCorrections;
+
+    public LoggedHoursReconciliationJob(TaskRepository taskRepository, ProjectRepository projectRepository,
+                                        MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.taskCorrections = Counter.builder("logged_hours.reconciliation.corrections")
+                .description("Logged hours counters repaired by the reconciliation job")
+                .tag("level", "task")
+                .register(meterRegistry);
+        this.projectCorrections = Counter.builder("logged_hours.reconciliation.corrections")
+                .description("Logged hours counters repaired by the reconciliation job")
+                .tag("level", "project")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.projects.logged-hours.reconcile-cron:0 0 3 * * *}")
+    @Transactional
+    public int reconcile() {
+        List<TaskRepository.LoggedHoursDrift> taskDrift = taskRepository.findLoggedHoursDrift();
+        for (TaskRepository.LoggedHoursDrift row : taskDrift) {
+            log.warn("Logged hours drift for task {}: counter {}, entries {}",
+                    row.getId(), row.getLoggedHours(), row.getActualHours());
+            taskRepository.adjustLoggedHours(row.getId(), row.getActualHours() - row.getLoggedHours());
+        }
+
+        List<ProjectRepository.LoggedHoursDrift> projectDrift = projectRepository.findLoggedHoursDrift();
+        for (ProjectRepository.LoggedHoursDrift row : projectDrift) {
+            log.warn("Logged hours drift for project {}: counter {}, tasks {}",
+                    row.getId(), row.getLoggedHours(), row.getActualHours());
+            projectRepository.adjustLoggedHours(row.getId(), row.getActualHours() - row.getLoggedHours());
+        }
+
+        taskCorrections.increment(taskDrift.size());
+        projectCorrections.increment(projectDrift.size());
+        log.info("Logged hours reconciliation finished: {} tasks and {} projects repaired",
+                taskDrift.size(), projectDrift.size());
+        return taskDrift.size() + projectDrift.size();
+    }
+}
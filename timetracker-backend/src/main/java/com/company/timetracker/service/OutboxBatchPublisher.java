@@ -0,0 +1,98 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.event.OutboxMessage;
+import com.company.timetracker.event.OutboxSink;
+import com.company.timetracker.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Delivers one batch of the outbox to every {@link OutboxSink} and marks it published in the same
+ * transaction, under an advisory lock so only one instance relays at a time. A batch that a sink
+ * rejects is retried event by event; once an event fails, later events of the same aggregate are held
+ * back until it has been delivered.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxBatchPublisher {
+
+    // "outbox" in ASCII
+    private static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+
+    public record BatchResult(boolean leader, List<OutboxMessage> published, int failed) {
+    }
+
+    @Transactional
+    public BatchResult publishNext(int batchSize) {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            return new BatchResult(false, List.of(), 0);
+        }
+        List<OutboxMessage> messages = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize)).stream()
+                .map(OutboxMessage::of)
+                .toList();
+        if (messages.isEmpty()) {
+            return new BatchResult(true, List.of(), 0);
+        }
+
+        List<OutboxMessage> published;
+        try {
+            deliver(messages);
+            published = messages;
+        } catch (Exception e) {
+            log.warn("Delivery of {} outbox events failed, retrying individually: {}", messages.size(), e.getMessage());
+            published = deliverIndividually(messages);
+        }
+        if (!published.isEmpty()) {
+            outboxEventRepository.markPublished(published.stream().map(OutboxMessage::getId).toList(),
+                    LocalDateTime.now());
+        }
+        return new BatchResult(true, published, messages.size() - published.size());
+    }
+
+    @Transactional
+    public int deletePublishedBefore(LocalDateTime cutoff, int limit) {
+        return outboxEventRepository.deletePublishedBefore(cutoff, limit);
+    }
+
+    private void deliver(List<OutboxMessage> messages) throws Exception {
+        for (OutboxSink sink : sinks) {
+            sink.publish(messages);
+        }
+    }
+
+    private List<OutboxMessage> deliverIndividually(List<OutboxMessage> messages) {
+        List<OutboxMessage> published = new ArrayList<>(messages.size());
+        Set<String> heldBack = new HashSet<>();
+        for (OutboxMessage message : messages) {
+            if (heldBack.contains(message.getAggregateKey())) {
+                continue;
+            }
+            try {
+                deliver(List.of(message));
+                published.add(message);
+            } catch (Exception e) {
+                heldBack.add(message.getAggregateKey());
+                String error = String.valueOf(e.getMessage());
+                log.warn("Outbox event {} ({} {}) could not be delivered: {}", message.getId(),
+                        message.getAggregateKey(), message.getEventType(), error);
+                outboxEventRepository.markFailed(message.getId(),
+                        error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            }
+        }
+        return published;
+    }
+}
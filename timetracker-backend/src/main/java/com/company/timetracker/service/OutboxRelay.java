@@ -0,0 +1,168 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.event.OutboxMessage;
+import com.company.timetracker.event.TimeEntryChangedEvent;
+import com.company.timetracker.event.VacationRequestChangedEvent;
+import com.company.timetracker.repository.OutboxEventRepository;
+import com.company.timetracker.repository.OutboxEventRepository.Backlog;
+import com.company.timetracker.service.OutboxBatchPublisher.BatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background relay of the transactional outbox. A single worker publishes batches until the outbox is
+ * drained, then waits for the next poll or for a committed time entry or vacation request change,
+ * whichever comes first. Backlog size and the age of the oldest undelivered event are exported as
+ * {@code outbox.events.pending} and {@code outbox.lag}.
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxBatchPublisher batchPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryLatency;
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    @Value("${app.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.poll-interval:1s}")
+    private Duration pollInterval;
+
+    @Value("${app.outbox.retention:7d}")
+    private Duration retention;
+
+    @Value("${app.outbox.cleanup-batch-size:10000}")
+    private int cleanupBatchSize;
+
+    private volatile long pending;
+    private volatile LocalDateTime oldestPendingCreatedAt;
+    private Thread worker;
+    private volatile boolean running;
+
+    public OutboxRelay(OutboxBatchPublisher batchPublisher, OutboxEventRepository outboxEventRepository,
+                       MeterRegistry meterRegistry) {
+        this.batchPublisher = batchPublisher;
+        this.outboxEventRepository = outboxEventRepository;
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events delivered to all sinks")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.failed")
+                .description("Outbox event deliveries rejected by a sink")
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("outbox.delivery.latency")
+                .description("Time from commit of a change to delivery of its outbox event")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.pending", this, relay -> relay.pending)
+                .description("Outbox events not yet delivered")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest undelivered outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::relayLoop, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        wakeUp.release();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVacationRequestChanged(VacationRequestChangedEvent event) {
+        wakeUp.release();
+    }
+
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 0 4 * * *}")
+    public void deletePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = batchPublisher.deletePublishedBefore(cutoff, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+        log.info("Removed {} outbox events published before {}", total, cutoff);
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                BatchResult result = batchPublisher.publishNext(batchSize);
+                record(result);
+                refreshBacklog();
+                boolean more = result.leader() && result.failed() == 0 && result.published().size() == batchSize;
+                if (!more) {
+                    wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Outbox relay pass failed", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void record(BatchResult result) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxMessage message : result.published()) {
+            deliveryLatency.record(Duration.between(message.getCreatedAt(), now));
+        }
+        publishedCounter.increment(result.published().size());
+        failedCounter.increment(result.failed());
+    }
+
+    private void refreshBacklog() {
+        Backlog backlog = outboxEventRepository.findBacklog();
+        pending = backlog.getPending();
+        oldestPendingCreatedAt = backlog.getOldestCreatedAt();
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPendingCreatedAt;
+        return oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0) : 0;
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.PendingApprovalSnapshotDTO;
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.dto.VacationRequestDTO;
+import com.company.timetracker.event.TimeEntryChangedEvent;
+import com.company.timetracker.event.VacationRequestChangedEvent;
+import com.company.timetracker.mapper.VacationRequestMapper;
+import com.company.timetracker.repository.TimeEntryRepository;
+import com.company.timetracker.repository.VacationRequestRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Server-sent event streams of the pending approval queues. A subscriber first receives a
+ * {@code snapshot} of the queue, then {@code added} (the item as it is now) and {@code removed}
+ * (<code>{"id": ...}</code>) events as entries and requests change after commit. A single sender thread
+ * coalesces changes into one lookup per batch and writes to all subscribers, so the database load does
+ * not grow with the number of open dashboards. If the change queue overflows the affected streams are
+ * closed and clients resynchronise by reconnecting.
+ */
+@Service
+@Slf4j
+public class PendingApprovalStream {
+
+    public enum Queue { TIME_ENTRIES, VACATION_REQUESTS }
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final VacationRequestRepository vacationRequestRepository;
+    private final VacationRequestMapper vacationRequestMapper;
+    private final Map<Queue, Set<SseEmitter>> subscribers = new EnumMap<>(Queue.class);
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Value("${app.approvals.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${app.approvals.stream.max-subscribers:500}")
+    private int maxSubscribers;
+
+    @Value("${app.approvals.stream.snapshot-limit:1000}")
+    private int snapshotLimit;
+
+    @Value("${app.approvals.stream.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.approvals.stream.max-batch-size:500}")
+    private int maxBatchSize;
+
+    private BlockingQueue<Task> tasks;
+    private Thread sender;
+    private volatile boolean running;
+
+    private interface Task {
+    }
+
+    private record Change(Queue queue, Long id) implements Task {
+    }
+
+    private record Subscribe(Queue queue, SseEmitter emitter) implements Task {
+    }
+
+    private record Heartbeat() implements Task {
+    }
+
+    public PendingApprovalStream(TimeEntryRepository timeEntryRepository,
+                                 VacationRequestRepository vacationRequestRepository,
+                                 VacationRequestMapper vacationRequestMapper,
+                                 MeterRegistry meterRegistry) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.vacationRequestRepository = vacationRequestRepository;
+        this.vacationRequestMapper = vacationRequestMapper;
+        for (Queue queue : Queue.values()) {
+            subscribers.put(queue, new CopyOnWriteArraySet<>());
+        }
+        Gauge.builder("approvals.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open pending approval streams")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        tasks = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        sender = new Thread(this::sendLoop, "pending-approvals-stream");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        sender.interrupt();
+        sender.join(TimeUnit.SECONDS.toMillis(10));
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    public SseEmitter subscribe(Queue queue) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open approval streams");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> unsubscribe(queue, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(queue, emitter));
+        // The sender registers the emitter right before reading the snapshot, so no change can fall in between
+        if (!running || !tasks.offer(new Subscribe(queue, emitter))) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Approval stream is busy");
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        enqueue(Queue.TIME_ENTRIES, event.getEntryId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVacationRequestChanged(VacationRequestChangedEvent event) {
+        enqueue(Queue.VACATION_REQUESTS, event.getRequestId());
+    }
+
+    // Keeps proxies and load balancers from closing idle streams
+    @Scheduled(fixedDelayString = "${app.approvals.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (subscriberCount.get() > 0) {
+            tasks.offer(new Heartbeat());
+        }
+    }
+
+    private void enqueue(Queue queue, Long id) {
+        if (subscribers.get(queue).isEmpty()) {
+            return;
+        }
+        if (!tasks.offer(new Change(queue, id))) {
+            log.warn("Pending approval stream queue is full, closing {} streams for resynchronisation", queue);
+            subscribers.get(queue).forEach(SseEmitter::complete);
+        }
+    }
+
+    private void unsubscribe(Queue queue, SseEmitter emitter) {
+        if (subscribers.get(queue).remove(emitter)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private void sendLoop() {
+        List<Task> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                Task first = tasks.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                tasks.drainTo(batch, maxBatchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in pending approval stream sender", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Changes are coalesced per queue up to the next subscription or heartbeat, which keeps events in order
+    private void process(List<Task> batch) {
+        Map<Queue, Set<Long>> changed = new EnumMap<>(Queue.class);
+        for (Task task : batch) {
+            if (task instanceof Change change) {
+                changed.computeIfAbsent(change.queue(), queue -> new LinkedHashSet<>()).add(change.id());
+                continue;
+            }
+            changed.forEach(this::sendChanges);
+            changed.clear();
+            if (task instanceof Subscribe subscribe) {
+                sendSnapshot(subscribe.queue(), subscribe.emitter());
+            } else {
+                subscribers.forEach((queue, emitters) -> emitters.forEach(emitter ->
+                        send(queue, emitter, SseEmitter.event().comment("heartbeat"))));
+            }
+        }
+        changed.forEach(this::sendChanges);
+    }
+
+    private void sendSnapshot(Queue queue, SseEmitter emitter) {
+        subscribers.get(queue).add(emitter);
+        PageRequest limit = PageRequest.of(0, snapshotLimit + 1);
+        List<?> items = queue == Queue.TIME_ENTRIES
+                ? timeEntryRepository.findPendingTimeEntryDtos(limit)
+                : vacationRequestRepository.findPendingRequestsOrderByCreatedAt(limit).stream()
+                        .map(vacationRequestMapper::toDto)
+                        .toList();
+        boolean truncated = items.size() > snapshotLimit;
+        PendingApprovalSnapshotDTO<Object> snapshot = new PendingApprovalSnapshotDTO<>(
+                List.copyOf(truncated ? items.subList(0, snapshotLimit) : items), truncated);
+        send(queue, emitter, SseEmitter.event().name("snapshot").data(snapshot));
+    }
+
+    private void sendChanges(Queue queue, Set<Long> ids) {
+        Set<SseEmitter> emitters = subscribers.get(queue);
+        if (emitters.isEmpty()) {
+            return;
+        }
+        Map<Long, Object> pending = findPending(queue, ids);
+        for (Long id : ids) {
+            Object item = pending.get(id);
+            // Event builders are single-use, so one is built per subscriber
+            emitters.forEach(emitter -> send(queue, emitter, item != null
+                    ? SseEmitter.event().name("added").data(item)
+                    : SseEmitter.event().name("removed").data(Map.of("id", id))));
+        }
+    }
+
+    private Map<Long, Object> findPending(Queue queue, Collection<Long> ids) {
+        if (queue == Queue.TIME_ENTRIES) {
+            return timeEntryRepository.findPendingDtosByIdIn(ids).stream()
+                    .collect(Collectors.toMap(TimeEntryDTO::getId, entry -> entry));
+        }
+        return vacationRequestRepository.findPendingWithEmployeeByIdIn(ids).stream()
+                .map(vacationRequestMapper::toDto)
+                .collect(Collectors.toMap(VacationRequestDTO::getId, request -> request));
+    }
+
+    private void send(Queue queue, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping {} approval stream subscriber: {}", queue, e.getMessage());
+            unsubscribe(queue, emitter);
+        }
+    }
+}
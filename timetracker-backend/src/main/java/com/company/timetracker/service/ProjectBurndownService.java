@@ -0,0 +1,121 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.ProjectBurndownDTO;
+import com.company.timetracker.dto.ProjectBurndownDTO.DayPoint;
+import com.company.timetracker.dto.ProjectBurndownDTO.TaskProgress;
+import com.company.timetracker.entity.Project;
+import com.company.timetracker.repository.ProjectRepository;
+import com.company.timetracker.repository.TaskDailyHoursRepository;
+import com.company.timetracker.repository.TaskDailyHoursRepository.DayHours;
+import com.company.timetracker.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds project and task burn-down series from the {@code task_daily_hours} aggregate. Only the
+ * days from the start of the requested range onwards are read; the hours logged before it are the
+ * maintained {@code logged_hours} counter minus those days, so the cost does not grow with the age of
+ * the project.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProjectBurndownService {
+
+    private static final int DEFAULT_DAYS = 365;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskDailyHoursRepository taskDailyHoursRepository;
+
+    public ProjectBurndownDTO getBurndown(Long projectId, Long taskId, LocalDate startDate, LocalDate endDate) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found"));
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate
+                : project.getStartDate() != null ? project.getStartDate().toLocalDate()
+                : end.minusDays(DEFAULT_DAYS - 1);
+        if (end.isBefore(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endDate must not be before startDate");
+        }
+
+        List<TaskProgress> tasks = taskRepository.findProgressByProjectId(projectId).stream()
+                .map(ProjectBurndownService::toTaskProgress)
+                .toList();
+
+        double estimatedHours;
+        double loggedHours;
+        double hoursAfterEnd;
+        List<DayHours> days;
+        if (taskId != null) {
+            TaskProgress task = tasks.stream()
+                    .filter(candidate -> candidate.getTaskId().equals(taskId))
+                    .findFirst()
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found in project"));
+            estimatedHours = task.getEstimatedHours() != null ? task.getEstimatedHours() : 0;
+            loggedHours = task.getLoggedHours();
+            hoursAfterEnd = taskDailyHoursRepository.sumHoursByTaskIdAfter(taskId, end);
+            days = taskDailyHoursRepository.findHoursByTaskIdAndDay(taskId, start, end);
+            tasks = List.of(task);
+        } else {
+            estimatedHours = tasks.stream()
+                    .mapToDouble(task -> task.getEstimatedHours() != null ? task.getEstimatedHours() : 0)
+                    .sum();
+            loggedHours = project.getLoggedHours();
+            hoursAfterEnd = taskDailyHoursRepository.sumHoursByProjectIdAfter(projectId, end);
+            days = taskDailyHoursRepository.sumHoursByProjectIdAndDay(projectId, start, end);
+        }
+
+        double hoursInRange = days.stream()
+                .mapToDouble(day -> day.getHours() != null ? day.getHours() : 0)
+                .sum();
+        // Hours are stored with two decimals; rounding drops the error of the double subtraction
+        double hoursBeforeStart = Math.round((loggedHours - hoursInRange - hoursAfterEnd) * 100) / 100.0;
+        List<DayPoint> points = new ArrayList<>(days.size());
+        double cumulative = hoursBeforeStart;
+        for (DayHours day : days) {
+            double hours = day.getHours() != null ? day.getHours() : 0;
+            cumulative += hours;
+            points.add(new DayPoint(day.getWorkDay(), hours, cumulative, estimatedHours - cumulative));
+        }
+
+        log.debug("Built burn-down of project {} task {} from {} to {}: {} days", projectId, taskId, start, end,
+                points.size());
+        return ProjectBurndownDTO.builder()
+                .projectId(project.getId())
+                .projectCode(project.getCode())
+                .projectName(project.getName())
+                .taskId(taskId)
+                .startDate(start)
+                .endDate(end)
+                .estimatedHours(estimatedHours)
+                .loggedHours(loggedHours)
+                .hoursBeforeStart(hoursBeforeStart)
+                .days(points)
+                .tasks(tasks)
+                .build();
+    }
+
+    private static TaskProgress toTaskProgress(TaskRepository.TaskProgress row) {
+        double logged = row.getLoggedHours() != null ? row.getLoggedHours() : 0;
+        return TaskProgress.builder()
+                .taskId(row.getId())
+                .code(row.getCode())
+                .name(row.getName())
+                .status(row.getStatus())
+                .estimatedHours(row.getEstimatedHours())
+                .loggedHours(logged)
+                .remainingHours(row.getEstimatedHours() != null ? row.getEstimatedHours() - logged : null)
+                .dueDate(row.getDueDate())
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.ReportJobRequestDTO;
+import com.company.timetracker.entity.ReportJob;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs queued report jobs on a bounded worker pool. Each report is written period by period as gzipped
+ * JSON, so memory stays at one period plus the compressed result; a job whose result outgrows
+ * {@code max-result-bytes} fails instead of being stored.
+ */
+@Component
+@Slf4j
+public class ReportJobRunner {
+
+    private final ReportJobService reportJobService;
+    private final TimeEntryReportService timeEntryReportService;
+    private final VacationRequestQueryService vacationRequestQueryService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Timer runTimer;
+    private final Counter queuedCounter;
+    private final Counter joinedCounter;
+    private final Counter cachedCounter;
+
+    @Value("${app.reports.jobs.workers:2}")
+    private int workers;
+
+    @Value("${app.reports.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${app.reports.jobs.max-result-bytes:67108864}")
+    private long maxResultBytes;
+
+    private ThreadPoolExecutor executor;
+
+    public ReportJobRunner(ReportJobService reportJobService, TimeEntryReportService timeEntryReportService,
+                           VacationRequestQueryService vacationRequestQueryService, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.reportJobService = reportJobService;
+        this.timeEntryReportService = timeEntryReportService;
+        this.vacationRequestQueryService = vacationRequestQueryService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder("reports.jobs.run")
+                .description("Report jobs run to completion")
+                .register(meterRegistry);
+        this.queuedCounter = submissionCounter("queued", meterRegistry);
+        this.joinedCounter = submissionCounter("joined", meterRegistry);
+        this.cachedCounter = submissionCounter("cached", meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("reports.jobs.queued", executor, pool -> pool.getQueue().size())
+                .description("Report jobs waiting for a worker on this instance")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submits the report, or hands back the identical job that is already queued, running or completed.
+     */
+    public ReportJobService.Submission submit(ReportJobRequestDTO request, String keycloakId) {
+        ReportJobService.Submission submission = reportJobService.submit(request, keycloakId);
+        if (!submission.created()) {
+            (submission.job().getStatus().isActive() ? joinedCounter : cachedCounter).increment();
+            return submission;
+        }
+        queuedCounter.increment();
+        ReportJob job = submission.job();
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            reportJobService.markFailed(job.getId(), "Report queue is full");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Report queue is full, try again later");
+        }
+        return submission;
+    }
+
+    private void run(ReportJob job) {
+        if (!reportJobService.markRunning(job.getId())) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            byte[] result = render(job);
+            if (reportJobService.markCompleted(job.getId(), result)) {
+                log.info("Report job {} ({} {} to {}) completed with {} bytes in {} ms", job.getId(), job.getKind(),
+                        job.getStartDate(), job.getEndDate(), result.length,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }
+            runTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            log.warn("Report job {} failed: {}", job.getId(), e.getMessage());
+            reportJobService.markFailed(job.getId(), e instanceof ResponseStatusException status
+                    ? status.getReason() : e.getMessage());
+        }
+    }
+
+    private byte[] render(ReportJob job) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.createGenerator(new GZIPOutputStream(bytes))) {
+            generator.writeStartObject();
+            generator.writeStringField("kind", job.getKind().name());
+            generator.writeStringField("startDate", job.getStartDate().toString());
+            generator.writeStringField("endDate", job.getEndDate().toString());
+            if (job.getEmployeeId() != null) {
+                generator.writeNumberField("employeeId", job.getEmployeeId());
+            }
+            if (job.getDepartment() != null) {
+                generator.writeStringField("department", job.getDepartment());
+            }
+            generator.writeArrayFieldStart("periods");
+            switch (job.getKind()) {
+                case DAILY -> {
+                    for (LocalDate day = job.getStartDate(); !day.isAfter(job.getEndDate()); day = day.plusDays(1)) {
+                        writePeriod(generator, day, day,
+                                timeEntryReportService.getDailyTimeReport(day, job.getEmployeeId()), bytes);
+                    }
+                }
+                case WEEKLY -> {
+                    for (LocalDate week = job.getStartDate(); !week.isAfter(job.getEndDate()); week = week.plusWeeks(1)) {
+                        writePeriod(generator, week, week.plusDays(6),
+                                timeEntryReportService.getWeeklyTimeReport(week, job.getEmployeeId()), bytes);
+                    }
+                }
+                case VACATION_CALENDAR -> writePeriod(generator, job.getStartDate(), job.getEndDate(),
+                        vacationRequestQueryService.getVacationCalendar(job.getStartDate(), job.getEndDate(),
+                                job.getDepartment()), bytes);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writePeriod(JsonGenerator generator, LocalDate startDate, LocalDate endDate, List<?> items,
+                             ByteArrayOutputStream bytes) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("startDate", startDate.toString());
+        generator.writeStringField("endDate", endDate.toString());
+        generator.writeFieldName("items");
+        generator.writeObject(items);
+        generator.writeEndObject();
+        if (bytes.size() > maxResultBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Report result exceeds "
+                    + maxResultBytes / (1024 * 1024) + " MB; narrow the range or filter by employee or department");
+        }
+    }
+
+    private static Counter submissionCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("reports.jobs.submissions")
+                .description("Report job submissions by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,175 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.ReportJobRequestDTO;
+import com.company.timetracker.entity.ReportJob;
+import com.company.timetracker.entity.ReportJobKind;
+import com.company.timetracker.entity.ReportJobStatus;
+import com.company.timetracker.repository.ReportJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * State of the asynchronous report jobs. Identical submissions share one job while it is queued, running
+ * or completed within {@code result-ttl}; changes to time entries or vacation requests inside a job's
+ * range mark it stale so the next submission runs the report again.
+ */
+@Service
+@Slf4j
+@Transactional
+public class ReportJobService {
+
+    private static final int SUBMITTER_LOCK_NAMESPACE = 0x7270;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    /**
+     * A committed change to the data behind the reports: {@code kinds} over {@code startDate} to
+     * {@code endDate}, for one employee or, when {@code employeeId} is null, for any.
+     */
+    public record Change(Set<ReportJobKind> kinds, LocalDate startDate, LocalDate endDate, Long employeeId) {
+    }
+
+    public record Submission(ReportJob job, boolean created) {
+    }
+
+    private final ReportJobRepository reportJobRepository;
+    private final Counter invalidatedCounter;
+
+    @Value("${app.reports.jobs.per-user-limit:3}")
+    private int perUserLimit;
+
+    @Value("${app.reports.jobs.result-ttl:24h}")
+    private Duration resultTtl;
+
+    @Value("${app.reports.jobs.timeout:30m}")
+    private Duration timeout;
+
+    public ReportJobService(ReportJobRepository reportJobRepository, MeterRegistry meterRegistry) {
+        this.reportJobRepository = reportJobRepository;
+        this.invalidatedCounter = Counter.builder("reports.jobs.invalidated")
+                .description("Report jobs marked stale by a change inside their range")
+                .register(meterRegistry);
+    }
+
+    public Submission submit(ReportJobRequestDTO request, String keycloakId) {
+        request.validate();
+        String paramsKey = request.getParamsKey();
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportJob> reusable = reportJobRepository.findReusable(paramsKey, now.minus(resultTtl),
+                PageRequest.of(0, 1));
+        if (!reusable.isEmpty()) {
+            return new Submission(reusable.get(0), false);
+        }
+
+        reportJobRepository.lockSubmitter(SUBMITTER_LOCK_NAMESPACE, keycloakId);
+        if (reportJobRepository.countActiveBySubmitter(keycloakId) >= perUserLimit) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "At most " + perUserLimit + " report jobs per user can be queued or running");
+        }
+        ReportJob job = reportJobRepository.save(ReportJob.builder()
+                .id(UUID.randomUUID())
+                .kind(request.getKind())
+                .paramsKey(paramsKey)
+                .startDate(request.getStartDate())
+                .endDate(request.getNormalizedEndDate())
+                .employeeId(request.getEmployeeId())
+                .department(request.getNormalizedDepartment())
+                .submittedBy(keycloakId)
+                .createdAt(now)
+                .build());
+        log.info("Report job {} queued by {}: {}", job.getId(), keycloakId, paramsKey);
+        return new Submission(job, true);
+    }
+
+    @Transactional(readOnly = true)
+    public ReportJob getJob(UUID id) {
+        return reportJobRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Report job not found: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] getResult(UUID id) {
+        ReportJob job = getJob(id);
+        if (job.getStatus() == ReportJobStatus.FAILED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Report job " + id + " failed: " + job.getError());
+        }
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Report job " + id + " is " + job.getStatus());
+        }
+        return reportJobRepository.findResultById(id);
+    }
+
+    public boolean markRunning(UUID id) {
+        return reportJobRepository.markRunning(id, LocalDateTime.now()) > 0;
+    }
+
+    public boolean markCompleted(UUID id, byte[] result) {
+        return reportJobRepository.markCompleted(id, result, result.length, LocalDateTime.now()) > 0;
+    }
+
+    public void markFailed(UUID id, String error) {
+        String message = String.valueOf(error);
+        reportJobRepository.markFailed(id,
+                message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Marks the jobs whose range contains one of the changes as stale, in one update that matches the jobs
+     * against the changes in the database. Runs in the caller's transaction, so the jobs are invalidated
+     * together with whatever made the changes visible.
+     */
+    public int invalidate(Collection<Change> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        List<String> kinds = new ArrayList<>();
+        List<LocalDate> startDates = new ArrayList<>();
+        List<LocalDate> endDates = new ArrayList<>();
+        List<Long> employeeIds = new ArrayList<>();
+        for (Change change : changes) {
+            for (ReportJobKind kind : change.kinds()) {
+                kinds.add(kind.name());
+                startDates.add(change.startDate());
+                endDates.add(change.endDate());
+                employeeIds.add(change.employeeId());
+            }
+        }
+        int stale = reportJobRepository.markStaleAffectedBy(kinds.toArray(String[]::new),
+                startDates.toArray(LocalDate[]::new), endDates.toArray(LocalDate[]::new),
+                employeeIds.toArray(Long[]::new));
+        if (stale > 0) {
+            invalidatedCounter.increment(stale);
+            log.debug("Marked {} report jobs stale after {} changes", stale, changes.size());
+        }
+        return stale;
+    }
+
+    @Scheduled(cron = "${app.reports.jobs.cleanup-cron:0 */5 * * * *}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        // Jobs of an instance that went away are never finished
+        int timedOut = reportJobRepository.failActiveCreatedBefore(now.minus(timeout),
+                "Timed out after " + timeout.toMinutes() + " minutes", now);
+        int deleted = reportJobRepository.deleteCreatedBefore(now.minus(resultTtl));
+        if (timedOut > 0 || deleted > 0) {
+            log.info("Report job cleanup: {} timed out, {} expired jobs deleted", timedOut, deleted);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.TimeEntryAnalyticsDTO;
+import com.company.timetracker.dto.TimeEntryAnalyticsDTO.Group;
+import com.company.timetracker.dto.TimeEntryAnalyticsDTO.Snapshot;
+import com.company.timetracker.dto.TimeEntryAnalyticsRow;
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.entity.TimeEntryType;
+import com.company.timetracker.repository.TimeEntryDailyHoursRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Columnar in-memory snapshot of the {@code time_entry_daily_hours} rollup for ad-hoc HR and finance
+ * reports. Loaded at startup and rebuilt on a schedule; queries run against the current
+ * {@link TimeEntryColumnStore} and never touch the database. Employees are reported under their
+ * department at load time.
+ */
+@Service
+@Slf4j
+public class TimeEntryAnalyticsIndex {
+
+    public enum Dimension {
+        EMPLOYEE, DEPARTMENT, PROJECT, TYPE, STATUS, DAY, MONTH, YEAR
+    }
+
+    /**
+     * Row filter; {@code null} or empty sets match everything. The sets are probed with {@code null} for
+     * rows without a department or project, so they must permit null lookups.
+     */
+    public record Filter(LocalDate startDate, LocalDate endDate, Set<Long> employeeIds, Set<String> departments,
+                         Set<Long> projectIds, Set<TimeEntryType> types, Set<TimeEntryStatus> statuses) {
+    }
+
+    private record Loaded(TimeEntryColumnStore store, LocalDateTime loadedAt, long loadMillis) {
+    }
+
+    private final TimeEntryDailyHoursRepository dailyHoursRepository;
+    private final Timer queryTimer;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @Value("${app.analytics.max-groups:100000}")
+    private int maxGroups;
+
+    private volatile Loaded loaded;
+
+    public TimeEntryAnalyticsIndex(TimeEntryDailyHoursRepository dailyHoursRepository, MeterRegistry meterRegistry) {
+        this.dailyHoursRepository = dailyHoursRepository;
+        this.queryTimer = Timer.builder("analytics.query")
+                .description("Aggregations answered from the analytics snapshot")
+                .register(meterRegistry);
+        Gauge.builder("analytics.snapshot.rows", this, index -> index.loaded != null ? index.loaded.store().size() : 0)
+                .description("Rollup rows held by the analytics snapshot")
+                .register(meterRegistry);
+        Gauge.builder("analytics.snapshot.age", this, TimeEntryAnalyticsIndex::ageSeconds)
+                .description("Time since the analytics snapshot was loaded")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.analytics.refresh-cron:0 */15 * * * *}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        // A refresh already in progress will produce an equally fresh snapshot
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            LocalDateTime now = LocalDateTime.now();
+            TimeEntryColumnStore.Builder builder = new TimeEntryColumnStore.Builder();
+            try (Stream<TimeEntryAnalyticsRow> rows = dailyHoursRepository.streamForAnalytics()) {
+                rows.forEach(builder::add);
+            }
+            TimeEntryColumnStore store = builder.build();
+            long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            loaded = new Loaded(store, now, loadMillis);
+            log.info("Analytics snapshot loaded with {} rows, {} employees, {} departments and {} projects in {} ms",
+                    store.size(), store.employeeCount(), store.departmentCount(), store.projectCount(), loadMillis);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        return snapshot(current());
+    }
+
+    public TimeEntryAnalyticsDTO aggregate(Filter filter, List<Dimension> groupBy, int limit) {
+        if (filter.startDate() != null && filter.endDate() != null && filter.endDate().isBefore(filter.startDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endDate must not be before startDate");
+        }
+        if (groupBy.stream().distinct().count() != groupBy.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "groupBy must not repeat a dimension");
+        }
+        int cappedLimit = Math.min(Math.max(limit, 1), maxGroups);
+        Loaded current = current();
+
+        long started = System.nanoTime();
+        TimeEntryColumnStore.Result result;
+        try {
+            result = current.store().aggregate(filter, groupBy, cappedLimit);
+        } catch (ArithmeticException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many groups for " + groupBy);
+        }
+        long elapsed = System.nanoTime() - started;
+        queryTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        List<String> names = groupBy.stream().map(dimension -> dimension.name().toLowerCase(Locale.ROOT)).toList();
+        List<Group> groups = result.groups().stream()
+                .map(group -> {
+                    Map<String, Object> key = new LinkedHashMap<>();
+                    for (int d = 0; d < names.size(); d++) {
+                        key.put(names.get(d), group.key()[d]);
+                    }
+                    return new Group(key, Math.round(group.hours() * 100) / 100.0, group.entries());
+                })
+                .toList();
+        return TimeEntryAnalyticsDTO.builder()
+                .snapshot(snapshot(current))
+                .groupBy(names)
+                .rowsScanned(result.rowsScanned())
+                .elapsedMicros(TimeUnit.NANOSECONDS.toMicros(elapsed))
+                .truncated(result.truncated())
+                .groups(groups)
+                .build();
+    }
+
+    private Loaded current() {
+        Loaded current = loaded;
+        if (current == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Analytics snapshot is still loading");
+        }
+        return current;
+    }
+
+    private static Snapshot snapshot(Loaded current) {
+        TimeEntryColumnStore store = current.store();
+        return Snapshot.builder()
+                .loadedAt(current.loadedAt())
+                .loadMillis(current.loadMillis())
+                .rows(store.size())
+                .employees(store.employeeCount())
+                .departments(store.departmentCount())
+                .projects(store.projectCount())
+                .firstDay(store.firstDay())
+                .lastDay(store.lastDay())
+                .build();
+    }
+
+    private double ageSeconds() {
+        Loaded current = loaded;
+        return current != null ? Duration.between(current.loadedAt(), LocalDateTime.now()).toMillis() / 1000.0 : 0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.BulkApprovalRequestDTO;
+import com.company.timetracker.dto.BulkApprovalResultDTO;
+import com.company.timetracker.dto.EmployeeIdentity;
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.event.TimeEntryChangedEvent;
+import com.company.timetracker.repository.TimeEntryRepository;
+import com.company.timetracker.repository.TimeEntryRepository.DecidedEntry;
+import com.company.timetracker.repository.TimeEntryRepository.EntryStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Approval decisions on time entries as conditional updates of pending rows; a decision on an entry
+ * that is no longer pending is answered with a 409. Bulk decisions run as one set-based update and
+ * report the outcome per entry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TimeEntryApprovalService {
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final EmployeeIdentityCache employeeIdentityCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TimeEntryDTO approve(Long id, String approverKeycloakId) {
+        int updated = timeEntryRepository.approveIfPending(id, approverKeycloakId, LocalDateTime.now());
+        return decided(id, updated, approverKeycloakId);
+    }
+
+    public TimeEntryDTO reject(Long id, String approverKeycloakId) {
+        int updated = timeEntryRepository.rejectIfPending(id, LocalDateTime.now());
+        return decided(id, updated, approverKeycloakId);
+    }
+
+    public BulkApprovalResultDTO approveAll(BulkApprovalRequestDTO request, String approverKeycloakId) {
+        request.validate();
+        requireApprover(approverKeycloakId);
+        LocalDateTime now = LocalDateTime.now();
+        List<DecidedEntry> decided = request.hasIds()
+                ? timeEntryRepository.approvePendingByIds(request.getDistinctIds(), approverKeycloakId, now)
+                : timeEntryRepository.approvePendingMatching(request.getEmployeeId(), request.getProjectId(),
+                        request.getStartDateTime(), request.getEndDateTimeExclusive(), approverKeycloakId, now);
+        return bulkResult(request, decided, TimeEntryStatus.APPROVED, approverKeycloakId);
+    }
+
+    public BulkApprovalResultDTO rejectAll(BulkApprovalRequestDTO request, String approverKeycloakId) {
+        request.validate();
+        requireApprover(approverKeycloakId);
+        LocalDateTime now = LocalDateTime.now();
+        List<DecidedEntry> decided = request.hasIds()
+                ? timeEntryRepository.rejectPendingByIds(request.getDistinctIds(), now)
+                : timeEntryRepository.rejectPendingMatching(request.getEmployeeId(), request.getProjectId(),
+                        request.getStartDateTime(), request.getEndDateTimeExclusive(), now);
+        return bulkResult(request, decided, TimeEntryStatus.REJECTED, approverKeycloakId);
+    }
+
+    private void requireApprover(String approverKeycloakId) {
+        employeeIdentityCache.resolve(approverKeycloakId)
+                .filter(EmployeeIdentity::canApprove)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN,
+                        "Only active managers can decide time entries"));
+    }
+
+    private BulkApprovalResultDTO bulkResult(BulkApprovalRequestDTO request, List<DecidedEntry> decided,
+                                             TimeEntryStatus status, String approverKeycloakId) {
+        decided.forEach(row -> eventPublisher.publishEvent(
+                new TimeEntryChangedEvent(row.getId(), row.getEmployeeId(), status, false)));
+        List<Long> decidedIds = decided.stream().map(DecidedEntry::getId).toList();
+        List<Long> requested = request.getDistinctIds();
+        Set<Long> undecided = new HashSet<>(requested);
+        decidedIds.forEach(undecided::remove);
+        Map<Long, String> statuses = undecided.isEmpty() ? Map.of()
+                : timeEntryRepository.findStatusesByIdIn(undecided).stream()
+                        .collect(Collectors.toMap(EntryStatus::getId, row -> row.getStatus().name()));
+        log.info("Bulk {} of {} time entries by {}", status, decidedIds.size(), approverKeycloakId);
+        return BulkApprovalResultDTO.of(requested, decidedIds, BulkApprovalResultDTO.Outcome.valueOf(status.name()),
+                statuses);
+    }
+
+    private TimeEntryDTO decided(Long id, int updated, String approverKeycloakId) {
+        TimeEntryDTO entry = timeEntryRepository.findDtoById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Time entry not found: " + id));
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Time entry " + id + " is already " + entry.getStatus());
+        }
+        log.info("Time entry {} is now {} (decided by {})", id, entry.getStatus(), approverKeycloakId);
+        eventPublisher.publishEvent(new TimeEntryChangedEvent(id, entry.getEmployeeId(), entry.getStatus(), false));
+        return entry;
+    }
+}
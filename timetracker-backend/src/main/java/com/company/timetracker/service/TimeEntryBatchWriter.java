@@ -0,0 +1,64 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.entity.TimeEntry;
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.repository.EmployeeRepository;
+import com.company.timetracker.repository.TaskRepository;
+import com.company.timetracker.repository.TimeEntryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Persists ingestion batches. Relies on pooled sequence ids and hibernate.jdbc.batch_size so a
+ * batch is flushed as a handful of multi-row JDBC batches instead of one round-trip per row.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeEntryBatchWriter {
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public List<Long> insertAll(List<TimeEntryDTO> entries) {
+        List<TimeEntry> entities = entries.stream()
+                .map(this::toEntity)
+                .toList();
+        timeEntryRepository.saveAll(entities);
+        entityManager.flush();
+        List<Long> ids = entities.stream()
+                .map(TimeEntry::getId)
+                .toList();
+        entityManager.clear();
+        return ids;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long insertOne(TimeEntryDTO entry) {
+        TimeEntry entity = timeEntryRepository.saveAndFlush(toEntity(entry));
+        return entity.getId();
+    }
+
+    private TimeEntry toEntity(TimeEntryDTO dto) {
+        return TimeEntry.builder()
+                .employee(employeeRepository.getReferenceById(dto.getEmployeeId()))
+                .task(dto.getTaskId() != null ? taskRepository.getReferenceById(dto.getTaskId()) : null)
+                .type(dto.getType())
+                .entryDate(dto.getEntryDate())
+                .startTime(dto.getStartTime())
+                .endTime(dto.getEndTime())
+                .hours(dto.getHours())
+                .description(dto.getDescription())
+                .notes(dto.getNotes())
+                .status(TimeEntryStatus.PENDING)
+                .build();
+    }
+}
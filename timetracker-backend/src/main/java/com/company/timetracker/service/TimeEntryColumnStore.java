@@ -0,0 +1,453 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.TimeEntryAnalyticsRow;
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.entity.TimeEntryType;
+import com.company.timetracker.service.TimeEntryAnalyticsIndex.Dimension;
+import com.company.timetracker.service.TimeEntryAnalyticsIndex.Filter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable columnar copy of the daily hours rollup: one primitive array per column, rows ordered by
+ * day, with employees, departments and projects dictionary-encoded. An aggregation binary-searches
+ * its date range and scans only that slice of the arrays.
+ */
+final class TimeEntryColumnStore {
+
+    // Group keys up to this many combinations are accumulated in flat arrays instead of a map
+    private static final int DENSE_GROUP_LIMIT = 1 << 20;
+    private static final TimeEntryType[] TYPES = TimeEntryType.values();
+    private static final TimeEntryStatus[] STATUSES = TimeEntryStatus.values();
+
+    record Group(Object[] key, double hours, long entries) {
+    }
+
+    record Result(List<Group> groups, int rowsScanned, boolean truncated) {
+    }
+
+    private final int size;
+    private final int[] day;        // epoch day
+    private final int[] month;      // year * 12 + month - 1
+    private final int[] employee;
+    private final int[] department;
+    private final int[] project;
+    private final byte[] type;
+    private final byte[] status;
+    private final float[] hours;
+    private final int[] entries;
+
+    private final Long[] employeeIds;
+    private final String[] departments;
+    private final Long[] projectIds;
+
+    private TimeEntryColumnStore(Builder builder) {
+        this.size = builder.size;
+        this.day = Arrays.copyOf(builder.day, size);
+        this.month = Arrays.copyOf(builder.month, size);
+        this.employee = Arrays.copyOf(builder.employee, size);
+        this.department = Arrays.copyOf(builder.department, size);
+        this.project = Arrays.copyOf(builder.project, size);
+        this.type = Arrays.copyOf(builder.type, size);
+        this.status = Arrays.copyOf(builder.status, size);
+        this.hours = Arrays.copyOf(builder.hours, size);
+        this.entries = Arrays.copyOf(builder.entries, size);
+        this.employeeIds = builder.employeeIds.toArray(Long[]::new);
+        this.departments = builder.departments.toArray(String[]::new);
+        this.projectIds = builder.projectIds.toArray(Long[]::new);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int employeeCount() {
+        return employeeIds.length;
+    }
+
+    int departmentCount() {
+        return departments.length;
+    }
+
+    int projectCount() {
+        return projectIds.length;
+    }
+
+    LocalDate firstDay() {
+        return size > 0 ? LocalDate.ofEpochDay(day[0]) : null;
+    }
+
+    LocalDate lastDay() {
+        return size > 0 ? LocalDate.ofEpochDay(day[size - 1]) : null;
+    }
+
+    /**
+     * Sums hours and entries of the rows matching {@code filter}, grouped by {@code groupBy} in key
+     * order. At most {@code limit} groups are returned. Each step is a separate pass over one column:
+     * the filters narrow a selection vector, then every dimension adds its share to the group keys.
+     *
+     * @throws ArithmeticException if the grouping has more combinations than fit a {@code long} key
+     */
+    Result aggregate(Filter filter, List<Dimension> groupBy, int limit) {
+        int from = filter.startDate() != null ? lowerBound(filter.startDate().toEpochDay()) : 0;
+        int to = filter.endDate() != null ? lowerBound(filter.endDate().toEpochDay() + 1) : size;
+        if (from >= to) {
+            return new Result(List.of(), 0, false);
+        }
+
+        int[] rows = null;
+        rows = select(rows, from, to, employee, mask(employeeIds, filter.employeeIds()));
+        rows = select(rows, from, to, department, mask(departments, filter.departments()));
+        rows = select(rows, from, to, project, mask(projectIds, filter.projectIds()));
+        rows = select(rows, from, to, type, mask(TYPES, filter.types()));
+        rows = select(rows, from, to, status, mask(STATUSES, filter.statuses()));
+        int count = rows != null ? rows.length : to - from;
+
+        Dimension[] dims = groupBy.toArray(Dimension[]::new);
+        int[] base = new int[dims.length];
+        long[] radix = new long[dims.length];
+        long[] stride = new long[dims.length];
+        long combinations = 1;
+        for (int d = dims.length - 1; d >= 0; d--) {
+            base[d] = base(dims[d], from);
+            radix[d] = cardinality(dims[d], from, to);
+            stride[d] = combinations;
+            combinations = Math.multiplyExact(combinations, radix[d]);
+        }
+
+        long[] keys = new long[count];
+        for (int d = 0; d < dims.length; d++) {
+            addToKeys(keys, rows, from, dims[d], base[d], stride[d]);
+        }
+
+        List<Group> result = new ArrayList<>();
+        if (combinations <= DENSE_GROUP_LIMIT) {
+            double[] hourSums = new double[(int) combinations];
+            long[] entrySums = new long[(int) combinations];
+            for (int i = 0; i < count; i++) {
+                int row = rows != null ? rows[i] : from + i;
+                hourSums[(int) keys[i]] += hours[row];
+                entrySums[(int) keys[i]] += entries[row];
+            }
+            for (int key = 0; key < combinations; key++) {
+                if (entrySums[key] > 0) {
+                    if (result.size() == limit) {
+                        return new Result(result, count, true);
+                    }
+                    result.add(new Group(decode(key, dims, base, radix, stride), hourSums[key], entrySums[key]));
+                }
+            }
+            return new Result(result, count, false);
+        }
+
+        GroupTable table = new GroupTable();
+        for (int i = 0; i < count; i++) {
+            int row = rows != null ? rows[i] : from + i;
+            table.add(keys[i], hours[row], entries[row]);
+        }
+        long[] sorted = Arrays.copyOf(table.keys, table.size);
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length && i < limit; i++) {
+            int group = table.find(sorted[i]);
+            result.add(new Group(decode(sorted[i], dims, base, radix, stride), table.hours[group],
+                    table.entries[group]));
+        }
+        return new Result(result, count, sorted.length > limit);
+    }
+
+    // Narrows the selection to the rows whose dictionary code is set in mask; null selects [from, to)
+    private static int[] select(int[] rows, int from, int to, int[] column, boolean[] mask) {
+        if (mask == null) {
+            return rows;
+        }
+        int[] selected = new int[rows != null ? rows.length : to - from];
+        int count = 0;
+        if (rows == null) {
+            for (int row = from; row < to; row++) {
+                if (mask[column[row]]) {
+                    selected[count++] = row;
+                }
+            }
+        } else {
+            for (int row : rows) {
+                if (mask[column[row]]) {
+                    selected[count++] = row;
+                }
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private static int[] select(int[] rows, int from, int to, byte[] column, boolean[] mask) {
+        if (mask == null) {
+            return rows;
+        }
+        int[] selected = new int[rows != null ? rows.length : to - from];
+        int count = 0;
+        if (rows == null) {
+            for (int row = from; row < to; row++) {
+                if (mask[column[row]]) {
+                    selected[count++] = row;
+                }
+            }
+        } else {
+            for (int row : rows) {
+                if (mask[column[row]]) {
+                    selected[count++] = row;
+                }
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private void addToKeys(long[] keys, int[] rows, int from, Dimension dimension, int base, long stride) {
+        switch (dimension) {
+            case EMPLOYEE -> addToKeys(keys, rows, from, employee, base, stride, 1);
+            case DEPARTMENT -> addToKeys(keys, rows, from, department, base, stride, 1);
+            case PROJECT -> addToKeys(keys, rows, from, project, base, stride, 1);
+            case DAY -> addToKeys(keys, rows, from, day, base, stride, 1);
+            case MONTH -> addToKeys(keys, rows, from, month, base, stride, 1);
+            case YEAR -> addToKeys(keys, rows, from, month, base, stride, 12);
+            case TYPE -> addToKeys(keys, rows, from, type, stride);
+            case STATUS -> addToKeys(keys, rows, from, status, stride);
+        }
+    }
+
+    private static void addToKeys(long[] keys, int[] rows, int from, int[] column, int base, long stride,
+                                  int divisor) {
+        for (int i = 0; i < keys.length; i++) {
+            int row = rows != null ? rows[i] : from + i;
+            keys[i] += (column[row] / divisor - base) * stride;
+        }
+    }
+
+    private static void addToKeys(long[] keys, int[] rows, int from, byte[] column, long stride) {
+        for (int i = 0; i < keys.length; i++) {
+            int row = rows != null ? rows[i] : from + i;
+            keys[i] += column[row] * stride;
+        }
+    }
+
+    private int code(Dimension dimension, int row) {
+        return switch (dimension) {
+            case EMPLOYEE -> employee[row];
+            case DEPARTMENT -> department[row];
+            case PROJECT -> project[row];
+            case TYPE -> type[row];
+            case STATUS -> status[row];
+            case DAY -> day[row];
+            case MONTH -> month[row];
+            case YEAR -> month[row] / 12;
+        };
+    }
+
+    // Rows are ordered by day, so day, month and year codes only span the scanned slice
+    private int base(Dimension dimension, int from) {
+        return switch (dimension) {
+            case DAY, MONTH, YEAR -> code(dimension, from);
+            default -> 0;
+        };
+    }
+
+    private long cardinality(Dimension dimension, int from, int to) {
+        return switch (dimension) {
+            case EMPLOYEE -> employeeIds.length;
+            case DEPARTMENT -> departments.length;
+            case PROJECT -> projectIds.length;
+            case TYPE -> TYPES.length;
+            case STATUS -> STATUSES.length;
+            case DAY, MONTH, YEAR -> code(dimension, to - 1) - code(dimension, from) + 1L;
+        };
+    }
+
+    private Object[] decode(long key, Dimension[] dims, int[] base, long[] radix, long[] stride) {
+        Object[] values = new Object[dims.length];
+        for (int d = 0; d < dims.length; d++) {
+            int code = (int) (key / stride[d] % radix[d]) + base[d];
+            values[d] = switch (dims[d]) {
+                case EMPLOYEE -> employeeIds[code];
+                case DEPARTMENT -> departments[code];
+                case PROJECT -> projectIds[code];
+                case TYPE -> TYPES[code];
+                case STATUS -> STATUSES[code];
+                case DAY -> LocalDate.ofEpochDay(code);
+                case MONTH -> YearMonth.of(code / 12, code % 12 + 1);
+                case YEAR -> code;
+            };
+        }
+        return values;
+    }
+
+    private int lowerBound(long epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (day[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <T> boolean[] mask(T[] dictionary, Collection<? extends T> selected) {
+        if (selected == null || selected.isEmpty()) {
+            return null;
+        }
+        boolean[] mask = new boolean[dictionary.length];
+        for (int i = 0; i < dictionary.length; i++) {
+            mask[i] = selected.contains(dictionary[i]);
+        }
+        return mask;
+    }
+
+    /**
+     * Open-addressing table of group keys to running sums, for groupings too sparse for flat arrays.
+     */
+    private static final class GroupTable {
+
+        private long[] keys = new long[1024];
+        private double[] hours = new double[1024];
+        private long[] entries = new long[1024];
+        private int size;
+        private int[] slots = newSlots(2048);
+
+        void add(long key, float hoursValue, int entryCount) {
+            int group = find(key);
+            if (group < 0) {
+                group = insert(key);
+            }
+            hours[group] += hoursValue;
+            entries[group] += entryCount;
+        }
+
+        int find(long key) {
+            int mask = slots.length - 1;
+            for (int slot = hash(key) & mask; slots[slot] >= 0; slot = (slot + 1) & mask) {
+                if (keys[slots[slot]] == key) {
+                    return slots[slot];
+                }
+            }
+            return -1;
+        }
+
+        private int insert(long key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                hours = Arrays.copyOf(hours, size * 2);
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            // Keep the table at most half full
+            if (size * 2 >= slots.length) {
+                slots = newSlots(slots.length * 2);
+                for (int group = 0; group < size; group++) {
+                    place(group);
+                }
+            }
+            keys[size] = key;
+            place(size);
+            return size++;
+        }
+
+        private void place(int group) {
+            int mask = slots.length - 1;
+            int slot = hash(keys[group]) & mask;
+            while (slots[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = group;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private static int[] newSlots(int capacity) {
+            int[] slots = new int[capacity];
+            Arrays.fill(slots, -1);
+            return slots;
+        }
+    }
+
+    /**
+     * Appends rows in day order and encodes the dictionaries as it goes.
+     */
+    static final class Builder {
+
+        private int size;
+        private int[] day = new int[1024];
+        private int[] month = new int[1024];
+        private int[] employee = new int[1024];
+        private int[] department = new int[1024];
+        private int[] project = new int[1024];
+        private byte[] type = new byte[1024];
+        private byte[] status = new byte[1024];
+        private float[] hours = new float[1024];
+        private int[] entries = new int[1024];
+
+        private final List<Long> employeeIds = new ArrayList<>();
+        private final List<String> departments = new ArrayList<>();
+        private final List<Long> projectIds = new ArrayList<>();
+        private final Map<Long, Integer> employeeCodes = new HashMap<>();
+        private final Map<String, Integer> departmentCodes = new HashMap<>();
+        private final Map<Long, Integer> projectCodes = new HashMap<>();
+
+        void add(TimeEntryAnalyticsRow row) {
+            int epochDay = (int) row.getWorkDay().toEpochDay();
+            if (size > 0 && epochDay < day[size - 1]) {
+                throw new IllegalStateException("Rows must be added in day order");
+            }
+            if (size == day.length) {
+                grow();
+            }
+            day[size] = epochDay;
+            month[size] = row.getWorkDay().getYear() * 12 + row.getWorkDay().getMonthValue() - 1;
+            employee[size] = encode(row.getEmployeeId(), employeeCodes, employeeIds);
+            department[size] = encode(row.getDepartment(), departmentCodes, departments);
+            project[size] = encode(row.getProjectId(), projectCodes, projectIds);
+            type[size] = (byte) row.getType().ordinal();
+            status[size] = (byte) row.getStatus().ordinal();
+            hours[size] = row.getHours() != null ? row.getHours().floatValue() : 0f;
+            entries[size] = row.getEntryCount() != null ? row.getEntryCount() : 0;
+            size++;
+        }
+
+        TimeEntryColumnStore build() {
+            return new TimeEntryColumnStore(this);
+        }
+
+        private void grow() {
+            int capacity = day.length * 2;
+            day = Arrays.copyOf(day, capacity);
+            month = Arrays.copyOf(month, capacity);
+            employee = Arrays.copyOf(employee, capacity);
+            department = Arrays.copyOf(department, capacity);
+            project = Arrays.copyOf(project, capacity);
+            type = Arrays.copyOf(type, capacity);
+            status = Arrays.copyOf(status, capacity);
+            hours = Arrays.copyOf(hours, capacity);
+            entries = Arrays.copyOf(entries, capacity);
+        }
+
+        // HashMap accepts the null key, so rows without a department or project get a code of their own
+        private static <T> int encode(T value, Map<T, Integer> codes, List<T> dictionary) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                codes.put(value, code);
+                dictionary.add(value);
+            }
+            return code;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.dto.TimeEntryFilter;
+import com.company.timetracker.entity.TimeEntry;
+import com.company.timetracker.mapper.TimeEntryMapper;
+import com.company.timetracker.repository.TimeEntryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Streams time entries from a forward-only cursor straight to the response, detaching each
+ * row once written so memory stays flat regardless of the exported range.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimeEntryExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "employeeId", "employeeName", "type", "entryDate", "startTime", "endTime", "hours",
+            "taskId", "taskCode", "taskName", "projectCode", "projectName", "status", "approvedBy", "approvedAt",
+            "description", "notes"
+    };
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final TimeEntryMapper timeEntryMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public enum Format {
+        CSV("csv", MediaType.parseMediaType("text/csv")),
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value) || format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + value);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long export(TimeEntryFilter filter, Format format, OutputStream outputStream) throws IOException {
+        try (Stream<TimeEntry> entries = timeEntryRepository.streamForExport(filter)) {
+            long written = format == Format.CSV
+                    ? writeCsv(entries, outputStream)
+                    : writeNdjson(entries, outputStream);
+            log.info("Exported {} time entries as {} with filter {}", written, format, filter);
+            return written;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeCsv(Stream<TimeEntry> entries, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write('\n');
+
+        long count = entries.mapToLong(entry -> {
+            TimeEntryDTO dto = toDetachedDto(entry);
+            try {
+                writeCsvRow(writer, dto);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return 1;
+        }).sum();
+
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Stream<TimeEntry> entries, OutputStream outputStream) throws IOException {
+        SequenceWriter writer = objectMapper.writerFor(TimeEntryDTO.class)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+
+        long count = entries.mapToLong(entry -> {
+            TimeEntryDTO dto = toDetachedDto(entry);
+            try {
+                writer.write(dto);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return 1;
+        }).sum();
+
+        writer.flush();
+        if (count > 0) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+        return count;
+    }
+
+    private TimeEntryDTO toDetachedDto(TimeEntry entry) {
+        TimeEntryDTO dto = timeEntryMapper.toDto(entry);
+        entityManager.detach(entry);
+        return dto;
+    }
+
+    private static void writeCsvRow(Writer writer, TimeEntryDTO dto) throws IOException {
+        Object[] values = {
+                dto.getId(), dto.getEmployeeId(), dto.getEmployeeName(), dto.getType(), dto.getEntryDate(),
+                dto.getStartTime(), dto.getEndTime(), dto.getHours(), dto.getTaskId(), dto.getTaskCode(),
+                dto.getTaskName(), dto.getProjectCode(), dto.getProjectName(), dto.getStatus(), dto.getApprovedBy(),
+                dto.getApprovedAt(), dto.getDescription(), dto.getNotes()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(String value) {
+        // Spreadsheets run cells starting with these as formulas; the quote makes them text
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,223 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.BulkIngestionResultDTO;
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.repository.EmployeeRepository;
+import com.company.timetracker.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded write-behind queue for bulk time entry ingestion. A single worker drains items from all
+ * concurrent callers into batches of up to {@code max-batch-size}, so simultaneous badge-reader pushes
+ * are coalesced into the same multi-row inserts. Each caller gets a per-item outcome back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimeEntryIngestionQueue {
+
+    private final TimeEntryBatchWriter batchWriter;
+    private final EmployeeRepository employeeRepository;
+    private final TaskRepository taskRepository;
+
+    @Value("${app.ingestion.queue-capacity:20000}")
+    private int queueCapacity;
+
+    @Value("${app.ingestion.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${app.ingestion.linger-ms:20}")
+    private long lingerMillis;
+
+    @Value("${app.ingestion.response-timeout-ms:30000}")
+    private long responseTimeoutMillis;
+
+    private BlockingQueue<PendingEntry> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    private record PendingEntry(TimeEntryDTO entry, int index, CompletableFuture<BulkIngestionResultDTO> result) {
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::drainLoop, "time-entry-ingestion");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        abandon(remaining);
+    }
+
+    public List<BulkIngestionResultDTO> ingest(List<TimeEntryDTO> entries) {
+        List<CompletableFuture<BulkIngestionResultDTO>> futures = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            CompletableFuture<BulkIngestionResultDTO> future = new CompletableFuture<>();
+            if (!running || !queue.offer(new PendingEntry(entries.get(i), i, future))) {
+                future.complete(BulkIngestionResultDTO.rejected(i, "Ingestion queue is full"));
+            }
+            futures.add(future);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(responseTimeoutMillis);
+        List<BulkIngestionResultDTO> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(await(futures.get(i), i, deadline));
+        }
+        return results;
+    }
+
+    private BulkIngestionResultDTO await(CompletableFuture<BulkIngestionResultDTO> future, int index, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return BulkIngestionResultDTO.failed(index, "Timed out waiting for ingestion; the entry may still be written");
+        } catch (ExecutionException e) {
+            return BulkIngestionResultDTO.failed(index, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BulkIngestionResultDTO.failed(index, "Interrupted while waiting for ingestion");
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingEntry> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                // A stray interrupt only cuts the linger short; on shutdown the rest of the queue joins the batch
+                if (!running) {
+                    queue.drainTo(batch);
+                }
+            }
+            try {
+                writeBatch(batch);
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in time entry ingestion worker", e);
+                batch.forEach(pending -> pending.result().complete(
+                        BulkIngestionResultDTO.failed(pending.index(), e.getMessage())));
+            } finally {
+                abandon(batch);
+            }
+        }
+    }
+
+    private void fillBatch(List<PendingEntry> batch) throws InterruptedException {
+        PendingEntry first = queue.poll(500, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long lingerDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = lingerDeadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            PendingEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    // Fails every entry whose outcome is still open, so no caller waits on it until the response timeout
+    private static void abandon(List<PendingEntry> batch) {
+        IllegalStateException stopped = new IllegalStateException("Ingestion stopped before the entry was written");
+        batch.forEach(pending -> pending.result().completeExceptionally(stopped));
+        batch.clear();
+    }
+
+    private void writeBatch(List<PendingEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PendingEntry> valid = rejectUnknownReferences(batch);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            List<Long> ids = batchWriter.insertAll(valid.stream().map(PendingEntry::entry).toList());
+            for (int i = 0; i < valid.size(); i++) {
+                PendingEntry pending = valid.get(i);
+                pending.result().complete(BulkIngestionResultDTO.created(pending.index(), ids.get(i)));
+            }
+            log.debug("Ingested {} time entries in {} ms", valid.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} time entries failed, retrying individually: {}", valid.size(), e.getMessage());
+            valid.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(PendingEntry pending) {
+        try {
+            Long id = batchWriter.insertOne(pending.entry());
+            pending.result().complete(BulkIngestionResultDTO.created(pending.index(), id));
+        } catch (RuntimeException e) {
+            pending.result().complete(BulkIngestionResultDTO.failed(pending.index(), e.getMessage()));
+        }
+    }
+
+    private List<PendingEntry> rejectUnknownReferences(List<PendingEntry> batch) {
+        Set<Long> employeeIds = new HashSet<>();
+        Set<Long> taskIds = new HashSet<>();
+        for (PendingEntry pending : batch) {
+            employeeIds.add(pending.entry().getEmployeeId());
+            if (pending.entry().getTaskId() != null) {
+                taskIds.add(pending.entry().getTaskId());
+            }
+        }
+        employeeIds.remove(null);
+        Set<Long> knownEmployees = employeeIds.isEmpty() ? Set.of() : new HashSet<>(employeeRepository.findExistingIds(employeeIds));
+        Set<Long> knownTasks = taskIds.isEmpty() ? Set.of() : new HashSet<>(taskRepository.findExistingIds(taskIds));
+
+        List<PendingEntry> valid = new ArrayList<>(batch.size());
+        for (PendingEntry pending : batch) {
+            TimeEntryDTO entry = pending.entry();
+            if (!knownEmployees.contains(entry.getEmployeeId())) {
+                pending.result().complete(BulkIngestionResultDTO.rejected(pending.index(),
+                        "Employee not found: " + entry.getEmployeeId()));
+            } else if (entry.getTaskId() != null && !knownTasks.contains(entry.getTaskId())) {
+                pending.result().complete(BulkIngestionResultDTO.rejected(pending.index(),
+                        "Task not found: " + entry.getTaskId()));
+            } else if (entry.getType() == null || entry.getEntryDate() == null || entry.getHours() == null) {
+                pending.result().complete(BulkIngestionResultDTO.rejected(pending.index(),
+                        "Type, entry date and hours are required"));
+            } else {
+                valid.add(pending);
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.CursorSlice;
+import com.company.timetracker.dto.EmployeeIdentity;
+import com.company.timetracker.dto.KeysetCursor;
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.dto.TimeEntryFilter;
+import com.company.timetracker.entity.TimeEntry;
+import com.company.timetracker.entity.TimeEntryType;
+import com.company.timetracker.mapper.TimeEntryMapper;
+import com.company.timetracker.repository.TimeEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TimeEntryQueryService {
+
+    public static final int DEFAULT_SLICE_SIZE = 50;
+    public static final int MAX_SLICE_SIZE = 500;
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final TimeEntryMapper timeEntryMapper;
+    private final EmployeeIdentityCache employeeIdentityCache;
+
+    /**
+     * The caller's entries, by default for the current month; resolved by keycloak id in the same statement.
+     */
+    public List<TimeEntryDTO> getMyTimeEntries(String keycloakId, LocalDate startDate, LocalDate endDate, String type) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.withDayOfMonth(1);
+        TimeEntryType entryType = TimeEntryFilter.parseType(type);
+        List<TimeEntryDTO> entries = timeEntryRepository.findDtosByKeycloakIdAndWorkDayBetween(keycloakId, start, end);
+        return entryType == null ? entries : entries.stream()
+                .filter(entry -> entry.getType() == entryType)
+                .toList();
+    }
+
+    public Page<TimeEntryDTO> getTimeEntries(TimeEntryFilter filter, Pageable pageable) {
+        return timeEntryRepository.findDtoPage(filter, pageable);
+    }
+
+    /**
+     * A single entry, visible to its employee and to the roles that approve entries.
+     */
+    public TimeEntryDTO getTimeEntry(Long id, String keycloakId) {
+        TimeEntryDTO entry = timeEntryRepository.findDtoById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Time entry not found: " + id));
+        EmployeeIdentity caller = employeeIdentityCache.resolve(keycloakId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Employee not found"));
+        if (!caller.getId().equals(entry.getEmployeeId()) && !caller.canApprove()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not allowed to view time entry " + id);
+        }
+        return entry;
+    }
+
+    public CursorSlice<TimeEntryDTO> getTimeEntriesAfter(TimeEntryFilter filter, String after, int size) {
+        Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(size, MAX_SLICE_SIZE)));
+        KeysetCursor cursor = after == null || after.isBlank() ? null : KeysetCursor.decode(after);
+        Slice<TimeEntry> slice = timeEntryRepository.findKeysetSlice(filter,
+                cursor != null ? cursor.getSortKeyAsDateTime() : null, cursor != null ? cursor.getId() : null,
+                pageable);
+
+        List<TimeEntryDTO> content = slice.getContent().stream()
+                .map(timeEntryMapper::toDto)
+                .toList();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            TimeEntryDTO last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getEntryDate(), last.getId());
+        }
+        return new CursorSlice<>(content, content.size(), slice.hasNext(), nextCursor);
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.controller.TimeEntryController.DailyTimeReportDTO;
+import com.company.timetracker.controller.TimeEntryController.TimeEntrySummaryDTO;
+import com.company.timetracker.controller.TimeEntryController.WeeklyTimeReportDTO;
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.entity.TimeEntryType;
+import com.company.timetracker.repository.TimeEntryDailyHoursRepository;
+import com.company.timetracker.repository.TimeEntryDailyHoursRepository.EmployeeDayHours;
+import com.company.timetracker.repository.TimeEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the daily and weekly reports from the {@code time_entry_daily_hours} rollup
+ * instead of loading and summing individual time entries. The organisation-wide weekly report is
+ * built in parallel chunks by {@link WeeklyReportEngine}. The personal summary is aggregated
+ * from a single DTO projection query.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TimeEntryReportService {
+
+    private final TimeEntryDailyHoursRepository dailyHoursRepository;
+    private final TimeEntryRepository timeEntryRepository;
+    private final TimeEntrySummaryCalculator summaryCalculator;
+    private final WeeklyReportEngine weeklyReportEngine;
+
+    public List<DailyTimeReportDTO> getDailyTimeReport(LocalDate date, Long employeeId) {
+        List<EmployeeDayHours> rows = employeeId != null
+                ? dailyHoursRepository.sumHoursByEmployeeAndDay(employeeId, date, date)
+                : dailyHoursRepository.sumHoursByEmployeeAndDay(date, date);
+
+        Map<Long, DailyTimeReportDTO> reports = new LinkedHashMap<>();
+        for (EmployeeDayHours row : rows) {
+            DailyTimeReportDTO report = reports.computeIfAbsent(row.getEmployeeId(), id -> new DailyTimeReportDTO(
+                    fullName(row), date, 0, 0, 0, Collections.emptyList()));
+            double hours = row.getHours() != null ? row.getHours() : 0;
+            report.setTotalHours(report.getTotalHours() + hours);
+            if (row.getType() == TimeEntryType.PRESENCE) {
+                report.setPresenceHours(report.getPresenceHours() + hours);
+            } else if (row.getType() == TimeEntryType.TASK) {
+                report.setTaskHours(report.getTaskHours() + hours);
+            }
+        }
+
+        // Individual entries are only listed for single-employee reports
+        if (employeeId != null && reports.containsKey(employeeId)) {
+            List<TimeEntryDTO> entries = timeEntryRepository.findDtosByEmployeeIdAndWorkDayBetween(
+                    employeeId, date, date);
+            reports.get(employeeId).setEntries(entries);
+        }
+
+        return new ArrayList<>(reports.values());
+    }
+
+    // Runs outside a transaction so the caller holds no connection while the engine's workers use theirs
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<WeeklyTimeReportDTO> getWeeklyTimeReport(LocalDate startDate, Long employeeId) {
+        if (employeeId == null) {
+            return weeklyReportEngine.build(startDate);
+        }
+        LocalDate endDate = startDate.plusDays(6);
+        List<EmployeeDayHours> rows = dailyHoursRepository.sumHoursByEmployeeAndDay(employeeId, startDate, endDate);
+
+        Map<Long, WeeklyTimeReportDTO> reports = new LinkedHashMap<>();
+        for (EmployeeDayHours row : rows) {
+            WeeklyTimeReportDTO report = reports.computeIfAbsent(row.getEmployeeId(), id -> new WeeklyTimeReportDTO(
+                    fullName(row), startDate, endDate, 0, emptyWeek(startDate)));
+            double hours = row.getHours() != null ? row.getHours() : 0;
+            report.setTotalHours(report.getTotalHours() + hours);
+            report.getDailyHours().merge(row.getWorkDay(), hours, Double::sum);
+        }
+
+        log.debug("Built {} weekly reports from rollup for week starting {}", reports.size(), startDate);
+        return new ArrayList<>(reports.values());
+    }
+
+    public TimeEntrySummaryDTO getTimeEntrySummary(String keycloakId, LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.withDayOfMonth(1);
+        List<TimeEntryDTO> entries = timeEntryRepository.findDtosByKeycloakIdAndWorkDayBetween(
+                keycloakId, start, end);
+        return summaryCalculator.summarize(entries);
+    }
+
+    private static Map<LocalDate, Double> emptyWeek(LocalDate startDate) {
+        Map<LocalDate, Double> dailyHours = new LinkedHashMap<>();
+        for (int i = 0; i < 7; i++) {
+            dailyHours.put(startDate.plusDays(i), 0.0);
+        }
+        return dailyHours;
+    }
+
+    private static String fullName(EmployeeDayHours row) {
+        return row.getFirstName() + " " + row.getLastName();
+    }
+}
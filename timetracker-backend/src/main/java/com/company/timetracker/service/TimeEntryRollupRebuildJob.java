@@ -0,0 +1,49 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.repository.TaskDailyHoursRepository;
+import com.company.timetracker.repository.TimeEntryDailyHoursRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Repairs the {@code time_entry_daily_hours} and {@code task_daily_hours} rollups by recomputing
+ * a window of days from {@code time_entries}. Writers are blocked for the duration of the rebuild.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimeEntryRollupRebuildJob {
+
+    private final TimeEntryDailyHoursRepository dailyHoursRepository;
+    private final TaskDailyHoursRepository taskDailyHoursRepository;
+
+    @Value("${app.reports.rollup.rebuild-window-days:35}")
+    private int rebuildWindowDays;
+
+    @Scheduled(cron = "${app.reports.rollup.rebuild-cron:0 30 2 * * *}")
+    @Transactional
+    public void rebuildRecentDays() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(rebuildWindowDays), today);
+    }
+
+    @Transactional
+    public int rebuild(LocalDate startDay, LocalDate endDay) {
+        log.info("Rebuilding daily hours rollup from {} to {}", startDay, endDay);
+        dailyHoursRepository.lockTimeEntriesForRebuild();
+        int deleted = dailyHoursRepository.deleteByWorkDayBetween(startDay, endDay);
+        int inserted = dailyHoursRepository.rebuildFromTimeEntries(startDay, endDay);
+        int taskDeleted = taskDailyHoursRepository.deleteByWorkDayBetween(startDay, endDay);
+        int taskInserted = taskDailyHoursRepository.rebuildFromTimeEntries(startDay, endDay);
+        log.info("Daily hours rollup rebuilt from {} to {}: {} rows removed, {} rows written; " +
+                        "task daily hours: {} rows removed, {} rows written",
+                startDay, endDay, deleted, inserted, taskDeleted, taskInserted);
+        return inserted;
+    }
+}
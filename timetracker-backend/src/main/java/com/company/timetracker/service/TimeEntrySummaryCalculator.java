@@ -0,0 +1,44 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.controller.TimeEntryController.TimeEntrySummaryDTO;
+import com.company.timetracker.dto.TimeEntryDTO;
+import com.company.timetracker.entity.TimeEntryType;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates time entries into a {@link TimeEntrySummaryDTO} in a single pass.
+ */
+@Component
+public class TimeEntrySummaryCalculator {
+
+    public TimeEntrySummaryDTO summarize(List<TimeEntryDTO> entries) {
+        double totalHours = 0;
+        double presenceHours = 0;
+        double taskHours = 0;
+        Map<String, Double> hoursByProject = new HashMap<>();
+        Map<String, Double> hoursByTask = new HashMap<>();
+
+        for (TimeEntryDTO entry : entries) {
+            double hours = entry.getHours() != null ? entry.getHours() : 0;
+            totalHours += hours;
+            if (entry.getType() == TimeEntryType.PRESENCE) {
+                presenceHours += hours;
+            } else if (entry.getType() == TimeEntryType.TASK) {
+                taskHours += hours;
+            }
+            if (entry.getProjectName() != null) {
+                hoursByProject.merge(entry.getProjectName(), hours, Double::sum);
+            }
+            if (entry.getTaskName() != null) {
+                hoursByTask.merge(entry.getTaskName(), hours, Double::sum);
+            }
+        }
+
+        return new TimeEntrySummaryDTO(totalHours, presenceHours, taskHours, entries.size(),
+                hoursByProject, hoursByTask);
+    }
+}
@@ -0,0 +1,83 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.entity.VacationBalance;
+import com.company.timetracker.entity.VacationBalanceId;
+import com.company.timetracker.entity.VacationBalanceLedgerEntry;
+import com.company.timetracker.entity.VacationType;
+import com.company.timetracker.repository.VacationBalanceLedgerRepository;
+import com.company.timetracker.repository.VacationBalanceRepository;
+import com.company.timetracker.repository.VacationBalanceRepository.BalanceDrift;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Verifies the vacation balance ledger against {@code vacation_requests} in one pass and repairs drift:
+ * missing ledger movements are posted as reconciliation entries and running balances are reset to
+ * the ledger totals. Writers of vacation requests are blocked for the duration of the check.
+ */
+@Component
+@Slf4j
+public class VacationBalanceReconciliationJob {
+
+    private final VacationBalanceRepository balanceRepository;
+    private final VacationBalanceLedgerRepository ledgerRepository;
+    private final Counter corrections;
+
+    public VacationBalanceReconciliationJob(VacationBalanceRepository balanceRepository,
+                                            VacationBalanceLedgerRepository ledgerRepository,
+                                            MeterRegistry meterRegistry) {
+        this.balanceRepository = balanceRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.corrections = Counter.builder("vacation.balance.reconciliation.corrections")
+                .description("Vacation balances repaired by the reconciliation job")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.vacation.balance.reconcile-cron:0 45 2 * * *}")
+    @Transactional
+    public int reconcile() {
+        balanceRepository.lockVacationRequestsForReconciliation();
+        List<BalanceDrift> drift = balanceRepository.findDrift();
+        for (BalanceDrift row : drift) {
+            log.warn("Vacation balance drift for employee {} year {} type {}: requests {}/{}, ledger {}/{}, balance {}/{} " +
+                            "(used/pending days)",
+                    row.getEmployeeId(), row.getBalanceYear(), row.getType(),
+                    row.getExpectedUsedDays(), row.getExpectedPendingDays(),
+                    row.getLedgerUsedDays(), row.getLedgerPendingDays(),
+                    row.getBalanceUsedDays(), row.getBalancePendingDays());
+            repair(row);
+        }
+        corrections.increment(drift.size());
+        log.info("Vacation balance reconciliation finished: {} balances repaired", drift.size());
+        return drift.size();
+    }
+
+    private void repair(BalanceDrift row) {
+        VacationBalanceId id = new VacationBalanceId(row.getEmployeeId(), row.getBalanceYear(),
+                VacationType.valueOf(row.getType()));
+        int usedDelta = row.getExpectedUsedDays() - row.getLedgerUsedDays();
+        int pendingDelta = row.getExpectedPendingDays() - row.getLedgerPendingDays();
+        if (usedDelta != 0 || pendingDelta != 0) {
+            ledgerRepository.save(VacationBalanceLedgerEntry.builder()
+                    .employeeId(id.getEmployeeId())
+                    .year(id.getYear())
+                    .type(id.getType())
+                    .usedDaysDelta(usedDelta)
+                    .pendingDaysDelta(pendingDelta)
+                    .reason(VacationBalanceLedgerEntry.REASON_RECONCILIATION)
+                    .build());
+        }
+
+        VacationBalance balance = balanceRepository.findById(id)
+                .orElseGet(() -> VacationBalance.builder().id(id).build());
+        balance.setUsedDays(row.getExpectedUsedDays());
+        balance.setPendingDays(row.getExpectedPendingDays());
+        balanceRepository.save(balance);
+    }
+}
@@ -0,0 +1,136 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.VacationInterval;
+import com.company.timetracker.event.VacationRequestChangedEvent;
+import com.company.timetracker.repository.VacationRequestRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of approved vacations, one {@link VacationIntervalTree} per department. Loaded at
+ * startup, updated after each committed {@link VacationRequestChangedEvent} and fully reloaded on a
+ * schedule to pick up employee renames and department moves.
+ */
+@Service
+@Slf4j
+public class VacationCoverageIndex {
+
+    private final VacationRequestRepository vacationRequestRepository;
+    // A lock rather than a monitor: it is held across a query, which would pin a virtual thread
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Copy-on-write: readers see a consistent snapshot without locking
+    private volatile Map<String, VacationIntervalTree> byDepartment = Map.of();
+    private volatile Map<Long, String> departmentByRequest = Map.of();
+
+    public VacationCoverageIndex(VacationRequestRepository vacationRequestRepository, MeterRegistry meterRegistry) {
+        this.vacationRequestRepository = vacationRequestRepository;
+        Gauge.builder("vacation.coverage.index.size", this, index -> index.departmentByRequest.size())
+                .description("Approved vacation requests held by the coverage index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.vacation.coverage.reload-cron:0 15 3 * * *}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        writeLock.lock();
+        try {
+            List<VacationInterval> intervals = vacationRequestRepository.findApprovedIntervals();
+            Map<String, VacationIntervalTree> trees = new HashMap<>();
+            intervals.stream()
+                    .collect(Collectors.groupingBy(interval -> departmentKey(interval.getDepartment())))
+                    .forEach((department, departmentIntervals) ->
+                            trees.put(department, VacationIntervalTree.of(departmentIntervals)));
+            Map<Long, String> departments = new HashMap<>();
+            intervals.forEach(interval ->
+                    departments.put(interval.getRequestId(), departmentKey(interval.getDepartment())));
+            byDepartment = Collections.unmodifiableMap(trees);
+            departmentByRequest = Collections.unmodifiableMap(departments);
+            log.info("Vacation coverage index loaded with {} approved requests in {} departments",
+                    intervals.size(), trees.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onVacationRequestChanged(VacationRequestChangedEvent event) {
+        writeLock.lock();
+        try {
+            Optional<VacationInterval> approved = event.isRemoved()
+                    ? Optional.empty()
+                    : vacationRequestRepository.findApprovedIntervalById(event.getRequestId());
+            Map<String, VacationIntervalTree> trees = new HashMap<>(byDepartment);
+            Map<Long, String> departments = new HashMap<>(departmentByRequest);
+
+            String previousDepartment = departments.remove(event.getRequestId());
+            if (previousDepartment != null) {
+                VacationIntervalTree remaining = trees.get(previousDepartment).without(event.getRequestId());
+                if (remaining.isEmpty()) {
+                    trees.remove(previousDepartment);
+                } else {
+                    trees.put(previousDepartment, remaining);
+                }
+            }
+            approved.ifPresent(interval -> {
+                String department = departmentKey(interval.getDepartment());
+                trees.put(department, trees.getOrDefault(department, VacationIntervalTree.EMPTY).with(interval));
+                departments.put(interval.getRequestId(), department);
+            });
+
+            if (previousDepartment != null || approved.isPresent()) {
+                byDepartment = Collections.unmodifiableMap(trees);
+                departmentByRequest = Collections.unmodifiableMap(departments);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Departments holding at least one approved vacation; employees without a department are reported
+     * under {@code null}.
+     */
+    public List<String> departments() {
+        return byDepartment.keySet().stream().map(VacationCoverageIndex::departmentName).toList();
+    }
+
+    /**
+     * Visits the approved vacations of {@code department} intersecting {@code [from, to]}.
+     */
+    public void forEachOverlapping(String department, LocalDate from, LocalDate to, Consumer<VacationInterval> action) {
+        VacationIntervalTree tree = byDepartment.get(departmentKey(department));
+        if (tree != null) {
+            tree.forEachOverlapping(from, to, action);
+        }
+    }
+
+    private static String departmentKey(String department) {
+        return department != null ? department : "";
+    }
+
+    private static String departmentName(String key) {
+        return key.isEmpty() ? null : key;
+    }
+}
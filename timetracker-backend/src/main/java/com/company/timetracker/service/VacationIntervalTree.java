@@ -0,0 +1,121 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.VacationInterval;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Immutable interval tree over inclusive date intervals. Intervals are kept sorted by start date and
+ * the array is read as an implicit balanced tree (the middle of each sub-range is its root), augmented
+ * with the latest end date of every subtree, so an overlap search visits O(log n + k) nodes.
+ * Updates return a new tree and leave readers of the old one undisturbed.
+ */
+final class VacationIntervalTree {
+
+    static final VacationIntervalTree EMPTY = new VacationIntervalTree(new VacationInterval[0]);
+
+    private static final Comparator<VacationInterval> ORDER = Comparator
+            .comparing(VacationInterval::getStartDate)
+            .thenComparing(VacationInterval::getRequestId);
+
+    private final VacationInterval[] intervals;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private VacationIntervalTree(VacationInterval[] sortedIntervals) {
+        this.intervals = sortedIntervals;
+        int size = sortedIntervals.length;
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = sortedIntervals[i].getStartDate().toEpochDay();
+            ends[i] = sortedIntervals[i].getEndDate().toEpochDay();
+        }
+        augment(0, size - 1);
+    }
+
+    static VacationIntervalTree of(Collection<VacationInterval> intervals) {
+        VacationInterval[] sorted = intervals.toArray(VacationInterval[]::new);
+        Arrays.sort(sorted, ORDER);
+        return new VacationIntervalTree(sorted);
+    }
+
+    /**
+     * Returns a tree containing {@code interval} in place of any interval with the same request id.
+     */
+    VacationIntervalTree with(VacationInterval interval) {
+        List<VacationInterval> updated = new ArrayList<>(intervals.length + 1);
+        for (VacationInterval existing : intervals) {
+            if (!existing.getRequestId().equals(interval.getRequestId())) {
+                updated.add(existing);
+            }
+        }
+        updated.add(interval);
+        return of(updated);
+    }
+
+    VacationIntervalTree without(Long requestId) {
+        List<VacationInterval> updated = new ArrayList<>(intervals.length);
+        for (VacationInterval existing : intervals) {
+            if (!existing.getRequestId().equals(requestId)) {
+                updated.add(existing);
+            }
+        }
+        return updated.size() == intervals.length ? this : of(updated);
+    }
+
+    int size() {
+        return intervals.length;
+    }
+
+    boolean isEmpty() {
+        return intervals.length == 0;
+    }
+
+    /**
+     * Visits every interval intersecting {@code [from, to]} (both inclusive) in start date order; none when
+     * {@code to} is before {@code from}.
+     */
+    void forEachOverlapping(LocalDate from, LocalDate to, Consumer<VacationInterval> action) {
+        if (to.isBefore(from)) {
+            return;
+        }
+        search(0, intervals.length - 1, from.toEpochDay(), to.toEpochDay(), action);
+    }
+
+    private void search(int low, int high, long from, long to, Consumer<VacationInterval> action) {
+        if (low > high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEnds[mid] < from) {
+            return;
+        }
+        search(low, mid - 1, from, to, action);
+        if (starts[mid] > to) {
+            return;
+        }
+        if (ends[mid] >= from) {
+            action.accept(intervals[mid]);
+        }
+        search(mid + 1, high, from, to, action);
+    }
+
+    private long augment(int low, int high) {
+        if (low > high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(ends[mid], Math.max(augment(low, mid - 1), augment(mid + 1, high)));
+        maxEnds[mid] = max;
+        return max;
+    }
+}
@@ -0,0 +1,120 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.BulkApprovalRequestDTO;
+import com.company.timetracker.dto.BulkApprovalResultDTO;
+import com.company.timetracker.dto.EmployeeIdentity;
+import com.company.timetracker.dto.VacationRequestDTO;
+import com.company.timetracker.entity.VacationRequest;
+import com.company.timetracker.entity.VacationStatus;
+import com.company.timetracker.event.VacationRequestChangedEvent;
+import com.company.timetracker.mapper.VacationRequestMapper;
+import com.company.timetracker.repository.VacationRequestRepository;
+import com.company.timetracker.repository.VacationRequestRepository.DecidedRequest;
+import com.company.timetracker.repository.VacationRequestRepository.RequestStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Approval decisions on vacation requests as conditional updates of pending rows, so concurrent
+ * decisions on the same request never overwrite each other: the first one wins and the others get
+ * a 409. Bulk decisions run as one set-based update and report the outcome per request.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class VacationRequestApprovalService {
+
+    private static final String DEFAULT_SKIP_LABEL = "Approval Skipped";
+
+    private final VacationRequestRepository vacationRequestRepository;
+    private final VacationRequestMapper vacationRequestMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeIdentityCache employeeIdentityCache;
+
+    public VacationRequestDTO approve(Long id, String approverKeycloakId) {
+        int updated = vacationRequestRepository.approveIfPending(id, approverKeycloakId, LocalDateTime.now());
+        return decided(id, updated, approverKeycloakId);
+    }
+
+    public VacationRequestDTO reject(Long id, String rejectionReason, String approverKeycloakId) {
+        int updated = vacationRequestRepository.rejectIfPending(id, rejectionReason, LocalDateTime.now());
+        return decided(id, updated, approverKeycloakId);
+    }
+
+    public VacationRequestDTO skipApproval(Long id, String skipLabel, String approverKeycloakId) {
+        String label = skipLabel != null && !skipLabel.isBlank() ? skipLabel : DEFAULT_SKIP_LABEL;
+        int updated = vacationRequestRepository.skipApprovalIfPending(id, label, LocalDateTime.now());
+        return decided(id, updated, approverKeycloakId);
+    }
+
+    public BulkApprovalResultDTO approveAll(BulkApprovalRequestDTO request, String approverKeycloakId) {
+        request.validate();
+        requireApprover(approverKeycloakId);
+        LocalDateTime now = LocalDateTime.now();
+        List<DecidedRequest> decided = request.hasIds()
+                ? vacationRequestRepository.approvePendingByIds(request.getDistinctIds(), approverKeycloakId, now)
+                : vacationRequestRepository.approvePendingMatching(request.getEmployeeId(), request.getProjectId(),
+                        request.getStartDate(), request.getEndDate(), approverKeycloakId, now);
+        return bulkResult(request, decided, VacationStatus.APPROVED, approverKeycloakId);
+    }
+
+    public BulkApprovalResultDTO rejectAll(BulkApprovalRequestDTO request, String approverKeycloakId) {
+        request.validate();
+        requireApprover(approverKeycloakId);
+        LocalDateTime now = LocalDateTime.now();
+        List<DecidedRequest> decided = request.hasIds()
+                ? vacationRequestRepository.rejectPendingByIds(request.getDistinctIds(), request.getReason(), now)
+                : vacationRequestRepository.rejectPendingMatching(request.getEmployeeId(), request.getProjectId(),
+                        request.getStartDate(), request.getEndDate(), request.getReason(), now);
+        return bulkResult(request, decided, VacationStatus.REJECTED, approverKeycloakId);
+    }
+
+    private void requireApprover(String approverKeycloakId) {
+        employeeIdentityCache.resolve(approverKeycloakId)
+                .filter(EmployeeIdentity::canApprove)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN,
+                        "Only active managers can decide vacation requests"));
+    }
+
+    private BulkApprovalResultDTO bulkResult(BulkApprovalRequestDTO request, List<DecidedRequest> decided,
+                                             VacationStatus status, String approverKeycloakId) {
+        decided.forEach(row -> eventPublisher.publishEvent(
+                new VacationRequestChangedEvent(row.getId(), row.getEmployeeId(), status, false)));
+        List<Long> decidedIds = decided.stream().map(DecidedRequest::getId).toList();
+        List<Long> requested = request.getDistinctIds();
+        Set<Long> undecided = new HashSet<>(requested);
+        decidedIds.forEach(undecided::remove);
+        Map<Long, String> statuses = undecided.isEmpty() ? Map.of()
+                : vacationRequestRepository.findStatusesByIdIn(undecided).stream()
+                        .collect(Collectors.toMap(RequestStatus::getId, row -> row.getStatus().name()));
+        log.info("Bulk {} of {} vacation requests by {}", status, decidedIds.size(), approverKeycloakId);
+        return BulkApprovalResultDTO.of(requested, decidedIds, BulkApprovalResultDTO.Outcome.valueOf(status.name()),
+                statuses);
+    }
+
+    private VacationRequestDTO decided(Long id, int updated, String approverKeycloakId) {
+        VacationRequest request = vacationRequestRepository.findWithEmployeeById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation request not found: " + id));
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Vacation request " + id + " is already " + request.getStatus());
+        }
+        log.info("Vacation request {} is now {} (decided by {})", id, request.getStatus(), approverKeycloakId);
+        eventPublisher.publishEvent(new VacationRequestChangedEvent(
+                id, request.getEmployee().getId(), request.getStatus(), false));
+        return vacationRequestMapper.toDto(request);
+    }
+}
@@ -0,0 +1,182 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.controller.VacationRequestController.VacationSummaryDTO;
+import com.company.timetracker.dto.CursorSlice;
+import com.company.timetracker.dto.KeysetCursor;
+import com.company.timetracker.dto.VacationCoverageDTO;
+import com.company.timetracker.dto.VacationRequestDTO;
+import com.company.timetracker.entity.VacationRequest;
+import com.company.timetracker.entity.VacationStatus;
+import com.company.timetracker.entity.VacationType;
+import com.company.timetracker.mapper.VacationRequestMapper;
+import com.company.timetracker.repository.EmployeeRepository;
+import com.company.timetracker.repository.VacationBalanceRepository;
+import com.company.timetracker.repository.VacationBalanceRepository.BalanceSummary;
+import com.company.timetracker.repository.VacationRequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VacationRequestQueryService {
+
+    public static final int DEFAULT_SLICE_SIZE = 50;
+    public static final int MAX_SLICE_SIZE = 500;
+    public static final int DEFAULT_COVERAGE_DAYS = 90;
+    public static final int MAX_COVERAGE_DAYS = 366;
+
+    private final VacationRequestRepository vacationRequestRepository;
+    private final VacationRequestMapper vacationRequestMapper;
+    private final EmployeeRepository employeeRepository;
+    private final VacationCoverageIndex coverageIndex;
+    private final VacationBalanceRepository vacationBalanceRepository;
+
+    public CursorSlice<VacationRequestDTO> getVacationRequestsAfter(String status, Long employeeId,
+                                                                    LocalDate startDate, LocalDate endDate,
+                                                                    String after, int size) {
+        VacationStatus vacationStatus = parseStatus(status);
+        Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(size, MAX_SLICE_SIZE)));
+        KeysetCursor cursor = after == null || after.isBlank() ? null : KeysetCursor.decode(after);
+        Slice<VacationRequest> slice = vacationRequestRepository.findKeysetSlice(vacationStatus, employeeId,
+                startDate, endDate, cursor != null ? cursor.getSortKeyAsDate() : null,
+                cursor != null ? cursor.getId() : null, pageable);
+
+        List<VacationRequestDTO> content = slice.getContent().stream()
+                .map(vacationRequestMapper::toDto)
+                .toList();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            VacationRequestDTO last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getStartDate(), last.getId());
+        }
+        return new CursorSlice<>(content, content.size(), slice.hasNext(), nextCursor);
+    }
+
+    public List<VacationRequestDTO> getVacationCalendar(LocalDate startDate, LocalDate endDate, String department) {
+        if (endDate.isBefore(startDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endDate must not be before startDate");
+        }
+        List<VacationRequest> requests = department == null || department.isBlank()
+                ? vacationRequestRepository.findByDateRange(startDate, endDate)
+                : vacationRequestRepository.findByDateRangeAndDepartment(startDate, endDate, department.trim());
+        return requests.stream()
+                .map(vacationRequestMapper::toDto)
+                .toList();
+    }
+
+    /**
+     * Absences per day and department from the in-memory coverage index; only the headcounts are read
+     * from the database.
+     */
+    public VacationCoverageDTO getCoverage(LocalDate startDate, LocalDate endDate, String department,
+                                           boolean includeAbsences) {
+        LocalDate start = startDate != null ? startDate : LocalDate.now();
+        LocalDate end = endDate != null ? endDate : start.plusDays(DEFAULT_COVERAGE_DAYS - 1);
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        if (days < 1 || days > MAX_COVERAGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Coverage range must span 1 to " + MAX_COVERAGE_DAYS + " days");
+        }
+
+        Map<String, Long> headcounts = new HashMap<>();
+        employeeRepository.countActiveByDepartment()
+                .forEach(row -> headcounts.put(row.getDepartment(), row.getHeadcount()));
+        List<String> departments;
+        if (department != null && !department.isBlank()) {
+            departments = List.of(department.trim());
+        } else {
+            Set<String> all = new HashSet<>(headcounts.keySet());
+            all.addAll(coverageIndex.departments());
+            departments = all.stream().sorted(Comparator.nullsLast(Comparator.naturalOrder())).toList();
+        }
+
+        List<VacationCoverageDTO.DepartmentCoverage> coverage = departments.stream()
+                .map(name -> departmentCoverage(name, headcounts.getOrDefault(name, 0L), start, end, (int) days,
+                        includeAbsences))
+                .toList();
+        return new VacationCoverageDTO(start, end, coverage);
+    }
+
+    private VacationCoverageDTO.DepartmentCoverage departmentCoverage(String department, long headcount,
+                                                                     LocalDate start, LocalDate end, int days,
+                                                                     boolean includeAbsences) {
+        int[] delta = new int[days + 1];
+        // Intervals arrive in start order, so overlapping requests of one employee are counted once
+        Map<Long, Integer> lastCountedDay = new HashMap<>();
+        List<VacationCoverageDTO.Absence> absences = includeAbsences ? new ArrayList<>() : null;
+
+        coverageIndex.forEachOverlapping(department, start, end, interval -> {
+            int from = (int) Math.max(0, ChronoUnit.DAYS.between(start, interval.getStartDate()));
+            int to = (int) Math.min(days - 1, ChronoUnit.DAYS.between(start, interval.getEndDate()));
+            Integer last = lastCountedDay.get(interval.getEmployeeId());
+            if (last != null) {
+                from = Math.max(from, last + 1);
+            }
+            if (from <= to) {
+                delta[from]++;
+                delta[to + 1]--;
+                lastCountedDay.put(interval.getEmployeeId(), to);
+            }
+            if (absences != null) {
+                absences.add(new VacationCoverageDTO.Absence(interval.getRequestId(), interval.getEmployeeId(),
+                        interval.getEmployeeName(), interval.getType(), interval.getStartDate(), interval.getEndDate()));
+            }
+        });
+
+        int[] absentByDay = new int[days];
+        int absent = 0;
+        int maxAbsent = 0;
+        for (int day = 0; day < days; day++) {
+            absent += delta[day];
+            absentByDay[day] = absent;
+            maxAbsent = Math.max(maxAbsent, absent);
+        }
+        return new VacationCoverageDTO.DepartmentCoverage(department, headcount, absentByDay, maxAbsent,
+                Math.max(0, headcount - maxAbsent), absences);
+    }
+
+    /**
+     * Annual leave balance of the caller from the ledger-maintained running totals, plus the vacations
+     * that have not ended yet.
+     */
+    public VacationSummaryDTO getVacationSummary(String keycloakId, int year) {
+        BalanceSummary balance = vacationBalanceRepository
+                .findSummaryByKeycloakId(keycloakId, year, VacationType.ANNUAL_LEAVE)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
+        int entitledDays = balance.getEntitledDays() != null ? balance.getEntitledDays() : 0;
+        List<VacationRequestDTO> upcoming = vacationRequestRepository
+                .findUpcomingVacationsByEmployeeIdFrom(balance.getEmployeeId(), LocalDate.now()).stream()
+                .map(vacationRequestMapper::toDto)
+                .toList();
+        return new VacationSummaryDTO(entitledDays, balance.getUsedDays(), entitledDays - balance.getUsedDays(),
+                balance.getPendingDays(), upcoming);
+    }
+
+    private static VacationStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return VacationStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid status: " + status);
+        }
+    }
+}
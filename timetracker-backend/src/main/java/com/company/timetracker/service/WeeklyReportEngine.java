@@ -0,0 +1,197 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.controller.TimeEntryController.WeeklyTimeReportDTO;
+import com.company.timetracker.dto.EmployeeDayTotal;
+import com.company.timetracker.repository.EmployeeRepository;
+import com.company.timetracker.repository.TimeEntryDailyHoursRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the organisation-wide weekly report by splitting employees into id ranges of equal head count
+ * and summing each range from the rollup on a bounded worker pool. A report keeps at most one chunk
+ * per worker submitted and hands in the next as one completes, so its size never fills the queue.
+ * Workers take their own connections, so the pool is never larger than the datasource allows. Hours
+ * are accumulated into seven-slot arrays and only turned into report DTOs once every chunk has been
+ * merged.
+ */
+@Component
+@Slf4j
+public class WeeklyReportEngine {
+
+    private static final int DAYS = 7;
+
+    private static final Comparator<EmployeeWeek> BY_NAME = Comparator
+            .comparing(EmployeeWeek::lastName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(EmployeeWeek::firstName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(EmployeeWeek::employeeId);
+
+    private record EmployeeWeek(long employeeId, String firstName, String lastName, double[] hours) {
+    }
+
+    private final TimeEntryDailyHoursRepository dailyHoursRepository;
+    private final EmployeeRepository employeeRepository;
+    private final Timer reportTimer;
+
+    @Value("${app.reports.weekly.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.reports.weekly.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.reports.weekly.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${app.reports.weekly.timeout-ms:30000}")
+    private long timeoutMillis;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    private ThreadPoolExecutor executor;
+
+    public WeeklyReportEngine(TimeEntryDailyHoursRepository dailyHoursRepository,
+                              EmployeeRepository employeeRepository, MeterRegistry meterRegistry) {
+        this.dailyHoursRepository = dailyHoursRepository;
+        this.employeeRepository = employeeRepository;
+        this.reportTimer = Timer.builder("reports.weekly.build")
+                .description("Organisation-wide weekly reports built from the rollup")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        // Leave most of the pool to request traffic unless told otherwise; never exceed it
+        int threads = parallelism > 0
+                ? Math.min(parallelism, connectionPoolSize)
+                : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), connectionPoolSize / 4));
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "weekly-report-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("Weekly report engine started with {} workers and chunks of {} employees", threads, chunkSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public List<WeeklyTimeReportDTO> build(LocalDate startDate) {
+        LocalDate endDate = startDate.plusDays(DAYS - 1);
+        List<EmployeeRepository.IdRange> ranges = employeeRepository.findIdRanges(chunkSize);
+        if (ranges.isEmpty()) {
+            return List.of();
+        }
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        CompletionService<List<EmployeeWeek>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<List<EmployeeWeek>>> chunks = new ArrayList<>(ranges.size());
+        int inFlight = Math.min(executor.getMaximumPoolSize(), ranges.size());
+        for (int chunk = 0; chunk < inFlight; chunk++) {
+            submit(completion, chunks, ranges.get(chunk), startDate, endDate);
+        }
+
+        List<EmployeeWeek> weeks = new ArrayList<>();
+        for (int merged = 0; merged < ranges.size(); merged++) {
+            weeks.addAll(awaitNext(completion, chunks, deadline));
+            if (chunks.size() < ranges.size()) {
+                submit(completion, chunks, ranges.get(chunks.size()), startDate, endDate);
+            }
+        }
+        weeks.sort(BY_NAME);
+
+        List<WeeklyTimeReportDTO> reports = new ArrayList<>(weeks.size());
+        for (EmployeeWeek week : weeks) {
+            reports.add(toReport(week, startDate, endDate));
+        }
+        long elapsed = System.nanoTime() - started;
+        reportTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("Built {} weekly reports in {} chunks for week starting {} in {} ms",
+                reports.size(), chunks.size(), startDate, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return reports;
+    }
+
+    private void submit(CompletionService<List<EmployeeWeek>> completion, List<Future<List<EmployeeWeek>>> chunks,
+                        EmployeeRepository.IdRange range, LocalDate startDate, LocalDate endDate) {
+        try {
+            chunks.add(completion.submit(() -> sumChunk(range.getFirstId(), range.getLastId(), startDate, endDate)));
+        } catch (RejectedExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many weekly reports in progress");
+        }
+    }
+
+    private List<EmployeeWeek> sumChunk(long firstId, long lastId, LocalDate startDate, LocalDate endDate) {
+        long firstDay = startDate.toEpochDay();
+        Map<Long, EmployeeWeek> weeks = new HashMap<>();
+        for (EmployeeDayTotal row : dailyHoursRepository.sumHoursByEmployeeRangeAndDay(
+                firstId, lastId, startDate, endDate)) {
+            EmployeeWeek week = weeks.computeIfAbsent(row.getEmployeeId(), id ->
+                    new EmployeeWeek(id, row.getFirstName(), row.getLastName(), new double[DAYS]));
+            week.hours()[(int) (row.getWorkDay().toEpochDay() - firstDay)] += row.getHours() != null ? row.getHours() : 0;
+        }
+        return new ArrayList<>(weeks.values());
+    }
+
+    private List<EmployeeWeek> awaitNext(CompletionService<List<EmployeeWeek>> completion,
+                                         List<Future<List<EmployeeWeek>>> chunks, long deadline) {
+        try {
+            Future<List<EmployeeWeek>> chunk = completion.poll(Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS);
+            if (chunk == null) {
+                chunks.forEach(pending -> pending.cancel(true));
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Weekly report timed out");
+            }
+            return chunk.get();
+        } catch (ExecutionException e) {
+            chunks.forEach(pending -> pending.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Weekly report chunk failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(pending -> pending.cancel(true));
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while building weekly report");
+        }
+    }
+
+    private static WeeklyTimeReportDTO toReport(EmployeeWeek week, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Double> dailyHours = new LinkedHashMap<>();
+        double total = 0;
+        for (int day = 0; day < DAYS; day++) {
+            dailyHours.put(startDate.plusDays(day), week.hours()[day]);
+            total += week.hours()[day];
+        }
+        return new WeeklyTimeReportDTO(week.firstName() + " " + week.lastName(), startDate, endDate, total, dailyHours);
+    }
+}
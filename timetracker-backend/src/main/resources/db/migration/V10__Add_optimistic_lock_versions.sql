@@ -0,0 +1,4 @@
+-- Optimistic locking versions; a constant default does not rewrite the tables
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE time_entries ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE vacation_requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
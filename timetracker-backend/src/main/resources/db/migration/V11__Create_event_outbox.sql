@@ -0,0 +1,56 @@
+-- Transactional outbox: every state change of a time entry or vacation request is recorded in the
+-- writing transaction and relayed to the event sinks after commit
+CREATE TABLE event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_event_outbox_unpublished ON event_outbox(id) WHERE published_at IS NULL;
+CREATE INDEX idx_event_outbox_published_at ON event_outbox(published_at) WHERE published_at IS NOT NULL;
+
+-- Payloads are the row as written; status changes also carry the previous status.
+-- Updates that only touch version or updated_at are not events.
+CREATE OR REPLACE FUNCTION enqueue_outbox_event() RETURNS TRIGGER AS $$
+DECLARE
+    v_event_type VARCHAR(50);
+    v_payload JSONB;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        v_event_type := 'CREATED';
+        v_payload := to_jsonb(NEW);
+    ELSIF TG_OP = 'DELETE' THEN
+        v_event_type := 'DELETED';
+        v_payload := to_jsonb(OLD);
+    ELSE
+        v_payload := to_jsonb(NEW);
+        IF v_payload - 'version' - 'updated_at' = to_jsonb(OLD) - 'version' - 'updated_at' THEN
+            RETURN NULL;
+        END IF;
+        IF OLD.status IS DISTINCT FROM NEW.status THEN
+            v_event_type := 'STATUS_CHANGED';
+            v_payload := v_payload || jsonb_build_object('previous_status', OLD.status);
+        ELSE
+            v_event_type := 'UPDATED';
+        END IF;
+    END IF;
+
+    INSERT INTO event_outbox (aggregate_type, aggregate_id, event_type, payload)
+    VALUES (TG_ARGV[0], COALESCE(NEW.id, OLD.id), v_event_type, v_payload);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_time_entries_outbox
+    AFTER INSERT OR UPDATE OR DELETE ON time_entries
+    FOR EACH ROW EXECUTE FUNCTION enqueue_outbox_event('TIME_ENTRY');
+
+CREATE TRIGGER trg_vacation_requests_outbox
+    AFTER INSERT OR UPDATE OR DELETE ON vacation_requests
+    FOR EACH ROW EXECUTE FUNCTION enqueue_outbox_event('VACATION_REQUEST');
@@ -0,0 +1,114 @@
+-- Hours logged against each task and project, maintained from time_entries so that reads no longer
+-- aggregate the entries. Every entry referencing a task counts, as in the existing repository queries.
+ALTER TABLE tasks ADD COLUMN logged_hours DECIMAL(12,2) NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN logged_hours DECIMAL(12,2) NOT NULL DEFAULT 0;
+
+-- Lock order for the counters: tasks by ascending id, then projects by ascending id. Every writer of
+-- time_entries applies its statement's net deltas in that order, once per statement, so concurrent
+-- multi-row writers queue on the first shared row instead of deadlocking. The rows are locked FOR NO
+-- KEY UPDATE, like the UPDATE itself, so the foreign key checks of concurrent inserts do not conflict
+-- with them. The reconciliation job follows the same order.
+CREATE OR REPLACE FUNCTION apply_logged_hours(p_task_ids BIGINT[], p_hours DECIMAL[]) RETURNS VOID AS $$
+BEGIN
+    IF p_task_ids IS NULL THEN
+        RETURN;
+    END IF;
+
+    PERFORM 1 FROM tasks WHERE id = ANY(p_task_ids) ORDER BY id FOR NO KEY UPDATE;
+    UPDATE tasks t SET logged_hours = t.logged_hours + d.hours
+      FROM unnest(p_task_ids, p_hours) AS d(task_id, hours)
+     WHERE t.id = d.task_id;
+
+    -- A deleted task is already gone when the foreign key clears task_id on its entries (ON DELETE
+    -- SET NULL); trg_tasks_logged_hours_delete releases its hours from the project instead
+    PERFORM 1 FROM projects
+     WHERE id IN (SELECT project_id FROM tasks WHERE id = ANY(p_task_ids))
+     ORDER BY id FOR NO KEY UPDATE;
+    UPDATE projects p SET logged_hours = p.logged_hours + d.hours
+      FROM (SELECT t.project_id, SUM(d.hours) AS hours
+              FROM unnest(p_task_ids, p_hours) AS d(task_id, hours)
+              JOIN tasks t ON t.id = d.task_id
+             GROUP BY t.project_id) d
+     WHERE p.id = d.project_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Net hours per task of the whole statement, read from its transition tables
+CREATE OR REPLACE FUNCTION time_entries_apply_logged_hours() RETURNS TRIGGER AS $$
+DECLARE
+    v_task_ids BIGINT[];
+    v_hours DECIMAL[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT array_agg(task_id ORDER BY task_id), array_agg(hours ORDER BY task_id) INTO v_task_ids, v_hours
+          FROM (SELECT task_id, SUM(hours) AS hours FROM new_entries
+                 WHERE task_id IS NOT NULL GROUP BY task_id) d;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT array_agg(task_id ORDER BY task_id), array_agg(hours ORDER BY task_id) INTO v_task_ids, v_hours
+          FROM (SELECT task_id, -SUM(hours) AS hours FROM old_entries
+                 WHERE task_id IS NOT NULL GROUP BY task_id) d;
+    ELSE
+        SELECT array_agg(task_id ORDER BY task_id), array_agg(hours ORDER BY task_id) INTO v_task_ids, v_hours
+          FROM (SELECT task_id, SUM(hours) AS hours
+                  FROM (SELECT task_id, hours FROM new_entries
+                        UNION ALL
+                        SELECT task_id, -hours FROM old_entries) c
+                 WHERE task_id IS NOT NULL
+                 GROUP BY task_id
+                HAVING SUM(hours) <> 0) d;
+    END IF;
+    PERFORM apply_logged_hours(v_task_ids, v_hours);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables allow neither several events nor a column list per trigger, so updates that
+-- leave task and hours alone (approvals) only pay for an empty aggregate
+CREATE TRIGGER trg_time_entries_logged_hours_insert
+    AFTER INSERT ON time_entries
+    REFERENCING NEW TABLE AS new_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_apply_logged_hours();
+
+CREATE TRIGGER trg_time_entries_logged_hours_update
+    AFTER UPDATE ON time_entries
+    REFERENCING OLD TABLE AS old_entries NEW TABLE AS new_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_apply_logged_hours();
+
+CREATE TRIGGER trg_time_entries_logged_hours_delete
+    AFTER DELETE ON time_entries
+    REFERENCING OLD TABLE AS old_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_apply_logged_hours();
+
+-- A task moved to another project takes its hours along; a deleted task releases them
+CREATE OR REPLACE FUNCTION tasks_move_logged_hours() RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.logged_hours <> 0 THEN
+        UPDATE projects SET logged_hours = logged_hours - OLD.logged_hours WHERE id = OLD.project_id;
+    END IF;
+    IF TG_OP = 'UPDATE' AND NEW.logged_hours <> 0 THEN
+        UPDATE projects SET logged_hours = logged_hours + NEW.logged_hours WHERE id = NEW.project_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_logged_hours_move
+    AFTER UPDATE OF project_id ON tasks
+    FOR EACH ROW
+    WHEN (OLD.project_id IS DISTINCT FROM NEW.project_id)
+    EXECUTE FUNCTION tasks_move_logged_hours();
+
+CREATE TRIGGER trg_tasks_logged_hours_delete
+    AFTER DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_move_logged_hours();
+
+-- Backfill
+UPDATE tasks t
+SET logged_hours = s.hours
+FROM (SELECT task_id, SUM(hours) AS hours FROM time_entries WHERE task_id IS NOT NULL GROUP BY task_id) s
+WHERE s.task_id = t.id;
+
+UPDATE projects p
+SET logged_hours = s.hours
+FROM (SELECT project_id, SUM(logged_hours) AS hours FROM tasks GROUP BY project_id) s
+WHERE s.project_id = p.id;
@@ -0,0 +1,103 @@
+-- Hours logged per task and day, maintained incrementally from time_entries for the burn-down reports
+CREATE TABLE task_daily_hours (
+    task_id BIGINT NOT NULL,
+    work_day DATE NOT NULL,
+    hours DECIMAL(12,2) NOT NULL DEFAULT 0,
+    entry_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (task_id, work_day),
+    FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE
+);
+
+-- Apply the net deltas of one statement, in (task_id, work_day) order so that concurrent multi-row
+-- writers lock the rows in the same order; rows that drop to zero entries are removed. A negative
+-- delta only applies to an existing row: when the task itself is being deleted, its rows are already
+-- gone and must not be recreated.
+CREATE OR REPLACE FUNCTION apply_task_daily_hours(
+    p_task_ids BIGINT[],
+    p_work_days DATE[],
+    p_hours DECIMAL[],
+    p_entry_counts INTEGER[]
+) RETURNS VOID AS $$
+BEGIN
+    IF p_task_ids IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO task_daily_hours (task_id, work_day, hours, entry_count)
+    SELECT d.task_id, d.work_day, d.hours, d.entry_count
+      FROM unnest(p_task_ids, p_work_days, p_hours, p_entry_counts) AS d(task_id, work_day, hours, entry_count)
+     WHERE d.entry_count > 0
+        OR EXISTS (SELECT 1 FROM task_daily_hours h WHERE h.task_id = d.task_id AND h.work_day = d.work_day)
+     ORDER BY d.task_id, d.work_day
+    ON CONFLICT (task_id, work_day) DO UPDATE
+        SET hours = task_daily_hours.hours + EXCLUDED.hours,
+            entry_count = task_daily_hours.entry_count + EXCLUDED.entry_count;
+
+    DELETE FROM task_daily_hours h
+     USING unnest(p_task_ids, p_work_days) AS d(task_id, work_day)
+     WHERE h.task_id = d.task_id
+       AND h.work_day = d.work_day
+       AND h.entry_count <= 0;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Net hours and entries per task and day of the whole statement, read from its transition tables
+CREATE OR REPLACE FUNCTION time_entries_maintain_task_daily_hours() RETURNS TRIGGER AS $$
+DECLARE
+    v_task_ids BIGINT[];
+    v_work_days DATE[];
+    v_hours DECIMAL[];
+    v_entry_counts INTEGER[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT array_agg(task_id), array_agg(work_day), array_agg(hours), array_agg(entry_count)
+          INTO v_task_ids, v_work_days, v_hours, v_entry_counts
+          FROM (SELECT task_id, work_day, SUM(hours) AS hours, COUNT(*) AS entry_count
+                  FROM new_entries
+                 WHERE task_id IS NOT NULL
+                 GROUP BY task_id, work_day) d;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT array_agg(task_id), array_agg(work_day), array_agg(hours), array_agg(entry_count)
+          INTO v_task_ids, v_work_days, v_hours, v_entry_counts
+          FROM (SELECT task_id, work_day, -SUM(hours) AS hours, -COUNT(*) AS entry_count
+                  FROM old_entries
+                 WHERE task_id IS NOT NULL
+                 GROUP BY task_id, work_day) d;
+    ELSE
+        SELECT array_agg(task_id), array_agg(work_day), array_agg(hours), array_agg(entry_count)
+          INTO v_task_ids, v_work_days, v_hours, v_entry_counts
+          FROM (SELECT task_id, work_day, SUM(hours) AS hours, SUM(entry_count) AS entry_count
+                  FROM (SELECT task_id, work_day, hours, 1 AS entry_count FROM new_entries
+                        UNION ALL
+                        SELECT task_id, work_day, -hours, -1 FROM old_entries) c
+                 WHERE task_id IS NOT NULL
+                 GROUP BY task_id, work_day
+                HAVING SUM(hours) <> 0 OR SUM(entry_count) <> 0) d;
+    END IF;
+    PERFORM apply_task_daily_hours(v_task_ids, v_work_days, v_hours, v_entry_counts);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One trigger per event, as transition tables require (see V12)
+CREATE TRIGGER trg_time_entries_task_daily_hours_insert
+    AFTER INSERT ON time_entries
+    REFERENCING NEW TABLE AS new_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_maintain_task_daily_hours();
+
+CREATE TRIGGER trg_time_entries_task_daily_hours_update
+    AFTER UPDATE ON time_entries
+    REFERENCING OLD TABLE AS old_entries NEW TABLE AS new_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_maintain_task_daily_hours();
+
+CREATE TRIGGER trg_time_entries_task_daily_hours_delete
+    AFTER DELETE ON time_entries
+    REFERENCING OLD TABLE AS old_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_maintain_task_daily_hours();
+
+-- Backfill from existing time entries
+INSERT INTO task_daily_hours (task_id, work_day, hours, entry_count)
+SELECT task_id, work_day, SUM(hours), COUNT(*)
+  FROM time_entries
+ WHERE task_id IS NOT NULL
+ GROUP BY task_id, work_day;
@@ -0,0 +1,67 @@
+-- Asynchronous report jobs. A completed, non-stale job is the cached result for its parameters and is
+-- handed out again to identical submissions until it expires or a change inside its range marks it stale
+CREATE TABLE report_jobs (
+    id UUID PRIMARY KEY,
+    kind VARCHAR(30) NOT NULL,
+    params_key VARCHAR(300) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    employee_id BIGINT,
+    department VARCHAR(100),
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    stale BOOLEAN NOT NULL DEFAULT FALSE,
+    submitted_by VARCHAR(255) NOT NULL,
+    error VARCHAR(1000),
+    result BYTEA,
+    result_bytes BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    CONSTRAINT chk_report_jobs_status CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    CONSTRAINT chk_report_jobs_range CHECK (end_date >= start_date)
+);
+
+CREATE INDEX idx_report_jobs_params_key ON report_jobs(params_key, created_at DESC)
+    WHERE NOT stale AND status <> 'FAILED';
+CREATE INDEX idx_report_jobs_active_submitter ON report_jobs(submitted_by)
+    WHERE status IN ('QUEUED', 'RUNNING');
+CREATE INDEX idx_report_jobs_created_at ON report_jobs(created_at);
+
+-- Updates also carry the previous values of the changed columns, so consumers can tell which days an
+-- entry or request moved away from
+CREATE OR REPLACE FUNCTION enqueue_outbox_event() RETURNS TRIGGER AS $$
+DECLARE
+    v_event_type VARCHAR(50);
+    v_payload JSONB;
+    v_previous JSONB;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        v_event_type := 'CREATED';
+        v_payload := to_jsonb(NEW);
+    ELSIF TG_OP = 'DELETE' THEN
+        v_event_type := 'DELETED';
+        v_payload := to_jsonb(OLD);
+    ELSE
+        v_payload := to_jsonb(NEW);
+        IF v_payload - 'version' - 'updated_at' = to_jsonb(OLD) - 'version' - 'updated_at' THEN
+            RETURN NULL;
+        END IF;
+        SELECT jsonb_object_agg(o.key, o.value)
+          INTO v_previous
+          FROM jsonb_each(to_jsonb(OLD)) o
+         WHERE o.key NOT IN ('version', 'updated_at')
+           AND o.value IS DISTINCT FROM v_payload -> o.key;
+        v_payload := v_payload || jsonb_build_object('previous', v_previous);
+        IF OLD.status IS DISTINCT FROM NEW.status THEN
+            v_event_type := 'STATUS_CHANGED';
+            v_payload := v_payload || jsonb_build_object('previous_status', OLD.status);
+        ELSE
+            v_event_type := 'UPDATED';
+        END IF;
+    END IF;
+
+    INSERT INTO event_outbox (aggregate_type, aggregate_id, event_type, payload)
+    VALUES (TG_ARGV[0], COALESCE(NEW.id, OLD.id), v_event_type, v_payload);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
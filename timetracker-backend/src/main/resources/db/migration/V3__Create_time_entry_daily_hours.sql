@@ -0,0 +1,180 @@
+-- Create daily hours rollup table, maintained incrementally from time_entries
+CREATE TABLE time_entry_daily_hours (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    work_day DATE NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    project_id BIGINT,
+    hours DECIMAL(12,2) NOT NULL DEFAULT 0,
+    entry_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX uq_time_entry_daily_hours_key
+    ON time_entry_daily_hours (employee_id, work_day, type, status, (COALESCE(project_id, 0)));
+CREATE INDEX idx_time_entry_daily_hours_work_day ON time_entry_daily_hours (work_day, employee_id);
+
+-- Apply the net deltas of one statement to the rollup buckets, in key order so that concurrent
+-- multi-row writers lock the buckets in the same order; buckets that drop to zero entries are removed.
+-- A negative delta only applies to an existing bucket and never creates one.
+CREATE OR REPLACE FUNCTION apply_time_entry_daily_hours(
+    p_employee_ids BIGINT[],
+    p_work_days DATE[],
+    p_types VARCHAR[],
+    p_statuses VARCHAR[],
+    p_project_ids BIGINT[],
+    p_hours DECIMAL[],
+    p_entry_counts INTEGER[]
+) RETURNS VOID AS $$
+BEGIN
+    IF p_employee_ids IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO time_entry_daily_hours (employee_id, work_day, type, status, project_id, hours, entry_count)
+    SELECT d.employee_id, d.work_day, d.type, d.status, d.project_id, d.hours, d.entry_count
+      FROM unnest(p_employee_ids, p_work_days, p_types, p_statuses, p_project_ids, p_hours, p_entry_counts)
+           AS d(employee_id, work_day, type, status, project_id, hours, entry_count)
+     WHERE d.entry_count > 0
+        OR EXISTS (SELECT 1 FROM time_entry_daily_hours h
+                    WHERE h.employee_id = d.employee_id
+                      AND h.work_day = d.work_day
+                      AND h.type = d.type
+                      AND h.status = d.status
+                      AND COALESCE(h.project_id, 0) = COALESCE(d.project_id, 0))
+     ORDER BY d.employee_id, d.work_day, d.type, d.status, COALESCE(d.project_id, 0)
+    ON CONFLICT (employee_id, work_day, type, status, (COALESCE(project_id, 0))) DO UPDATE
+        SET hours = time_entry_daily_hours.hours + EXCLUDED.hours,
+            entry_count = time_entry_daily_hours.entry_count + EXCLUDED.entry_count,
+            updated_at = CURRENT_TIMESTAMP;
+
+    DELETE FROM time_entry_daily_hours h
+     USING unnest(p_employee_ids, p_work_days, p_types, p_statuses, p_project_ids)
+           AS d(employee_id, work_day, type, status, project_id)
+     WHERE h.employee_id = d.employee_id
+       AND h.work_day = d.work_day
+       AND h.type = d.type
+       AND h.status = d.status
+       AND COALESCE(h.project_id, 0) = COALESCE(d.project_id, 0)
+       AND h.entry_count <= 0;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Net hours and entries per bucket of the whole statement, read from its transition tables
+CREATE OR REPLACE FUNCTION time_entries_maintain_daily_hours() RETURNS TRIGGER AS $$
+DECLARE
+    v_employee_ids BIGINT[];
+    v_work_days DATE[];
+    v_types VARCHAR[];
+    v_statuses VARCHAR[];
+    v_project_ids BIGINT[];
+    v_hours DECIMAL[];
+    v_entry_counts INTEGER[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT array_agg(employee_id), array_agg(work_day), array_agg(type), array_agg(status),
+               array_agg(project_id), array_agg(hours), array_agg(entry_count)
+          INTO v_employee_ids, v_work_days, v_types, v_statuses, v_project_ids, v_hours, v_entry_counts
+          FROM (SELECT te.employee_id, te.entry_date::date AS work_day, te.type, te.status, t.project_id,
+                       SUM(te.hours) AS hours, COUNT(*) AS entry_count
+                  FROM new_entries te
+                  LEFT JOIN tasks t ON t.id = te.task_id
+                 GROUP BY 1, 2, 3, 4, 5) d;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT array_agg(employee_id), array_agg(work_day), array_agg(type), array_agg(status),
+               array_agg(project_id), array_agg(hours), array_agg(entry_count)
+          INTO v_employee_ids, v_work_days, v_types, v_statuses, v_project_ids, v_hours, v_entry_counts
+          FROM (SELECT te.employee_id, te.entry_date::date AS work_day, te.type, te.status, t.project_id,
+                       -SUM(te.hours) AS hours, -COUNT(*) AS entry_count
+                  FROM old_entries te
+                  LEFT JOIN tasks t ON t.id = te.task_id
+                 GROUP BY 1, 2, 3, 4, 5) d;
+    ELSE
+        SELECT array_agg(employee_id), array_agg(work_day), array_agg(type), array_agg(status),
+               array_agg(project_id), array_agg(hours), array_agg(entry_count)
+          INTO v_employee_ids, v_work_days, v_types, v_statuses, v_project_ids, v_hours, v_entry_counts
+          FROM (SELECT c.employee_id, c.work_day, c.type, c.status, t.project_id,
+                       SUM(c.hours) AS hours, SUM(c.entry_count) AS entry_count
+                  FROM (SELECT employee_id, entry_date::date AS work_day, type, status, task_id, hours,
+                               1 AS entry_count
+                          FROM new_entries
+                        UNION ALL
+                        SELECT employee_id, entry_date::date, type, status, task_id, -hours, -1
+                          FROM old_entries) c
+                  LEFT JOIN tasks t ON t.id = c.task_id
+                 GROUP BY 1, 2, 3, 4, 5
+                HAVING SUM(c.hours) <> 0 OR SUM(c.entry_count) <> 0) d;
+    END IF;
+    PERFORM apply_time_entry_daily_hours(v_employee_ids, v_work_days, v_types, v_statuses, v_project_ids,
+                                         v_hours, v_entry_counts);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables allow neither several events nor a column list per trigger
+CREATE TRIGGER trg_time_entries_daily_hours_insert
+    AFTER INSERT ON time_entries
+    REFERENCING NEW TABLE AS new_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_maintain_daily_hours();
+
+CREATE TRIGGER trg_time_entries_daily_hours_update
+    AFTER UPDATE ON time_entries
+    REFERENCING OLD TABLE AS old_entries NEW TABLE AS new_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_maintain_daily_hours();
+
+CREATE TRIGGER trg_time_entries_daily_hours_delete
+    AFTER DELETE ON time_entries
+    REFERENCING OLD TABLE AS old_entries
+    FOR EACH STATEMENT EXECUTE FUNCTION time_entries_maintain_daily_hours();
+
+-- The rollup keeps the project of each entry's task. A task moved to another project takes the hours
+-- of its entries along; a deleted task leaves them without a project before the foreign key action
+-- clears task_id on its entries, whose own update then nets to zero.
+CREATE OR REPLACE FUNCTION tasks_move_daily_hours() RETURNS TRIGGER AS $$
+DECLARE
+    v_new_project_id BIGINT;
+    v_employee_ids BIGINT[];
+    v_work_days DATE[];
+    v_types VARCHAR[];
+    v_statuses VARCHAR[];
+    v_project_ids BIGINT[];
+    v_hours DECIMAL[];
+    v_entry_counts INTEGER[];
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        v_new_project_id := NEW.project_id;
+    END IF;
+
+    SELECT array_agg(employee_id), array_agg(work_day), array_agg(type), array_agg(status),
+           array_agg(project_id), array_agg(hours), array_agg(entry_count)
+      INTO v_employee_ids, v_work_days, v_types, v_statuses, v_project_ids, v_hours, v_entry_counts
+      FROM (SELECT te.employee_id, te.entry_date::date AS work_day, te.type, te.status, p.project_id,
+                   SUM(te.hours * p.sign) AS hours, SUM(p.sign) AS entry_count
+              FROM time_entries te
+             CROSS JOIN (VALUES (OLD.project_id, -1), (v_new_project_id, 1)) AS p(project_id, sign)
+             WHERE te.task_id = OLD.id
+             GROUP BY 1, 2, 3, 4, 5) d;
+    PERFORM apply_time_entry_daily_hours(v_employee_ids, v_work_days, v_types, v_statuses, v_project_ids,
+                                         v_hours, v_entry_counts);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_daily_hours_move
+    AFTER UPDATE OF project_id ON tasks
+    FOR EACH ROW
+    WHEN (OLD.project_id IS DISTINCT FROM NEW.project_id)
+    EXECUTE FUNCTION tasks_move_daily_hours();
+
+CREATE TRIGGER trg_tasks_daily_hours_delete
+    BEFORE DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_move_daily_hours();
+
+-- Backfill from existing time entries
+INSERT INTO time_entry_daily_hours (employee_id, work_day, type, status, project_id, hours, entry_count)
+SELECT te.employee_id, te.entry_date::date, te.type, te.status, t.project_id, SUM(te.hours), COUNT(*)
+  FROM time_entries te
+  LEFT JOIN tasks t ON t.id = te.task_id
+ GROUP BY te.employee_id, te.entry_date::date, te.type, te.status, t.project_id;
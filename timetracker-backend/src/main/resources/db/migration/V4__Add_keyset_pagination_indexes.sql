@@ -0,0 +1,6 @@
+-- Composite indexes matching the keyset (seek) ordering of the manager listings
+CREATE INDEX idx_time_entries_entry_date_id ON time_entries(entry_date DESC, id DESC);
+CREATE INDEX idx_time_entries_employee_entry_date_id ON time_entries(employee_id, entry_date DESC, id DESC);
+
+CREATE INDEX idx_vacation_requests_start_date_id ON vacation_requests(start_date DESC, id DESC);
+CREATE INDEX idx_vacation_requests_employee_start_date_id ON vacation_requests(employee_id, start_date DESC, id DESC);
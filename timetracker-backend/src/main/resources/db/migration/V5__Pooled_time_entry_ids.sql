@@ -0,0 +1,2 @@
+-- Let Hibernate allocate time entry ids in blocks of 50 (pooled optimizer) so inserts can be JDBC-batched
+ALTER SEQUENCE time_entries_id_seq INCREMENT BY 50;
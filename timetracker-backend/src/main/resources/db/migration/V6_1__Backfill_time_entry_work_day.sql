@@ -0,0 +1,20 @@
+-- Runs outside a transaction (see the .conf file): each batch commits on its own, so row locks and
+-- dead tuples stay bounded, and the index is built without blocking writes
+DO $$
+DECLARE
+    v_from BIGINT;
+    v_max BIGINT;
+BEGIN
+    SELECT MIN(id), MAX(id) INTO v_from, v_max FROM time_entries;
+    WHILE v_from <= v_max LOOP
+        UPDATE time_entries
+           SET work_day = CAST(entry_date AS DATE)
+         WHERE id >= v_from
+           AND id < v_from + 10000
+           AND work_day IS NULL;
+        v_from := v_from + 10000;
+        COMMIT;
+    END LOOP;
+END $$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_time_entries_employee_work_day ON time_entries(employee_id, work_day);
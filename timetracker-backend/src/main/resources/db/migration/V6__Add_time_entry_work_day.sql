@@ -0,0 +1,18 @@
+-- Calendar day of each time entry as its own column, so per-day lookups can seek an index
+-- instead of evaluating DATE(entry_date) for every row of an employee.
+-- A nullable column without default only touches the catalog; a stored generated column would
+-- rewrite the table under ACCESS EXCLUSIVE. The trigger fills the day of every row written from
+-- now on; V6_1 backfills the existing rows in batches and builds the index concurrently. The rollup
+-- triggers (V3) derive the day from entry_date, so the backfill updates leave the rollup as it is.
+ALTER TABLE time_entries ADD COLUMN work_day DATE;
+
+CREATE OR REPLACE FUNCTION time_entries_set_work_day() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.work_day := CAST(NEW.entry_date AS DATE);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_time_entries_work_day
+    BEFORE INSERT OR UPDATE ON time_entries
+    FOR EACH ROW EXECUTE FUNCTION time_entries_set_work_day();
@@ -0,0 +1,40 @@
+-- Runs outside a transaction (see the .conf file), so the indexes of the two busiest tables are built
+-- and dropped without blocking writes. Replacements are built before the indexes they supersede go.
+
+-- time_entries
+-- findByEmployeeIdAndTypeAndEntryDateBetween, sumHoursByEmployeeIdAndTypeAndEntryDateBetween
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_time_entries_employee_type_entry_date
+    ON time_entries(employee_id, type, entry_date) INCLUDE (hours);
+-- findByEmployeeIdAndStatusOrderByEntryDateDesc, countByEmployeeIdAndStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_time_entries_employee_status_entry_date
+    ON time_entries(employee_id, status, entry_date DESC);
+-- findPendingTimeEntries, countByStatus(PENDING)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_time_entries_pending ON time_entries(entry_date DESC) WHERE status = 'PENDING';
+-- sumHoursByTaskId, sumHoursByProjectId, getTotalLoggedHours (and the task foreign key)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_time_entries_task_hours ON time_entries(task_id) INCLUDE (hours);
+-- Range rebuilds of the daily rollups (TimeEntryDailyHoursRepository, TaskDailyHoursRepository)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_time_entries_work_day ON time_entries(work_day);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_time_entries_employee_id;   -- prefix of idx_time_entries_employee_entry_date_id
+DROP INDEX CONCURRENTLY IF EXISTS idx_time_entries_entry_date;    -- prefix of idx_time_entries_entry_date_id
+DROP INDEX CONCURRENTLY IF EXISTS idx_time_entries_type;          -- two values, never selective
+DROP INDEX CONCURRENTLY IF EXISTS idx_time_entries_status;        -- replaced by the pending partial index
+DROP INDEX CONCURRENTLY IF EXISTS idx_time_entries_task_id;       -- replaced by idx_time_entries_task_hours
+
+-- vacation_requests
+-- findByEmployeeIdAndStatusOrderByStartDateDesc, countByEmployeeIdAndStatus, findApprovedVacationsByEmployeeIdAndYear
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vacation_requests_employee_status_start_date
+    ON vacation_requests(employee_id, status, start_date DESC);
+-- findPendingRequestsOrderByCreatedAt, countByStatus(PENDING)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vacation_requests_pending_created_at
+    ON vacation_requests(created_at) WHERE status = 'PENDING';
+-- findExpiredPendingRequests
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vacation_requests_pending_start_date
+    ON vacation_requests(start_date) WHERE status = 'PENDING';
+-- findSkippedApprovals
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vacation_requests_skipped_created_at
+    ON vacation_requests(created_at DESC) WHERE approval_skipped = true;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_vacation_requests_employee_id;   -- prefix of idx_vacation_requests_employee_start_date_id
+DROP INDEX CONCURRENTLY IF EXISTS idx_vacation_requests_start_date;    -- prefix of idx_vacation_requests_start_date_id
+DROP INDEX CONCURRENTLY IF EXISTS idx_vacation_requests_status;        -- replaced by the partial indexes above
@@ -0,0 +1,16 @@
+-- Indexes shaped after the repository queries; single-column indexes that duplicate a unique
+-- constraint, are a prefix of a composite index or cannot narrow a scan are dropped
+
+-- employees: keycloak_id and email are already indexed by their UNIQUE constraints
+DROP INDEX IF EXISTS idx_employees_keycloak_id;
+DROP INDEX IF EXISTS idx_employees_email;
+DROP INDEX IF EXISTS idx_employees_status;
+CREATE INDEX idx_employees_active_name ON employees(last_name, first_name) WHERE status = 'ACTIVE';
+
+-- projects: code is covered by its UNIQUE constraint
+DROP INDEX IF EXISTS idx_projects_code;
+
+-- tasks: project_id is the leading column of unique_project_task_code
+DROP INDEX IF EXISTS idx_tasks_project_id;
+
+-- time_entries and vacation_requests: V7_1, built concurrently
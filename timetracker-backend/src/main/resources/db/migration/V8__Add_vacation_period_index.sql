@@ -0,0 +1,10 @@
+-- Interval index for vacation overlap searches. Queries use the same expression through the
+-- date_ranges_overlap / date_range_contains HQL functions (DateRangeFunctionContributor).
+-- check_vacation_dates (V1) keeps every range non-empty
+CREATE INDEX idx_vacation_requests_period ON vacation_requests USING gist (daterange(start_date, end_date, '[]'));
+
+-- Superseded by the interval index
+DROP INDEX IF EXISTS idx_vacation_requests_end_date;
+
+-- Department calendars
+CREATE INDEX idx_employees_department ON employees(department);
@@ -0,0 +1,146 @@
+-- Vacation balances per employee, year and type, maintained from an append-only ledger.
+-- A request counts towards the year of its start date, as in the existing repository queries.
+CREATE TABLE vacation_balance_ledger (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    balance_year INTEGER NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    vacation_request_id BIGINT,              -- no foreign key: entries outlive deleted requests
+    used_days_delta INTEGER NOT NULL DEFAULT 0,
+    pending_days_delta INTEGER NOT NULL DEFAULT 0,
+    reason VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_vacation_balance_ledger_balance ON vacation_balance_ledger(employee_id, balance_year, type);
+CREATE INDEX idx_vacation_balance_ledger_request ON vacation_balance_ledger(vacation_request_id);
+
+-- Running totals of the ledger; version is bumped on every posting
+CREATE TABLE vacation_balances (
+    employee_id BIGINT NOT NULL,
+    balance_year INTEGER NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    used_days INTEGER NOT NULL DEFAULT 0,
+    pending_days INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (employee_id, balance_year, type),
+    FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+-- Ledger rows are never rewritten; deletes are only allowed when cascading from employees
+CREATE OR REPLACE FUNCTION vacation_balance_ledger_append_only() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' OR pg_trigger_depth() = 1 THEN
+        RAISE EXCEPTION 'vacation_balance_ledger is append-only';
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vacation_balance_ledger_append_only
+    BEFORE UPDATE OR DELETE ON vacation_balance_ledger
+    FOR EACH ROW EXECUTE FUNCTION vacation_balance_ledger_append_only();
+
+-- Append one ledger entry and apply it to the running total in the same statement
+CREATE OR REPLACE FUNCTION post_vacation_balance(
+    p_employee_id BIGINT,
+    p_balance_year INTEGER,
+    p_type VARCHAR,
+    p_vacation_request_id BIGINT,
+    p_used_days_delta INTEGER,
+    p_pending_days_delta INTEGER,
+    p_reason VARCHAR
+) RETURNS VOID AS $$
+BEGIN
+    IF p_used_days_delta = 0 AND p_pending_days_delta = 0 THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO vacation_balance_ledger (employee_id, balance_year, type, vacation_request_id,
+                                         used_days_delta, pending_days_delta, reason)
+    VALUES (p_employee_id, p_balance_year, p_type, p_vacation_request_id,
+            p_used_days_delta, p_pending_days_delta, p_reason);
+
+    INSERT INTO vacation_balances (employee_id, balance_year, type, used_days, pending_days, version)
+    VALUES (p_employee_id, p_balance_year, p_type, p_used_days_delta, p_pending_days_delta, 1)
+    ON CONFLICT (employee_id, balance_year, type) DO UPDATE
+        SET used_days = vacation_balances.used_days + EXCLUDED.used_days,
+            pending_days = vacation_balances.pending_days + EXCLUDED.pending_days,
+            version = vacation_balances.version + 1,
+            updated_at = CURRENT_TIMESTAMP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Approved requests count as used days, pending requests as pending days
+CREATE OR REPLACE FUNCTION vacation_requests_post_balance() RETURNS TRIGGER AS $$
+DECLARE
+    v_old_used INTEGER := 0;
+    v_old_pending INTEGER := 0;
+    v_new_used INTEGER := 0;
+    v_new_pending INTEGER := 0;
+BEGIN
+    -- Requests removed by an employee delete take their balances with them
+    IF TG_OP = 'DELETE' AND NOT EXISTS (SELECT 1 FROM employees WHERE id = OLD.employee_id) THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF OLD.status = 'APPROVED' THEN
+            v_old_used := OLD.end_date - OLD.start_date + 1;
+        ELSIF OLD.status = 'PENDING' THEN
+            v_old_pending := OLD.end_date - OLD.start_date + 1;
+        END IF;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NEW.status = 'APPROVED' THEN
+            v_new_used := NEW.end_date - NEW.start_date + 1;
+        ELSIF NEW.status = 'PENDING' THEN
+            v_new_pending := NEW.end_date - NEW.start_date + 1;
+        END IF;
+    END IF;
+
+    IF TG_OP = 'UPDATE'
+       AND OLD.employee_id = NEW.employee_id
+       AND EXTRACT(YEAR FROM OLD.start_date) = EXTRACT(YEAR FROM NEW.start_date)
+       AND OLD.type = NEW.type THEN
+        PERFORM post_vacation_balance(NEW.employee_id, EXTRACT(YEAR FROM NEW.start_date)::INTEGER, NEW.type,
+                                      NEW.id, v_new_used - v_old_used, v_new_pending - v_old_pending,
+                                      'REQUEST_' || TG_OP);
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM post_vacation_balance(OLD.employee_id, EXTRACT(YEAR FROM OLD.start_date)::INTEGER, OLD.type,
+                                      OLD.id, -v_old_used, -v_old_pending, 'REQUEST_' || TG_OP);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM post_vacation_balance(NEW.employee_id, EXTRACT(YEAR FROM NEW.start_date)::INTEGER, NEW.type,
+                                      NEW.id, v_new_used, v_new_pending, 'REQUEST_' || TG_OP);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vacation_requests_balance
+    AFTER INSERT OR UPDATE OR DELETE ON vacation_requests
+    FOR EACH ROW EXECUTE FUNCTION vacation_requests_post_balance();
+
+-- Opening entries for existing requests
+INSERT INTO vacation_balance_ledger (employee_id, balance_year, type, vacation_request_id,
+                                     used_days_delta, pending_days_delta, reason)
+SELECT vr.employee_id, EXTRACT(YEAR FROM vr.start_date)::INTEGER, vr.type, vr.id,
+       CASE WHEN vr.status = 'APPROVED' THEN vr.end_date - vr.start_date + 1 ELSE 0 END,
+       CASE WHEN vr.status = 'PENDING' THEN vr.end_date - vr.start_date + 1 ELSE 0 END,
+       'OPENING'
+  FROM vacation_requests vr
+ WHERE vr.status IN ('APPROVED', 'PENDING');
+
+INSERT INTO vacation_balances (employee_id, balance_year, type, used_days, pending_days, version)
+SELECT employee_id, balance_year, type, SUM(used_days_delta), SUM(pending_days_delta), COUNT(*)
+  FROM vacation_balance_ledger
+ GROUP BY employee_id, balance_year, type;
@@ -0,0 +1,203 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.TimeEntryAnalyticsRow;
+import com.company.timetracker.entity.TimeEntryStatus;
+import com.company.timetracker.entity.TimeEntryType;
+import com.company.timetracker.service.TimeEntryAnalyticsIndex.Dimension;
+import com.company.timetracker.service.TimeEntryAnalyticsIndex.Filter;
+import com.company.timetracker.service.TimeEntryColumnStore.Group;
+import com.company.timetracker.service.TimeEntryColumnStore.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TimeEntryColumnStoreTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 11, 20);
+    private static final int DAYS = 60;
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final List<TimeEntryAnalyticsRow> rows = rows(new Random(42), 20_000);
+    private final TimeEntryColumnStore store = build(rows);
+
+    @Test
+    void aggregatesLikeABruteForceScan() {
+        Filter all = filter(null, null);
+        assertMatchesBruteForce(all, List.of());
+        assertMatchesBruteForce(all, List.of(Dimension.DEPARTMENT));
+        assertMatchesBruteForce(all, List.of(Dimension.PROJECT, Dimension.STATUS));
+        assertMatchesBruteForce(all, List.of(Dimension.YEAR, Dimension.MONTH, Dimension.TYPE));
+        assertMatchesBruteForce(filter(FIRST_DAY.plusDays(10), FIRST_DAY.plusDays(40)),
+                List.of(Dimension.DAY, Dimension.EMPLOYEE));
+    }
+
+    @Test
+    void appliesEveryFilter() {
+        // The store probes the sets with null, which Set.of rejects
+        Filter filter = new Filter(FIRST_DAY.plusDays(5), FIRST_DAY.plusDays(50), Set.of(1L, 2L, 3L, 4L, 5L),
+                new HashSet<>(List.of("D1", "D2")), new HashSet<>(List.of(1L, 2L, 3L)), Set.of(TimeEntryType.TASK),
+                Set.of(TimeEntryStatus.APPROVED));
+        assertMatchesBruteForce(filter, List.of(Dimension.EMPLOYEE, Dimension.DAY));
+    }
+
+    @Test
+    void groupsAndFiltersRowsWithoutDepartmentOrProject() {
+        Set<String> departments = new HashSet<>(Arrays.asList(null, "D0"));
+        Set<Long> projects = new HashSet<>(Arrays.asList(null, 7L));
+        Filter filter = new Filter(null, null, null, departments, projects, null, null);
+
+        Result result = assertMatchesBruteForce(filter, List.of(Dimension.DEPARTMENT, Dimension.PROJECT));
+        assertThat(result.groups()).extracting(group -> Arrays.asList(group.key()))
+                .contains(Arrays.asList(null, null), Arrays.asList("D0", null), Arrays.asList(null, 7L));
+    }
+
+    @Test
+    void returnsNothingForEmptyRanges() {
+        Result reversed = store.aggregate(filter(FIRST_DAY.plusDays(10), FIRST_DAY.plusDays(9)),
+                List.of(Dimension.DAY), UNLIMITED);
+        Result before = store.aggregate(filter(FIRST_DAY.minusDays(30), FIRST_DAY.minusDays(1)),
+                List.of(Dimension.DAY), UNLIMITED);
+        Result after = store.aggregate(filter(FIRST_DAY.plusDays(DAYS), null), List.of(Dimension.DAY), UNLIMITED);
+        Result emptyStore = new TimeEntryColumnStore.Builder().build()
+                .aggregate(filter(null, null), List.of(Dimension.EMPLOYEE), UNLIMITED);
+
+        for (Result result : List.of(reversed, before, after, emptyStore)) {
+            assertThat(result.groups()).isEmpty();
+            assertThat(result.rowsScanned()).isZero();
+            assertThat(result.truncated()).isFalse();
+        }
+    }
+
+    @Test
+    void aggregatesSingleDayRanges() {
+        for (LocalDate day : List.of(FIRST_DAY, FIRST_DAY.plusDays(31), FIRST_DAY.plusDays(DAYS - 1))) {
+            Result result = assertMatchesBruteForce(filter(day, day), List.of(Dimension.DAY, Dimension.MONTH));
+            assertThat(result.groups()).singleElement()
+                    .satisfies(group -> assertThat(group.key()).containsExactly(day, YearMonth.from(day)));
+        }
+    }
+
+    @Test
+    void aggregatesSparseGroupingsThroughTheHashTable() {
+        // 200 employees x 101 projects x 60 days exceed the dense limit of 2^20 combinations
+        List<Dimension> groupBy = List.of(Dimension.EMPLOYEE, Dimension.PROJECT, Dimension.DAY);
+        assertThat((long) store.employeeCount() * store.projectCount() * DAYS).isGreaterThan(1 << 20);
+
+        Result result = assertMatchesBruteForce(filter(null, null), groupBy);
+        assertThat(result.groups()).hasSizeGreaterThan(1024);
+    }
+
+    @Test
+    void truncatesToTheFirstGroupsInKeyOrder() {
+        for (List<Dimension> groupBy : List.of(List.of(Dimension.EMPLOYEE, Dimension.DAY),
+                List.of(Dimension.EMPLOYEE, Dimension.PROJECT, Dimension.DAY))) {
+            List<Group> all = store.aggregate(filter(null, null), groupBy, UNLIMITED).groups();
+
+            Result truncated = store.aggregate(filter(null, null), groupBy, 100);
+            assertThat(truncated.truncated()).isTrue();
+            assertThat(keys(truncated.groups())).isEqualTo(keys(all.subList(0, 100)));
+
+            Result exact = store.aggregate(filter(null, null), groupBy, all.size());
+            assertThat(exact.truncated()).isFalse();
+            assertThat(exact.groups()).hasSameSizeAs(all);
+        }
+    }
+
+    private Result assertMatchesBruteForce(Filter filter, List<Dimension> groupBy) {
+        Result result = store.aggregate(filter, groupBy, UNLIMITED);
+
+        Map<List<Object>, double[]> expected = new LinkedHashMap<>();
+        int matching = 0;
+        for (TimeEntryAnalyticsRow row : rows) {
+            if (matches(filter, row)) {
+                matching++;
+                double[] sums = expected.computeIfAbsent(key(row, groupBy), key -> new double[2]);
+                sums[0] += row.getHours().floatValue();
+                sums[1] += row.getEntryCount();
+            }
+        }
+
+        assertThat(result.rowsScanned()).isEqualTo(matching);
+        assertThat(result.truncated()).isFalse();
+        assertThat(keys(result.groups())).containsExactlyInAnyOrderElementsOf(expected.keySet());
+        for (Group group : result.groups()) {
+            double[] sums = expected.get(Arrays.asList(group.key()));
+            assertThat(group.hours()).isCloseTo(sums[0], within(1e-6));
+            assertThat(group.entries()).isEqualTo((long) sums[1]);
+        }
+        return result;
+    }
+
+    private static boolean matches(Filter filter, TimeEntryAnalyticsRow row) {
+        return (filter.startDate() == null || !row.getWorkDay().isBefore(filter.startDate()))
+                && (filter.endDate() == null || !row.getWorkDay().isAfter(filter.endDate()))
+                && (filter.employeeIds() == null || filter.employeeIds().contains(row.getEmployeeId()))
+                && (filter.departments() == null || filter.departments().contains(row.getDepartment()))
+                && (filter.projectIds() == null || filter.projectIds().contains(row.getProjectId()))
+                && (filter.types() == null || filter.types().contains(row.getType()))
+                && (filter.statuses() == null || filter.statuses().contains(row.getStatus()));
+    }
+
+    private static List<Object> key(TimeEntryAnalyticsRow row, List<Dimension> groupBy) {
+        List<Object> key = new ArrayList<>();
+        for (Dimension dimension : groupBy) {
+            key.add(switch (dimension) {
+                case EMPLOYEE -> row.getEmployeeId();
+                case DEPARTMENT -> row.getDepartment();
+                case PROJECT -> row.getProjectId();
+                case TYPE -> row.getType();
+                case STATUS -> row.getStatus();
+                case DAY -> row.getWorkDay();
+                case MONTH -> YearMonth.from(row.getWorkDay());
+                case YEAR -> row.getWorkDay().getYear();
+            });
+        }
+        return key;
+    }
+
+    private static List<List<Object>> keys(List<Group> groups) {
+        return groups.stream().map(group -> Arrays.asList(group.key())).toList();
+    }
+
+    private static Filter filter(LocalDate startDate, LocalDate endDate) {
+        return new Filter(startDate, endDate, null, null, null, null, null);
+    }
+
+    // Every day has rows; one in ten rows has no department and one in ten no project
+    private static List<TimeEntryAnalyticsRow> rows(Random random, int count) {
+        List<TimeEntryAnalyticsRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate day = FIRST_DAY.plusDays((long) i * DAYS / count);
+            int department = random.nextInt(11);
+            int project = random.nextInt(101);
+            rows.add(new TimeEntryAnalyticsRow(
+                    1L + random.nextInt(200),
+                    department == 10 ? null : "D" + department,
+                    project == 100 ? null : 1L + project,
+                    day,
+                    TimeEntryType.values()[random.nextInt(TimeEntryType.values().length)],
+                    TimeEntryStatus.values()[random.nextInt(TimeEntryStatus.values().length)],
+                    random.nextInt(33) / 4.0,
+                    1 + random.nextInt(3)));
+        }
+        return rows;
+    }
+
+    private static TimeEntryColumnStore build(List<TimeEntryAnalyticsRow> rows) {
+        TimeEntryColumnStore.Builder builder = new TimeEntryColumnStore.Builder();
+        rows.forEach(builder::add);
+        return builder.build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.company.timetracker.service;
+
+import com.company.timetracker.dto.VacationInterval;
+import com.company.timetracker.entity.VacationType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VacationIntervalTreeTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final int DAYS = 365;
+
+    private final List<VacationInterval> intervals = intervals(new Random(7), 2_000);
+    private final VacationIntervalTree tree = VacationIntervalTree.of(intervals);
+
+    @Test
+    void visitsTheOverlappingIntervalsLikeABruteForceScan() {
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            LocalDate from = FIRST_DAY.plusDays(random.nextInt(DAYS + 20) - 10);
+            LocalDate to = from.plusDays(random.nextInt(40));
+            assertMatchesBruteForce(tree, intervals, from, to);
+        }
+    }
+
+    @Test
+    void visitsSingleDaysIncludingTheBoundaries() {
+        for (int day = -1; day <= DAYS + 30; day++) {
+            LocalDate date = FIRST_DAY.plusDays(day);
+            assertMatchesBruteForce(tree, intervals, date, date);
+        }
+        VacationInterval oneDay = interval(1L, FIRST_DAY, FIRST_DAY);
+        VacationIntervalTree single = VacationIntervalTree.of(List.of(oneDay));
+        assertThat(overlapping(single, FIRST_DAY, FIRST_DAY)).containsExactly(oneDay);
+        assertThat(overlapping(single, FIRST_DAY.minusDays(1), FIRST_DAY.minusDays(1))).isEmpty();
+        assertThat(overlapping(single, FIRST_DAY.plusDays(1), FIRST_DAY.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void visitsNothingForEmptyRangesAndEmptyTrees() {
+        assertThat(overlapping(tree, FIRST_DAY.plusDays(10), FIRST_DAY.plusDays(9))).isEmpty();
+        assertThat(overlapping(tree, FIRST_DAY.minusDays(100), FIRST_DAY.minusDays(1))).isEmpty();
+        assertThat(overlapping(VacationIntervalTree.EMPTY, FIRST_DAY, FIRST_DAY.plusDays(DAYS))).isEmpty();
+        assertThat(overlapping(VacationIntervalTree.of(List.of()), FIRST_DAY, FIRST_DAY.plusDays(DAYS))).isEmpty();
+    }
+
+    @Test
+    void replacesAndRemovesIntervalsWithoutChangingTheOriginal() {
+        VacationInterval moved = interval(intervals.get(0).getRequestId(), FIRST_DAY.plusDays(400),
+                FIRST_DAY.plusDays(402));
+        VacationInterval added = interval(10_000L, FIRST_DAY.plusDays(3), FIRST_DAY.plusDays(3));
+
+        List<VacationInterval> expected = new ArrayList<>(intervals.subList(1, intervals.size()));
+        expected.add(moved);
+        expected.add(added);
+        VacationIntervalTree updated = tree.with(moved).with(added);
+        assertThat(updated.size()).isEqualTo(intervals.size() + 1);
+        assertMatchesBruteForce(updated, expected, FIRST_DAY, FIRST_DAY.plusDays(DAYS + 60));
+
+        expected.remove(added);
+        VacationIntervalTree removed = updated.without(added.getRequestId());
+        assertMatchesBruteForce(removed, expected, FIRST_DAY, FIRST_DAY.plusDays(DAYS + 60));
+        assertThat(removed.without(added.getRequestId())).isSameAs(removed);
+
+        assertMatchesBruteForce(tree, intervals, FIRST_DAY, FIRST_DAY.plusDays(DAYS + 60));
+    }
+
+    private static void assertMatchesBruteForce(VacationIntervalTree tree, List<VacationInterval> intervals,
+                                                LocalDate from, LocalDate to) {
+        List<VacationInterval> expected = intervals.stream()
+                .filter(interval -> !interval.getStartDate().isAfter(to) && !interval.getEndDate().isBefore(from))
+                .sorted(Comparator.comparing(VacationInterval::getStartDate)
+                        .thenComparing(VacationInterval::getRequestId))
+                .toList();
+        assertThat(overlapping(tree, from, to)).as("%s to %s", from, to).containsExactlyElementsOf(expected);
+    }
+
+    private static List<VacationInterval> overlapping(VacationIntervalTree tree, LocalDate from, LocalDate to) {
+        List<VacationInterval> visited = new ArrayList<>();
+        tree.forEachOverlapping(from, to, visited::add);
+        return visited;
+    }
+
+    // Mostly short absences, some single days and a few spanning months; one in ten without a department
+    private static List<VacationInterval> intervals(Random random, int count) {
+        List<VacationInterval> intervals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(DAYS));
+            int length = random.nextInt(10) == 0 ? random.nextInt(90) : random.nextInt(10);
+            int department = random.nextInt(11);
+            intervals.add(new VacationInterval((long) i + 1, 1L + random.nextInt(300), "Employee " + i,
+                    department == 10 ? null : "D" + department, start, start.plusDays(length),
+                    VacationType.values()[random.nextInt(VacationType.values().length)]));
+        }
+        return intervals;
+    }
+
+    private static VacationInterval interval(Long requestId, LocalDate startDate, LocalDate endDate) {
+        return new VacationInterval(requestId, 1L, "Employee", null, startDate, endDate, VacationType.ANNUAL_LEAVE);
+    }
+}